@@ -22,6 +22,20 @@ public interface Page<T> {
 
     List<T> getContent();
 
+    /**
+     * @return the total number of items, or -1 when it is unknown because the {@link Pageable} did not request it,
+     * or requested it up to a limit that was exceeded.
+     */
     int getTotalItems();
 
+    /**
+     * @return true if there are items after the items of this page.
+     * As a page doesn't know its start index, the default implementation only knows there are no more items
+     * when the page holds the total items: it answers true when the total is unknown or exceeds the page content.
+     */
+    default boolean hasNext() {
+        int totalItems = getTotalItems();
+        return totalItems < 0 || getContent().size() < totalItems;
+    }
+
 }
@@ -21,13 +21,28 @@ public class Pageable {
     private int startIndex;
     private int maxItems;
     private Order order;
+    private String afterId;
+    private boolean totalItemsRequested;
+    private Integer totalItemsLimit;
 
     private Pageable(int startIndex,
                     int maxItems,
                     Order order) {
+        this(startIndex, maxItems, order, null, true, null);
+    }
+
+    private Pageable(int startIndex,
+                     int maxItems,
+                     Order order,
+                     String afterId,
+                     boolean totalItemsRequested,
+                     Integer totalItemsLimit) {
         this.startIndex = startIndex;
         this.maxItems = maxItems;
         this.order = order;
+        this.afterId = afterId;
+        this.totalItemsRequested = totalItemsRequested;
+        this.totalItemsLimit = totalItemsLimit;
     }
 
     public static Pageable of(int startIndex,
@@ -41,6 +56,35 @@ public class Pageable {
         return new Pageable(startIndex, maxItems, order);
     }
 
+    /**
+     * A page of the items that come after the item with the given id, in the order of their id.
+     * Fetching the next page this way costs the same for every page, unlike skipping the items of the previous pages.
+     */
+    public static Pageable after(String afterId,
+                                 int maxItems) {
+        return new Pageable(0, maxItems, null, afterId, true, null);
+    }
+
+    /**
+     * The same page, without counting the total number of items: the total items of the page are unknown,
+     * unless the page turns out to be the last one. Use {@link Page#hasNext()} to know whether there are more items.
+     */
+    public Pageable withoutTotalItems() {
+        return new Pageable(startIndex, maxItems, order, afterId, false, null);
+    }
+
+    /**
+     * The same page, counting the total number of items only up to the given limit: the total items of the page
+     * are unknown when there are more items than the limit. Counting stops at the limit, instead of visiting
+     * every matching item.
+     */
+    public Pageable withTotalItemsUpTo(int totalItemsLimit) {
+        if (totalItemsLimit < 0) {
+            throw new IllegalArgumentException("The total items limit must not be negative: " + totalItemsLimit);
+        }
+        return new Pageable(startIndex, maxItems, order, afterId, true, totalItemsLimit);
+    }
+
     public int getStartIndex() {
         return startIndex;
     }
@@ -53,4 +97,16 @@ public class Pageable {
         return order;
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public boolean isTotalItemsRequested() {
+        return totalItemsRequested;
+    }
+
+    public Integer getTotalItemsLimit() {
+        return totalItemsLimit;
+    }
+
 }
@@ -18,15 +18,29 @@ package org.activiti.application;
 
 import static java.util.Collections.emptyList;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class ApplicationContent {
+public class ApplicationContent implements AutoCloseable {
 
     private Map<String, List<FileContent>> entries = new HashMap<>();
 
+    private Closeable archive;
+
+    public ApplicationContent() {
+    }
+
+    /**
+     * @param archive the archive the file contents are read from, closed with this application content
+     */
+    public ApplicationContent(Closeable archive) {
+        this.archive = archive;
+    }
+
     public void add(ApplicationEntry entry) {
         List<FileContent> fileContents = entries.computeIfAbsent(entry.getType(),
                                                                  k -> new ArrayList<>());
@@ -37,4 +51,16 @@ public class ApplicationContent {
         return entries.getOrDefault(entryType, emptyList());
     }
 
+    @Override
+    public void close() {
+        if (archive != null) {
+            try {
+                archive.close();
+            } catch (IOException e) {
+                throw new ApplicationLoadException("Unable to close application archive",
+                                                  e);
+            }
+        }
+    }
+
 }
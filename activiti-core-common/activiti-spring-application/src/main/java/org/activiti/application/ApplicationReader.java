@@ -16,10 +16,14 @@
 
 package org.activiti.application;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import org.springframework.util.StreamUtils;
 
@@ -31,16 +35,41 @@ public class ApplicationReader {
         this.applicationEntryDiscoveries = applicationEntryDiscoveries;
     }
 
+    /**
+     * Reads the application archive from the file system. Only the central directory of the archive is read here,
+     * the content of the entries is read from the archive when it is used, until the application content is closed.
+     */
+    public ApplicationContent read(File file) {
+        ZipFile zipFile = openZipFile(file);
+        ApplicationContent application = new ApplicationContent(zipFile);
+        try {
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                findApplicationEntryDiscovery(zipEntry)
+                        .ifPresent(
+                                applicationEntryDiscovery ->
+                                        application.add(new ApplicationEntry(applicationEntryDiscovery.getEntryType(),
+                                                                             new FileContent(zipEntry.getName(),
+                                                                                             () -> zipFile.getInputStream(zipEntry)))));
+            }
+        } catch (RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    /**
+     * Reads the application archive from a stream, the content of the entries is held in memory.
+     */
     public ApplicationContent read(InputStream inputStream) {
         ApplicationContent application = new ApplicationContent();
         try (ZipInputStream zipInputStream = new ZipInputStream(inputStream)) {
             ZipEntry zipEntry;
             while ((zipEntry = zipInputStream.getNextEntry()) != null) {
                 ZipEntry currentEntry = zipEntry;
-                applicationEntryDiscoveries
-                        .stream()
-                        .filter(applicationEntryDiscovery -> applicationEntryDiscovery.filter(currentEntry).test(currentEntry))
-                        .findFirst()
+                findApplicationEntryDiscovery(currentEntry)
                         .ifPresent(
                                 applicationEntryDiscovery ->
                                         application.add(new ApplicationEntry(applicationEntryDiscovery.getEntryType(),
@@ -55,6 +84,22 @@ public class ApplicationReader {
         return application;
     }
 
+    private ZipFile openZipFile(File file) {
+        try {
+            return new ZipFile(file);
+        } catch (IOException e) {
+            throw new ApplicationLoadException("Unable to read zip file",
+                                              e);
+        }
+    }
+
+    private Optional<ApplicationEntryDiscovery> findApplicationEntryDiscovery(ZipEntry zipEntry) {
+        return applicationEntryDiscoveries
+                .stream()
+                .filter(applicationEntryDiscovery -> applicationEntryDiscovery.filter(zipEntry).test(zipEntry))
+                .findFirst();
+    }
+
     private byte[] readBytes(ZipInputStream zipInputStream) {
         try {
             return StreamUtils.copyToByteArray(zipInputStream);
@@ -37,14 +37,24 @@ public class ApplicationService {
     public List<ApplicationContent> loadApplications() {
         List<ApplicationContent> applications = new ArrayList<>();
         List<Resource> applicationResources = applicationDiscovery.discoverApplications();
+        boolean loaded = false;
         try {
             for (Resource applicationResource : applicationResources) {
-                try (InputStream inputStream = applicationResource.getInputStream()) {
-                    applications.add(applicationReader.read(inputStream));
+                if (applicationResource.isFile()) {
+                    applications.add(applicationReader.read(applicationResource.getFile()));
+                } else {
+                    try (InputStream inputStream = applicationResource.getInputStream()) {
+                        applications.add(applicationReader.read(inputStream));
+                    }
                 }
             }
+            loaded = true;
         } catch (IOException e) {
             throw new ApplicationLoadException("Unable to load application resource", e);
+        } finally {
+            if (!loaded) {
+                applications.forEach(ApplicationContent::close);
+            }
         }
         return applications;
     }
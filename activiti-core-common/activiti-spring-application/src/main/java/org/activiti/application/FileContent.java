@@ -16,24 +16,61 @@
 
 package org.activiti.application;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Content of an application entry, either held in memory or read on demand from its source,
+ * for example the entry of an application archive that is opened with random access.
+ */
 public class FileContent {
 
     private String name;
 
     private byte [] content;
 
+    private InputStreamSource contentSource;
+
     public FileContent(String name,
                        byte[] content) {
         this.name = name;
         this.content = content;
     }
 
+    public FileContent(String name,
+                       InputStreamSource contentSource) {
+        this.name = name;
+        this.contentSource = contentSource;
+    }
+
     public String getName() {
         return name;
     }
 
+    /**
+     * Returns the content, read from its source on every call when it is not held in memory.
+     */
     public byte[] getContent() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+        try (InputStream inputStream = contentSource.getInputStream()) {
+            return StreamUtils.copyToByteArray(inputStream);
+        } catch (IOException e) {
+            throw new ApplicationLoadException("Unable to read content of " + name,
+                                              e);
+        }
+    }
+
+    public InputStream getInputStream() throws IOException {
+        if (content != null) {
+            return new ByteArrayInputStream(content);
+        }
+        return contentSource.getInputStream();
     }
 
 }
@@ -35,10 +35,14 @@ public class ApplicationDeployer {
 
     public void deploy() {
         List<ApplicationContent> applications = applicationLoader.loadApplications();
-        for (ApplicationContent application : applications) {
-            for (ApplicationEntryDeployer deployer : deployers) {
-                deployer.deployEntries(application);
+        try {
+            for (ApplicationContent application : applications) {
+                for (ApplicationEntryDeployer deployer : deployers) {
+                    deployer.deployEntries(application);
+                }
             }
+        } finally {
+            applications.forEach(ApplicationContent::close);
         }
     }
 
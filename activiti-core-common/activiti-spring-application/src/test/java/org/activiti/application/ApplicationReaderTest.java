@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.application;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ApplicationReaderTest {
+
+    private ApplicationReader applicationReader = new ApplicationReader(singletonList(new ApplicationEntryDiscovery() {
+        @Override
+        public Predicate<ZipEntry> filter(ZipEntry entry) {
+            return zipEntry -> zipEntry.getName().startsWith("processes/") && !zipEntry.isDirectory();
+        }
+
+        @Override
+        public String getEntryType() {
+            return "processes";
+        }
+    }));
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void shouldReadEntriesOfArchiveFileOnDemand() throws Exception {
+        //given
+        File applicationFile = new File(tempDir, "application.zip");
+        try (OutputStream outputStream = new FileOutputStream(applicationFile)) {
+            writeApplication(outputStream);
+        }
+
+        //when
+        List<FileContent> processes;
+        try (ApplicationContent applicationContent = applicationReader.read(applicationFile)) {
+            processes = applicationContent.getFileContents("processes");
+
+            //then
+            assertThat(processes).extracting(FileContent::getName).containsExactly("processes/first.bpmn20.xml", "processes/second.bpmn20.xml");
+            assertThat(new String(processes.get(0).getContent(), StandardCharsets.UTF_8)).isEqualTo("first");
+            assertThat(new String(processes.get(1).getContent(), StandardCharsets.UTF_8)).isEqualTo("second");
+            assertThat(applicationContent.getFileContents("forms")).isEmpty();
+        }
+
+        Throwable thrown = catchThrowable(() -> processes.get(0).getContent());
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldReadEntriesOfArchiveStream() throws Exception {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeApplication(outputStream);
+
+        //when
+        ApplicationContent applicationContent = applicationReader.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        //then
+        assertThat(applicationContent.getFileContents("processes"))
+                .extracting(fileContent -> new String(fileContent.getContent(), StandardCharsets.UTF_8))
+                .containsExactly("first", "second");
+    }
+
+    private void writeApplication(OutputStream outputStream) throws IOException {
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("processes/"));
+            zipOutputStream.putNextEntry(new ZipEntry("processes/first.bpmn20.xml"));
+            zipOutputStream.write("first".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.putNextEntry(new ZipEntry("forms/form.json"));
+            zipOutputStream.write("{}".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.putNextEntry(new ZipEntry("processes/second.bpmn20.xml"));
+            zipOutputStream.write("second".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -26,11 +26,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.core.io.Resource;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class ApplicationServiceTest {
@@ -84,4 +86,29 @@ public class ApplicationServiceTest {
             .isInstanceOf(ApplicationLoadException.class)
             .hasCause(ioException);
     }
+
+    @Test
+    public void shouldCloseLoadedApplicationsWhenLoadingFails() throws Exception {
+        //given
+        Resource firstResource = mock(Resource.class);
+        InputStream firstInputStream = mock(InputStream.class);
+        given(firstResource.getInputStream()).willReturn(firstInputStream);
+        Resource secondResource = mock(Resource.class);
+        InputStream secondInputStream = mock(InputStream.class);
+        given(secondResource.getInputStream()).willReturn(secondInputStream);
+
+        given(applicationDiscovery.discoverApplications()).willReturn(asList(firstResource, secondResource));
+
+        ApplicationContent firstApplication = mock(ApplicationContent.class);
+        given(applicationReader.read(firstInputStream)).willReturn(firstApplication);
+        IllegalStateException failure = new IllegalStateException();
+        given(applicationReader.read(secondInputStream)).willThrow(failure);
+
+        //when
+        Throwable thrown = catchThrowable(() -> applicationService.loadApplications());
+
+        //then
+        assertThat(thrown).isSameAs(failure);
+        verify(firstApplication).close();
+    }
 }
@@ -63,5 +63,7 @@ public class ApplicationDeployerTest {
         verify(firstDeployer).deployEntries(secondApp);
         verify(secondDeployer).deployEntries(firstApp);
         verify(secondDeployer).deployEntries(secondApp);
+        verify(firstApp).close();
+        verify(secondApp).close();
     }
 }
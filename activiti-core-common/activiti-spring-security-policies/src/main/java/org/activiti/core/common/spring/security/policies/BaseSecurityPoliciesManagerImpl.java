@@ -5,9 +5,8 @@ import static java.util.Arrays.asList;
 import org.activiti.api.runtime.shared.security.SecurityManager;
 import org.activiti.core.common.spring.security.policies.conf.SecurityPoliciesProperties;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,10 +16,15 @@ public abstract class BaseSecurityPoliciesManagerImpl implements SecurityPolicie
 
     protected SecurityPoliciesProperties securityPoliciesProperties;
 
+    protected final SecurityPolicyDecisionCache decisionCache;
+
+    private volatile SecurityPoliciesIndex securityPoliciesIndex;
+
     public BaseSecurityPoliciesManagerImpl(SecurityManager securityManager,
                                            SecurityPoliciesProperties securityPoliciesProperties) {
         this.securityManager = securityManager;
         this.securityPoliciesProperties = securityPoliciesProperties;
+        this.decisionCache = new SecurityPolicyDecisionCache(securityPoliciesProperties.getDecisionCacheTimeToLive());
     }
 
     public boolean arePoliciesDefined() {
@@ -29,57 +33,35 @@ public abstract class BaseSecurityPoliciesManagerImpl implements SecurityPolicie
 
     @Override
     public Map<String, Set<String>> getAllowedKeys(SecurityPolicyAccess... securityPoliciesAccess) {
-
         String authenticatedUserId = securityManager.getAuthenticatedUserId();
-        List<SecurityPolicy> policies = securityPoliciesProperties.getPolicies();
-        Map<String, Set<String>> definitionKeysAllowedByPolicy = new HashMap<>();
-
-        List<String> groups = null;
-
-        if (authenticatedUserId != null) {
-            groups = securityManager.getAuthenticatedUserGroups();
+        if (authenticatedUserId == null) {
+            return getSecurityPoliciesIndex().getAllowedKeys(null, null, securityPoliciesAccess);
         }
-        for (SecurityPolicy ssp : policies) {
-            definitionKeysAllowedByPolicy.computeIfAbsent(ssp.getServiceName(),
-                                                          k -> new HashSet<>());
-
-            // I need to check that the user is listed in the user lists or that at least one of the user groups is in the group list
-            if (isUserInPolicy(ssp, authenticatedUserId) || isGroupInPolicy(ssp, groups)) {
 
-                // Here if securityPolicyAccess is READ, it should also include WRITES, if it is NONE nothing, and if it is WRITE only WRITE
-                List<SecurityPolicyAccess> securityPolicyAccesses = asList(securityPoliciesAccess);
-                if (securityPolicyAccesses.contains(SecurityPolicyAccess.WRITE)) {
-                    if (ssp.getAccess().equals(SecurityPolicyAccess.WRITE)) {
-                        definitionKeysAllowedByPolicy.get(ssp.getServiceName()).addAll(ssp.getKeys());
-                    }
-
-                } else if (securityPolicyAccesses.contains(SecurityPolicyAccess.READ)) {
-                    if (ssp.getAccess().equals(SecurityPolicyAccess.READ) || ssp.getAccess().equals(SecurityPolicyAccess.WRITE)) {
-                        definitionKeysAllowedByPolicy.get(ssp.getServiceName()).addAll(ssp.getKeys());
-                    }
-                }
-
-
-            }
-        }
-        return definitionKeysAllowedByPolicy;
+        // the groups of the user are only read when the decision is not cached yet
+        return decisionCache.get(asList(authenticatedUserId, asList(securityPoliciesAccess)),
+                                 () -> getSecurityPoliciesIndex().getAllowedKeys(authenticatedUserId,
+                                                                                 securityManager.getAuthenticatedUserGroups(),
+                                                                                 securityPoliciesAccess));
     }
 
-
-    private boolean isUserInPolicy(SecurityPolicy ssp, String userId) {
-        return (ssp.getUsers() != null && !ssp.getUsers().isEmpty() && ssp.getUsers().contains(userId));
+    /**
+     * The policies are indexed by user and group on first use, once the properties are bound.
+     */
+    protected SecurityPoliciesIndex getSecurityPoliciesIndex() {
+        SecurityPoliciesIndex index = securityPoliciesIndex;
+        if (index == null) {
+            index = new SecurityPoliciesIndex(securityPoliciesProperties.getPolicies());
+            securityPoliciesIndex = index;
+        }
+        return index;
     }
 
-    private boolean isGroupInPolicy(SecurityPolicy ssp, List<String> groups) {
-        if (ssp.getGroups() != null && groups != null) {
-            for (String g : ssp.getGroups()) {
-                if (groups.contains(g)) {
-                    return true;
-                }
-
-            }
-        }
-        return false;
+    /**
+     * Drops the cached decisions, for changes to the groups or roles of the users to apply immediately.
+     */
+    public void clearDecisionCache() {
+        decisionCache.clear();
     }
 
     @Override
@@ -107,6 +89,18 @@ public abstract class BaseSecurityPoliciesManagerImpl implements SecurityPolicie
             return true;
         }
 
+        String authenticatedUserId = securityManager.getAuthenticatedUserId();
+        if (authenticatedUserId == null) {
+            return isPermitted(processDefinitionKey, securityPolicyAccess, appName);
+        }
+
+        return decisionCache.get(asList(authenticatedUserId, securityPolicyAccess, appName, processDefinitionKey),
+                                 () -> isPermitted(processDefinitionKey, securityPolicyAccess, appName));
+    }
+
+    private boolean isPermitted(String processDefinitionKey,
+                                SecurityPolicyAccess securityPolicyAccess,
+                                String appName) {
         // If you are an admin you can see everything , @TODO: make it more flexible
         if (securityManager.getAuthenticatedUserRoles().contains("ACTIVITI_ADMIN")) {
             return true;
@@ -114,12 +108,10 @@ public abstract class BaseSecurityPoliciesManagerImpl implements SecurityPolicie
 
         Set<String> keys = new HashSet<>();
         Map<String, Set<String>> policiesMap = getAllowedKeys(securityPolicyAccess);
-        if (policiesMap.get(appName) != null) {
-            keys.addAll(policiesMap.get(appName));
-        }
+        keys.addAll(policiesMap.getOrDefault(appName, Collections.emptySet()));
         //also factor for case sensitivity and hyphens (which are stripped when specified through env var)
-        if (appName != null && policiesMap.get(appName.replaceAll("-", "").toLowerCase()) != null) {
-            keys.addAll(policiesMap.get(appName.replaceAll("-", "").toLowerCase()));
+        if (appName != null) {
+            keys.addAll(policiesMap.getOrDefault(appName.replace("-", "").toLowerCase(), Collections.emptySet()));
         }
 
         return anEntryInSetStartsKey(keys,
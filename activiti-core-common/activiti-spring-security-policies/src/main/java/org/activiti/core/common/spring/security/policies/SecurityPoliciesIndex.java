@@ -0,0 +1,92 @@
+package org.activiti.core.common.spring.security.policies;
+
+import static java.util.Arrays.asList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The security policies indexed by the users and groups they apply to, compiled once from the configured policies,
+ * so that the policies of a user are found without going through all policies.
+ */
+public class SecurityPoliciesIndex {
+
+    private final Set<String> serviceNames = new LinkedHashSet<>();
+
+    private final Map<String, List<SecurityPolicy>> policiesByUser = new HashMap<>();
+
+    private final Map<String, List<SecurityPolicy>> policiesByGroup = new HashMap<>();
+
+    public SecurityPoliciesIndex(List<SecurityPolicy> policies) {
+        for (SecurityPolicy policy : policies) {
+            serviceNames.add(policy.getServiceName());
+            if (policy.getUsers() != null) {
+                for (String user : policy.getUsers()) {
+                    policiesByUser.computeIfAbsent(user, k -> new ArrayList<>()).add(policy);
+                }
+            }
+            if (policy.getGroups() != null) {
+                for (String group : policy.getGroups()) {
+                    policiesByGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(policy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the keys allowed by the policies of the user and groups, by service name. Every service with a policy is
+     * part of the result, with an empty set when none of its policies applies.
+     *
+     * READ access is allowed by READ and WRITE policies, WRITE access only by WRITE policies.
+     */
+    public Map<String, Set<String>> getAllowedKeys(String userId,
+                                                   List<String> groups,
+                                                   SecurityPolicyAccess... securityPoliciesAccess) {
+        Map<String, Set<String>> allowedKeys = new HashMap<>();
+        for (String serviceName : serviceNames) {
+            allowedKeys.put(serviceName, new HashSet<>());
+        }
+
+        List<SecurityPolicyAccess> securityPolicyAccesses = asList(securityPoliciesAccess);
+        for (SecurityPolicy policy : findPolicies(userId, groups)) {
+            boolean allowed;
+            if (securityPolicyAccesses.contains(SecurityPolicyAccess.WRITE)) {
+                allowed = SecurityPolicyAccess.WRITE.equals(policy.getAccess());
+            } else if (securityPolicyAccesses.contains(SecurityPolicyAccess.READ)) {
+                allowed = SecurityPolicyAccess.READ.equals(policy.getAccess()) || SecurityPolicyAccess.WRITE.equals(policy.getAccess());
+            } else {
+                allowed = false;
+            }
+
+            if (allowed && policy.getKeys() != null) {
+                allowedKeys.get(policy.getServiceName()).addAll(policy.getKeys());
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : allowedKeys.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(allowedKeys);
+    }
+
+    private Set<SecurityPolicy> findPolicies(String userId,
+                                             List<String> groups) {
+        Set<SecurityPolicy> policies = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (userId != null) {
+            policies.addAll(policiesByUser.getOrDefault(userId, Collections.emptyList()));
+        }
+        if (groups != null) {
+            for (String group : groups) {
+                policies.addAll(policiesByGroup.getOrDefault(group, Collections.emptyList()));
+            }
+        }
+        return policies;
+    }
+}
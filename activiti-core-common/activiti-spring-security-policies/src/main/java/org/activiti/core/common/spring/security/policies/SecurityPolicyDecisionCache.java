@@ -0,0 +1,62 @@
+package org.activiti.core.common.spring.security.policies;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of the security policy decisions of the authenticated principals, so that the groups and roles of
+ * a principal are not read again and the allowed keys are not searched again for every API operation.
+ *
+ * A decision is kept for the time to live, changes to the groups or roles of a principal apply after that time.
+ */
+public class SecurityPolicyDecisionCache {
+
+    private static final int PURGE_THRESHOLD = 10000;
+
+    private final long timeToLiveInNanos;
+
+    private final ConcurrentMap<List<Object>, Decision> decisions = new ConcurrentHashMap<>();
+
+    public SecurityPolicyDecisionCache(Duration timeToLive) {
+        this.timeToLiveInNanos = timeToLive != null ? timeToLive.toNanos() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(List<Object> key,
+                     Supplier<T> decisionSupplier) {
+        if (timeToLiveInNanos <= 0) {
+            return decisionSupplier.get();
+        }
+
+        long now = System.nanoTime();
+        Decision decision = decisions.get(key);
+        if (decision == null || now - decision.createdAt > timeToLiveInNanos) {
+            if (decisions.size() > PURGE_THRESHOLD) {
+                decisions.values().removeIf(expired -> now - expired.createdAt > timeToLiveInNanos);
+            }
+            decision = new Decision(decisionSupplier.get(), now);
+            decisions.put(key, decision);
+        }
+        return (T) decision.value;
+    }
+
+    public void clear() {
+        decisions.clear();
+    }
+
+    private static class Decision {
+
+        private final Object value;
+
+        private final long createdAt;
+
+        private Decision(Object value,
+                         long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.activiti.core.common.spring.security.policies.conf;
 import org.activiti.core.common.spring.security.policies.SecurityPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +14,10 @@ public class SecurityPoliciesProperties {
 
     private String wildcard = "*";
 
+    /**
+     * How long the security policy decisions of a user are cached, a zero duration disables the cache.
+     */
+    private Duration decisionCacheTimeToLive = Duration.ofSeconds(5);
 
     public List<SecurityPolicy> getPolicies() {
         return policies;
@@ -22,4 +27,12 @@ public class SecurityPoliciesProperties {
         return wildcard;
     }
 
+    public Duration getDecisionCacheTimeToLive() {
+        return decisionCacheTimeToLive;
+    }
+
+    public void setDecisionCacheTimeToLive(Duration decisionCacheTimeToLive) {
+        this.decisionCacheTimeToLive = decisionCacheTimeToLive;
+    }
+
 }
\ No newline at end of file
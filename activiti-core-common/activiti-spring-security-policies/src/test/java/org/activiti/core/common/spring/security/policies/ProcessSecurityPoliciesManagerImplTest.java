@@ -0,0 +1,124 @@
+package org.activiti.core.common.spring.security.policies;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.core.common.spring.security.policies.conf.SecurityPoliciesProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessSecurityPoliciesManagerImplTest {
+
+    private SecurityManager securityManager = mock(SecurityManager.class);
+
+    private SecurityPoliciesProperties securityPoliciesProperties = new SecurityPoliciesProperties();
+
+    @BeforeEach
+    public void setUp() {
+        securityPoliciesProperties.getPolicies().add(policy("runtime-bundle", SecurityPolicyAccess.WRITE, singletonList("bob"), emptyList(), "SampleProcess1"));
+        securityPoliciesProperties.getPolicies().add(policy("runtime-bundle", SecurityPolicyAccess.READ, emptyList(), singletonList("doctor"), "SampleProcess2"));
+        securityPoliciesProperties.getPolicies().add(policy("other-service", SecurityPolicyAccess.READ, singletonList("garth"), emptyList(), "SampleProcess3"));
+    }
+
+    @Test
+    public void should_allowKeysOfUserAndGroupPolicies() {
+        //given
+        ProcessSecurityPoliciesManagerImpl policiesManager = createPoliciesManager();
+        loggedInAs("bob", "doctor");
+
+        //when
+        Map<String, Set<String>> readKeys = policiesManager.getAllowedKeys(SecurityPolicyAccess.READ);
+        Map<String, Set<String>> writeKeys = policiesManager.getAllowedKeys(SecurityPolicyAccess.WRITE);
+
+        //then
+        assertThat(readKeys.keySet()).containsExactlyInAnyOrder("runtime-bundle", "other-service");
+        assertThat(readKeys.get("runtime-bundle")).containsExactlyInAnyOrder("SampleProcess1", "SampleProcess2");
+        assertThat(readKeys.get("other-service")).isEmpty();
+        assertThat(writeKeys.get("runtime-bundle")).containsExactly("SampleProcess1");
+        assertThat(policiesManager.hasPermission("SampleProcess2", SecurityPolicyAccess.READ, "runtime-bundle")).isTrue();
+        assertThat(policiesManager.hasPermission("SampleProcess2", SecurityPolicyAccess.WRITE, "runtime-bundle")).isFalse();
+        assertThat(policiesManager.hasPermission("SampleProcess3", SecurityPolicyAccess.READ, "other-service")).isFalse();
+    }
+
+    @Test
+    public void should_cacheDecisionsOfAuthenticatedUser() {
+        //given
+        ProcessSecurityPoliciesManagerImpl policiesManager = createPoliciesManager();
+        loggedInAs("bob", "doctor");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            assertThat(policiesManager.hasPermission("SampleProcess1", SecurityPolicyAccess.WRITE, "runtime-bundle")).isTrue();
+        }
+
+        //then
+        verify(securityManager, times(1)).getAuthenticatedUserRoles();
+        verify(securityManager, times(1)).getAuthenticatedUserGroups();
+    }
+
+    @Test
+    public void should_notCacheDecisions_when_timeToLiveIsZero() {
+        //given
+        securityPoliciesProperties.setDecisionCacheTimeToLive(Duration.ZERO);
+        ProcessSecurityPoliciesManagerImpl policiesManager = createPoliciesManager();
+        loggedInAs("garth");
+
+        //when
+        policiesManager.hasPermission("SampleProcess3", SecurityPolicyAccess.READ, "other-service");
+        policiesManager.hasPermission("SampleProcess3", SecurityPolicyAccess.READ, "other-service");
+
+        //then
+        verify(securityManager, times(2)).getAuthenticatedUserGroups();
+    }
+
+    @Test
+    public void should_allowEverything_when_userIsAdmin() {
+        //given
+        ProcessSecurityPoliciesManagerImpl policiesManager = createPoliciesManager();
+        loggedInAs("admin");
+        given(securityManager.getAuthenticatedUserRoles()).willReturn(singletonList("ACTIVITI_ADMIN"));
+
+        //then
+        assertThat(policiesManager.hasPermission("AnyProcess", SecurityPolicyAccess.WRITE, "runtime-bundle")).isTrue();
+    }
+
+    private ProcessSecurityPoliciesManagerImpl createPoliciesManager() {
+        return new ProcessSecurityPoliciesManagerImpl(securityManager,
+                                                      securityPoliciesProperties,
+                                                      new SecurityPoliciesProcessDefinitionRestrictionApplier(),
+                                                      new SecurityPoliciesProcessInstanceRestrictionApplier());
+    }
+
+    private void loggedInAs(String userId,
+                            String... groups) {
+        given(securityManager.getAuthenticatedUserId()).willReturn(userId);
+        given(securityManager.getAuthenticatedUserGroups()).willReturn(asList(groups));
+        given(securityManager.getAuthenticatedUserRoles()).willReturn(emptyList());
+    }
+
+    private SecurityPolicy policy(String serviceName,
+                                  SecurityPolicyAccess access,
+                                  List<String> users,
+                                  List<String> groups,
+                                  String... keys) {
+        SecurityPolicy policy = new SecurityPolicy();
+        policy.setServiceName(serviceName);
+        policy.setAccess(access);
+        policy.setUsers(users);
+        policy.setGroups(groups);
+        policy.setKeys(asList(keys));
+        return policy;
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.activiti.runtime.api.conf;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.activiti.engine.impl.bpmn.parser.factory.DefaultActivityBehaviorFactory;
 import org.activiti.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
@@ -25,14 +28,21 @@ import org.activiti.runtime.api.connector.IntegrationContextBuilder;
 import org.activiti.runtime.api.impl.ExpressionResolver;
 import org.activiti.runtime.api.impl.VariablesMappingProvider;
 import org.activiti.spring.process.ProcessExtensionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class ConnectorsAutoConfiguration {
 
+    public static final String CONNECTOR_EXECUTOR_BEAN_NAME = "connectorExecutor";
+
     @Bean
     @ConditionalOnMissingBean
     public ExpressionManager expressionManager() {
@@ -55,10 +65,27 @@ public class ConnectorsAutoConfiguration {
     @ConditionalOnMissingBean(name = DefaultActivityBehaviorFactory.DEFAULT_SERVICE_TASK_BEAN_NAME)
     public DefaultServiceTaskBehavior defaultServiceTaskBehavior(ApplicationContext applicationContext,
                                                                  IntegrationContextBuilder integrationContextBuilder,
-                                                                 VariablesMappingProvider outboundVariablesProvider) {
-        return new DefaultServiceTaskBehavior(applicationContext,
-                                              integrationContextBuilder,
-                                              outboundVariablesProvider);
+                                                                 VariablesMappingProvider outboundVariablesProvider,
+                                                                 @Autowired(required = false) @Qualifier(CONNECTOR_EXECUTOR_BEAN_NAME) Executor connectorExecutor,
+                                                                 @Value("${spring.activiti.connectors.recovery-timeout-seconds:600}") long recoveryTimeoutSeconds) {
+        DefaultServiceTaskBehavior defaultServiceTaskBehavior = new DefaultServiceTaskBehavior(applicationContext,
+                                                                                               integrationContextBuilder,
+                                                                                               outboundVariablesProvider,
+                                                                                               connectorExecutor);
+        defaultServiceTaskBehavior.setRecoveryTimeout(Duration.ofSeconds(recoveryTimeoutSeconds));
+        return defaultServiceTaskBehavior;
+    }
+
+    @Bean(name = CONNECTOR_EXECUTOR_BEAN_NAME)
+    @ConditionalOnProperty(name = "spring.activiti.connectors.async-execution", havingValue = "true")
+    @ConditionalOnMissingBean(name = CONNECTOR_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor connectorExecutor(@Value("${spring.activiti.connectors.async-pool-size:10}") int poolSize) {
+        ThreadPoolTaskExecutor connectorExecutor = new ThreadPoolTaskExecutor();
+        connectorExecutor.setCorePoolSize(poolSize);
+        connectorExecutor.setMaxPoolSize(poolSize);
+        connectorExecutor.setThreadNamePrefix("activiti-connector-");
+        connectorExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        return connectorExecutor;
     }
 
     @Bean
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.connector;
+
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.jobexecutor.JobHandler;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+
+/**
+ * Applies again a connector that failed while its service task was waiting in the asynchronous mode of
+ * {@link DefaultServiceTaskBehavior}, or whose result never came back before the recovery timeout.
+ * The job configuration is the id of the integration context of the service task. A job failing again is retried like any other job and ends up as a dead letter job once
+ * its retries are exhausted.
+ */
+public class ConnectorJobHandler implements JobHandler {
+
+    public static final String TYPE = "connector-retry";
+
+    private final DefaultServiceTaskBehavior serviceTaskBehavior;
+
+    public ConnectorJobHandler(DefaultServiceTaskBehavior serviceTaskBehavior) {
+        this.serviceTaskBehavior = serviceTaskBehavior;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job,
+                        String configuration,
+                        ExecutionEntity execution,
+                        CommandContext commandContext) {
+        serviceTaskBehavior.retryConnector(commandContext,
+                                           configuration);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.connector;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.jobexecutor.JobHandler;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+
+/**
+ * Triggers a service task waiting in the asynchronous mode of {@link DefaultServiceTaskBehavior} with the result its
+ * connector returned, when the execution could not be triggered with it right away. The job configuration holds the
+ * id of the integration context of the service task and the id of the byte array the result is stored in.
+ * The connector is not applied again.
+ */
+public class ConnectorResultJobHandler implements JobHandler {
+
+    public static final String TYPE = "connector-result";
+
+    public static final String PROPERTYNAME_INTEGRATION_CONTEXT_ID = "integrationContextId";
+
+    public static final String PROPERTYNAME_RESULT_ID = "resultId";
+
+    private final DefaultServiceTaskBehavior serviceTaskBehavior;
+
+    public ConnectorResultJobHandler(DefaultServiceTaskBehavior serviceTaskBehavior) {
+        this.serviceTaskBehavior = serviceTaskBehavior;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job,
+                        String configuration,
+                        ExecutionEntity execution,
+                        CommandContext commandContext) {
+        JsonNode configurationJson;
+        try {
+            configurationJson = commandContext.getProcessEngineConfiguration().getObjectMapper().readTree(configuration);
+        } catch (IOException e) {
+            throw new ActivitiException("Invalid configuration of connector result job " + job.getId(),
+                                        e);
+        }
+        serviceTaskBehavior.triggerWithStoredResult(commandContext,
+                                                    configurationJson.path(PROPERTYNAME_INTEGRATION_CONTEXT_ID).asText(),
+                                                    configurationJson.path(PROPERTYNAME_RESULT_ID).asText());
+    }
+}
@@ -16,28 +16,84 @@
 
 package org.activiti.runtime.api.connector;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.activiti.api.process.model.IntegrationContext;
 import org.activiti.api.process.runtime.connector.Connector;
 import org.activiti.bpmn.model.ServiceTask;
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ManagementService;
 import org.activiti.engine.delegate.DelegateExecution;
 import org.activiti.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ByteArrayRef;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntityManager;
+import org.activiti.engine.impl.persistence.entity.integration.IntegrationContextEntity;
+import org.activiti.engine.impl.persistence.entity.integration.IntegrationContextManager;
 import org.activiti.runtime.api.impl.VariablesMappingProvider;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 
 import static org.activiti.runtime.api.impl.MappingExecutionContext.buildMappingExecutionContext;
 
 public class DefaultServiceTaskBehavior extends AbstractBpmnActivityBehavior {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultServiceTaskBehavior.class);
+
+    public static final Duration DEFAULT_RECOVERY_TIMEOUT = Duration.ofMinutes(10);
+
     private final ApplicationContext applicationContext;
     private final IntegrationContextBuilder integrationContextBuilder;
     private VariablesMappingProvider outboundVariablesProvider;
+    private final Executor connectorExecutor;
+    private final Map<String, Connector> connectors = new ConcurrentHashMap<>();
+    private Duration recoveryTimeout = DEFAULT_RECOVERY_TIMEOUT;
 
     public DefaultServiceTaskBehavior(ApplicationContext applicationContext,
                                       IntegrationContextBuilder integrationContextBuilder,
                                       VariablesMappingProvider outboundVariablesProvider) {
+        this(applicationContext,
+             integrationContextBuilder,
+             outboundVariablesProvider,
+             null);
+    }
+
+    /**
+     * @param connectorExecutor executor the connectors are applied on while the service task waits, or null to apply
+     *                          the connectors in the engine thread
+     */
+    public DefaultServiceTaskBehavior(ApplicationContext applicationContext,
+                                      IntegrationContextBuilder integrationContextBuilder,
+                                      VariablesMappingProvider outboundVariablesProvider,
+                                      Executor connectorExecutor) {
         this.applicationContext = applicationContext;
         this.integrationContextBuilder = integrationContextBuilder;
         this.outboundVariablesProvider = outboundVariablesProvider;
+        this.connectorExecutor = connectorExecutor;
+    }
+
+    /**
+     * @param recoveryTimeout time after which the connector of a waiting service task is applied again when its
+     *                        result never came back, for example because the engine stopped while it was applied
+     */
+    public void setRecoveryTimeout(Duration recoveryTimeout) {
+        this.recoveryTimeout = recoveryTimeout;
     }
 
     /**
@@ -47,6 +103,11 @@ public class DefaultServiceTaskBehavior extends AbstractBpmnActivityBehavior {
     @Override
     public void execute(DelegateExecution execution) {
         Connector connector = getConnector(getImplementation(execution));
+        if (connectorExecutor != null) {
+            executeAsync(execution, connector);
+            return;
+        }
+
         IntegrationContext integrationContext = connector.apply(integrationContextBuilder.from(execution));
 
         execution.setVariables(outboundVariablesProvider.calculateOutPutVariables(buildMappingExecutionContext(execution),
@@ -55,13 +116,307 @@ public class DefaultServiceTaskBehavior extends AbstractBpmnActivityBehavior {
         leave(execution);
     }
 
+    /**
+     * The service task waits with an integration context, the connector is applied on the connector executor once
+     * the transaction is committed, and the execution is triggered with the result of the connector in a new transaction.
+     * <ul>
+     * <li>When the connector fails, a {@link ConnectorJobHandler} job is scheduled, so that the connector is applied again
+     * by the async executor with the retries of any other job.</li>
+     * <li>When the execution can't be triggered with the result, a {@link ConnectorResultJobHandler} job is scheduled
+     * with the result, so that the execution is triggered again without applying the connector again.</li>
+     * <li>A {@link ConnectorJobHandler} timer job, due after the recovery timeout, is created with the integration
+     * context: it applies the connector again when the engine stopped before the execution was triggered or one of
+     * the jobs above was scheduled. It is deleted as soon as one of them is, so the recovery timeout must be longer
+     * than the connector takes, or the connector is applied twice.</li>
+     * </ul>
+     */
+    private void executeAsync(DelegateExecution execution,
+                              Connector connector) {
+        IntegrationContextManager integrationContextManager = Context.getProcessEngineConfiguration().getIntegrationContextManager();
+        IntegrationContextEntity integrationContextEntity = integrationContextManager.create();
+        integrationContextEntity.setExecutionId(execution.getId());
+        integrationContextEntity.setProcessInstanceId(execution.getProcessInstanceId());
+        integrationContextEntity.setProcessDefinitionId(execution.getProcessDefinitionId());
+        integrationContextEntity.setFlowNodeId(execution.getCurrentActivityId());
+        integrationContextEntity.setCreatedDate(Context.getProcessEngineConfiguration().getClock().getCurrentTime());
+        integrationContextManager.insert(integrationContextEntity);
+        scheduleRecoveryTimer(Context.getCommandContext(),
+                              (ExecutionEntity) execution,
+                              integrationContextEntity.getId());
+
+        IntegrationContext integrationContext = integrationContextBuilder.from(integrationContextEntity,
+                                                                               execution);
+        ManagementService managementService = Context.getProcessEngineConfiguration().getManagementService();
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+                                                               commandContext -> connectorExecutor.execute(
+                                                                       () -> applyConnector(connector,
+                                                                                            integrationContext,
+                                                                                            managementService)));
+    }
+
+    private void applyConnector(Connector connector,
+                                IntegrationContext integrationContext,
+                                ManagementService managementService) {
+        IntegrationContext result;
+        try {
+            result = connector.apply(integrationContext);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Connector {} failed for integration context {} of execution {}, it will be applied again by a job",
+                        integrationContext.getConnectorType(),
+                        integrationContext.getId(),
+                        integrationContext.getExecutionId(),
+                        e);
+            managementService.executeCommand(commandContext -> scheduleConnectorJob(commandContext,
+                                                                                    integrationContext.getId(),
+                                                                                    e));
+            return;
+        }
+
+        try {
+            managementService.executeCommand(commandContext -> triggerExecution(commandContext,
+                                                                                integrationContext.getId(),
+                                                                                result));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Execution {} could not be triggered with the result of connector {} for integration context {}, it will be triggered again by a job",
+                        integrationContext.getExecutionId(),
+                        integrationContext.getConnectorType(),
+                        integrationContext.getId(),
+                        e);
+            managementService.executeCommand(commandContext -> scheduleResultJob(commandContext,
+                                                                                 integrationContext.getId(),
+                                                                                 result,
+                                                                                 e));
+        }
+    }
+
+    private Void triggerExecution(CommandContext commandContext,
+                                  String integrationContextId,
+                                  IntegrationContext result) {
+        IntegrationContextEntity integrationContextEntity = findIntegrationContext(commandContext,
+                                                                                   integrationContextId);
+        ExecutionEntity execution = findExecution(commandContext,
+                                                  integrationContextEntity);
+        if (execution != null) {
+            leaveWithResult(commandContext,
+                            integrationContextEntity,
+                            execution,
+                            result.getOutBoundVariables());
+        }
+        return null;
+    }
+
+    private Void scheduleConnectorJob(CommandContext commandContext,
+                                      String integrationContextId,
+                                      RuntimeException exception) {
+        ExecutionEntity execution = findExecution(commandContext,
+                                                  findIntegrationContext(commandContext,
+                                                                         integrationContextId));
+        if (execution != null) {
+            scheduleJob(commandContext,
+                        execution,
+                        integrationContextId,
+                        ConnectorJobHandler.TYPE,
+                        integrationContextId,
+                        exception);
+        }
+        return null;
+    }
+
+    private Void scheduleResultJob(CommandContext commandContext,
+                                   String integrationContextId,
+                                   IntegrationContext result,
+                                   RuntimeException exception) {
+        ExecutionEntity execution = findExecution(commandContext,
+                                                  findIntegrationContext(commandContext,
+                                                                         integrationContextId));
+        if (execution != null) {
+            ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
+            ByteArrayRef resultRef = new ByteArrayRef();
+            try {
+                resultRef.setValue("connector-result-" + integrationContextId,
+                                   objectMapper.writeValueAsBytes(result.getOutBoundVariables()));
+            } catch (JsonProcessingException e) {
+                throw new ActivitiException("Could not store the result of the connector for integration context " + integrationContextId,
+                                            e);
+            }
+            ObjectNode configuration = objectMapper.createObjectNode();
+            configuration.put(ConnectorResultJobHandler.PROPERTYNAME_INTEGRATION_CONTEXT_ID,
+                              integrationContextId);
+            configuration.put(ConnectorResultJobHandler.PROPERTYNAME_RESULT_ID,
+                              resultRef.getId());
+            scheduleJob(commandContext,
+                        execution,
+                        integrationContextId,
+                        ConnectorResultJobHandler.TYPE,
+                        configuration.toString(),
+                        exception);
+        }
+        return null;
+    }
+
+    private void scheduleJob(CommandContext commandContext,
+                             ExecutionEntity execution,
+                             String integrationContextId,
+                             String jobHandlerType,
+                             String jobHandlerConfiguration,
+                             RuntimeException exception) {
+        deleteRecoveryTimer(commandContext,
+                            execution,
+                            integrationContextId);
+
+        JobEntity job = commandContext.getJobEntityManager().create();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        job.setExecutionId(execution.getId());
+        job.setProcessInstanceId(execution.getProcessInstanceId());
+        job.setProcessDefinitionId(execution.getProcessDefinitionId());
+        if (execution.getTenantId() != null) {
+            job.setTenantId(execution.getTenantId());
+        }
+        job.setRetries(commandContext.getProcessEngineConfiguration().getAsyncExecutorNumberOfRetries());
+        job.setExceptionMessage(exception.getMessage());
+        job.setExceptionStacktrace(ExceptionUtils.getStackTrace(exception));
+        commandContext.getJobManager().scheduleAsyncJob(job);
+    }
+
+    private void scheduleRecoveryTimer(CommandContext commandContext,
+                                       ExecutionEntity execution,
+                                       String integrationContextId) {
+        TimerJobEntity timer = commandContext.getTimerJobEntityManager().create();
+        timer.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timer.setRevision(1);
+        timer.setJobHandlerType(ConnectorJobHandler.TYPE);
+        timer.setJobHandlerConfiguration(integrationContextId);
+        timer.setExclusive(true);
+        timer.setRetries(commandContext.getProcessEngineConfiguration().getAsyncExecutorNumberOfRetries());
+        timer.setDuedate(new Date(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime().getTime() + recoveryTimeout.toMillis()));
+        timer.setExecution(execution);
+        timer.setProcessDefinitionId(execution.getProcessDefinitionId());
+        timer.setProcessInstanceId(execution.getProcessInstanceId());
+        if (execution.getTenantId() != null) {
+            timer.setTenantId(execution.getTenantId());
+        }
+        commandContext.getJobManager().scheduleTimerJob(timer);
+    }
+
+    private void deleteRecoveryTimer(CommandContext commandContext,
+                                     ExecutionEntity execution,
+                                     String integrationContextId) {
+        TimerJobEntityManager timerJobEntityManager = commandContext.getTimerJobEntityManager();
+        for (TimerJobEntity timer : timerJobEntityManager.findJobsByExecutionId(execution.getId())) {
+            if (ConnectorJobHandler.TYPE.equals(timer.getJobHandlerType()) && integrationContextId.equals(timer.getJobHandlerConfiguration())) {
+                timerJobEntityManager.delete(timer);
+            }
+        }
+    }
+
+    /**
+     * Applies the connector of a waiting service task again, in the transaction of a {@link ConnectorJobHandler} job
+     * scheduled when the connector failed, or of its recovery timer. A failure of the connector fails the job.
+     */
+    public void retryConnector(CommandContext commandContext,
+                               String integrationContextId) {
+        IntegrationContextEntity integrationContextEntity = findIntegrationContext(commandContext,
+                                                                                   integrationContextId);
+        ExecutionEntity execution = findExecution(commandContext,
+                                                  integrationContextEntity);
+        if (execution == null) {
+            return;
+        }
+        IntegrationContext result = getConnector(getImplementation(execution)).apply(integrationContextBuilder.from(integrationContextEntity,
+                                                                                                                   execution));
+        leaveWithResult(commandContext,
+                        integrationContextEntity,
+                        execution,
+                        result.getOutBoundVariables());
+    }
+
+    /**
+     * Triggers a waiting service task with the result its connector returned, in the transaction of the
+     * {@link ConnectorResultJobHandler} job scheduled when the execution could not be triggered with it.
+     * The connector is not applied again. The stored result is deleted once the execution is triggered.
+     */
+    public void triggerWithStoredResult(CommandContext commandContext,
+                                        String integrationContextId,
+                                        String resultId) {
+        ByteArrayRef resultRef = new ByteArrayRef(resultId);
+        IntegrationContextEntity integrationContextEntity = findIntegrationContext(commandContext,
+                                                                                   integrationContextId);
+        ExecutionEntity execution = findExecution(commandContext,
+                                                  integrationContextEntity);
+        if (execution != null) {
+            Map<String, Object> outBoundVariables;
+            try {
+                outBoundVariables = commandContext.getProcessEngineConfiguration().getObjectMapper().readValue(resultRef.getBytes(),
+                                                                                                             new TypeReference<Map<String, Object>>() {
+                                                                                                             });
+            } catch (IOException e) {
+                throw new ActivitiException("Could not read the stored result of the connector for integration context " + integrationContextId,
+                                            e);
+            }
+            leaveWithResult(commandContext,
+                            integrationContextEntity,
+                            execution,
+                            outBoundVariables);
+        }
+        resultRef.delete();
+    }
+
+    private IntegrationContextEntity findIntegrationContext(CommandContext commandContext,
+                                                            String integrationContextId) {
+        IntegrationContextEntity integrationContextEntity = commandContext.getProcessEngineConfiguration().getIntegrationContextManager().findById(integrationContextId);
+        if (integrationContextEntity == null) {
+            LOGGER.debug("Integration context {} no longer exists, the result of the connector is ignored", integrationContextId);
+        }
+        return integrationContextEntity;
+    }
+
+    private ExecutionEntity findExecution(CommandContext commandContext,
+                                          IntegrationContextEntity integrationContextEntity) {
+        if (integrationContextEntity == null) {
+            return null;
+        }
+        ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(integrationContextEntity.getExecutionId());
+        if (execution == null) {
+            LOGGER.debug("Execution {} no longer exists, the result of the connector is ignored", integrationContextEntity.getExecutionId());
+            commandContext.getProcessEngineConfiguration().getIntegrationContextManager().delete(integrationContextEntity);
+        }
+        return execution;
+    }
+
+    private void leaveWithResult(CommandContext commandContext,
+                                 IntegrationContextEntity integrationContextEntity,
+                                 ExecutionEntity execution,
+                                 Map<String, Object> outBoundVariables) {
+        if (execution.isSuspended()) {
+            throw new ActivitiException("Cannot trigger an execution that is suspended");
+        }
+        commandContext.getProcessEngineConfiguration().getIntegrationContextManager().delete(integrationContextEntity);
+        deleteRecoveryTimer(commandContext,
+                            execution,
+                            integrationContextEntity.getId());
+
+        execution.setVariables(outboundVariablesProvider.calculateOutPutVariables(buildMappingExecutionContext(execution),
+                                                                                  outBoundVariables));
+        commandContext.getAgenda().planTriggerExecutionOperation(execution);
+    }
+
+    @Override
+    public void trigger(DelegateExecution execution,
+                        String signalName,
+                        Object signalData) {
+        leave(execution);
+    }
+
     private String getImplementation(DelegateExecution execution) {
         return ((ServiceTask) execution.getCurrentFlowElement()).getImplementation();
     }
 
     private Connector getConnector(String implementation) {
-        return applicationContext.getBean(implementation,
-                                          Connector.class);
+        return connectors.computeIfAbsent(implementation,
+                                          name -> applicationContext.getBean(name,
+                                                                             Connector.class));
     }
 
     private String getServiceTaskImplementation(DelegateExecution execution) {
@@ -70,6 +425,9 @@ public class DefaultServiceTaskBehavior extends AbstractBpmnActivityBehavior {
 
     public boolean hasConnectorBean(DelegateExecution execution) {
         String implementation = getServiceTaskImplementation(execution);
+        if (connectors.containsKey(implementation)) {
+            return true;
+        }
         return applicationContext.containsBean(implementation) && applicationContext.getBean(implementation) instanceof Connector;
     }
 }
@@ -188,9 +188,9 @@ public class ProcessAdminRuntimeImpl implements ProcessAdminRuntime {
                 internalQuery.superProcessInstanceId(getProcessInstancesPayload.getParentProcessInstanceId());
             }
         }
-        return new PageImpl<>(processInstanceConverter.from(internalQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems())),
-                Math.toIntExact(internalQuery.count()));
+        return PageImpl.fetch(internalQuery,
+                pageable,
+                processInstanceConverter);
     }
 
     @Override
@@ -240,9 +240,14 @@ public class ProcessRuntimeImpl implements ProcessRuntime {
             internalQuery.superProcessInstanceId(getProcessInstancesPayload.getParentProcessInstanceId());
         }
 
-        return new PageImpl<>(processInstanceConverter.from(internalQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems())),
-                Math.toIntExact(internalQuery.count()));
+        if (pageable.getAfterId() != null) {
+            internalQuery.seekAfter(null,
+                    pageable.getAfterId());
+        }
+
+        return PageImpl.fetch(internalQuery,
+                pageable,
+                processInstanceConverter);
     }
 
     @Override
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.connector;
+
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ConnectorJobHandlerTest {
+
+    @InjectMocks
+    private ConnectorJobHandler jobHandler;
+
+    @Mock
+    private DefaultServiceTaskBehavior serviceTaskBehavior;
+
+    @BeforeEach
+    public void setUp() {
+        initMocks(this);
+    }
+
+    @Test
+    public void executeShouldRetryConnectorOfTheConfiguredIntegrationContext() {
+        //given
+        CommandContext commandContext = mock(CommandContext.class);
+
+        //when
+        jobHandler.execute(mock(JobEntity.class),
+                           "integrationContextId",
+                           mock(ExecutionEntity.class),
+                           commandContext);
+
+        //then
+        verify(serviceTaskBehavior).retryConnector(commandContext,
+                                                   "integrationContextId");
+        assertThat(jobHandler.getType()).isEqualTo(ConnectorJobHandler.TYPE);
+    }
+}
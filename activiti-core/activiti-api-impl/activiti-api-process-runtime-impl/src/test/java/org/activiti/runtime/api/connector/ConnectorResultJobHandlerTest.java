@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.connector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ConnectorResultJobHandlerTest {
+
+    @InjectMocks
+    private ConnectorResultJobHandler jobHandler;
+
+    @Mock
+    private DefaultServiceTaskBehavior serviceTaskBehavior;
+
+    @BeforeEach
+    public void setUp() {
+        initMocks(this);
+    }
+
+    @Test
+    public void executeShouldTriggerExecutionWithTheConfiguredStoredResult() {
+        //given
+        ProcessEngineConfigurationImpl processEngineConfiguration = mock(ProcessEngineConfigurationImpl.class);
+        given(processEngineConfiguration.getObjectMapper()).willReturn(new ObjectMapper());
+        CommandContext commandContext = mock(CommandContext.class);
+        given(commandContext.getProcessEngineConfiguration()).willReturn(processEngineConfiguration);
+
+        //when
+        jobHandler.execute(mock(JobEntity.class),
+                           "{\"integrationContextId\":\"integrationContextId\",\"resultId\":\"resultId\"}",
+                           mock(ExecutionEntity.class),
+                           commandContext);
+
+        //then
+        verify(serviceTaskBehavior).triggerWithStoredResult(commandContext,
+                                                            "integrationContextId",
+                                                            "resultId");
+        assertThat(jobHandler.getType()).isEqualTo(ConnectorResultJobHandler.TYPE);
+    }
+}
@@ -17,16 +17,24 @@
 package org.activiti.runtime.api.connector;
 
 import org.activiti.api.process.runtime.connector.Connector;
+import org.activiti.api.runtime.model.impl.IntegrationContextImpl;
 import org.activiti.engine.delegate.DelegateExecution;
+import org.activiti.runtime.api.impl.VariablesMappingProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationContext;
 
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class DefaultServiceTaskBehaviorTest {
@@ -87,4 +95,31 @@ public class DefaultServiceTaskBehaviorTest {
         assertThat(hasConnectorBean).isFalse();
     }
 
+    @Test
+    public void executeShouldResolveConnectorBeanOnlyOnce() {
+        //given
+        String connectorName = "connector";
+        DelegateExecution execution = ConnectorRuntimeApiTestHelper.buildExecution(connectorName);
+        Connector connector = mock(Connector.class);
+        given(context.getBean(connectorName, Connector.class)).willReturn(connector);
+        given(connector.apply(any())).willReturn(new IntegrationContextImpl());
+
+        IntegrationContextBuilder integrationContextBuilder = mock(IntegrationContextBuilder.class);
+        VariablesMappingProvider outboundVariablesProvider = mock(VariablesMappingProvider.class);
+        given(outboundVariablesProvider.calculateOutPutVariables(any(), any())).willReturn(emptyMap());
+        DefaultServiceTaskBehavior serviceTaskBehavior = spy(new DefaultServiceTaskBehavior(context,
+                                                                                           integrationContextBuilder,
+                                                                                           outboundVariablesProvider));
+        doNothing().when(serviceTaskBehavior).leave(execution);
+
+        //when
+        serviceTaskBehavior.execute(execution);
+        serviceTaskBehavior.execute(execution);
+
+        //then
+        verify(context, times(1)).getBean(connectorName, Connector.class);
+        verify(connector, times(2)).apply(any());
+        verify(serviceTaskBehavior, times(2)).leave(execution);
+    }
+
 }
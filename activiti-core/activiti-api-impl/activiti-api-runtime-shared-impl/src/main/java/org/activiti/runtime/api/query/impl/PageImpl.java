@@ -17,18 +17,69 @@
 package org.activiti.runtime.api.query.impl;
 
 import org.activiti.api.runtime.shared.query.Page;
+import org.activiti.api.runtime.shared.query.Pageable;
+import org.activiti.engine.query.Query;
+import org.activiti.runtime.api.model.impl.ModelConverter;
 
 import java.util.List;
 
 public class PageImpl<T> implements Page<T> {
 
+    public static final int UNKNOWN_TOTAL_ITEMS = -1;
+
     private List<T> content;
     private int totalItems;
+    private boolean hasNext;
 
     public PageImpl(List<T> content,
                     int totalItems) {
+        this(content,
+             totalItems,
+             false);
+    }
+
+    public PageImpl(List<T> content,
+                    int totalItems,
+                    boolean hasNext) {
         this.content = content;
         this.totalItems = totalItems;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Lists the page of the query, fetching one item more than the page holds to know whether there is a next page.
+     * The query is only counted when the page doesn't tell the total already (that is, it is not the last page)
+     * and the pageable requests the total items, up to its limit if it has one.
+     */
+    public static <S, T> Page<T> fetch(Query<?, S> query,
+                                       Pageable pageable,
+                                       ModelConverter<S, T> converter) {
+        int maxItems = pageable.getMaxItems();
+        int fetchedItems = maxItems < Integer.MAX_VALUE ? maxItems + 1 : maxItems;
+        List<S> items = query.listPage(pageable.getStartIndex(),
+                                       fetchedItems);
+
+        boolean hasNext = items.size() > maxItems;
+        if (hasNext) {
+            items = items.subList(0,
+                                  maxItems);
+        }
+
+        int totalItems;
+        if (!hasNext && pageable.getAfterId() == null && (!items.isEmpty() || pageable.getStartIndex() == 0)) {
+            totalItems = pageable.getStartIndex() + items.size();
+        } else if (!pageable.isTotalItemsRequested()) {
+            totalItems = UNKNOWN_TOTAL_ITEMS;
+        } else if (pageable.getTotalItemsLimit() != null) {
+            long count = query.countUpTo(pageable.getTotalItemsLimit());
+            totalItems = count > pageable.getTotalItemsLimit() ? UNKNOWN_TOTAL_ITEMS : Math.toIntExact(count);
+        } else {
+            totalItems = Math.toIntExact(query.count());
+        }
+
+        return new PageImpl<>(converter.from(items),
+                              totalItems,
+                              hasNext);
     }
 
     @Override
@@ -40,4 +91,9 @@ public class PageImpl<T> implements Page<T> {
     public int getTotalItems() {
         return totalItems;
     }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
 }
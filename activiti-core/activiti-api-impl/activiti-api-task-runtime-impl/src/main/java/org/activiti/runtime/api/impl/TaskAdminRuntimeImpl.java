@@ -96,10 +96,9 @@ public class TaskAdminRuntimeImpl implements TaskAdminRuntime {
             taskQuery = taskQuery.taskParentTaskId(getTasksPayload.getParentTaskId());
         }
 
-        List<Task> tasks = taskConverter.from(taskQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems()));
-        return new PageImpl<>(tasks,
-                Math.toIntExact(taskQuery.count()));
+        return PageImpl.fetch(taskQuery,
+                pageable,
+                taskConverter);
     }
 
     @Override
@@ -129,10 +129,13 @@ public class TaskRuntimeImpl implements TaskRuntime {
         if (getTasksPayload.getParentTaskId() != null) {
             taskQuery = taskQuery.taskParentTaskId(getTasksPayload.getParentTaskId());
         }
-        List<Task> tasks = taskConverter.from(taskQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems()));
-        return new PageImpl<>(tasks,
-                Math.toIntExact(taskQuery.count()));
+        if (pageable.getAfterId() != null) {
+            taskQuery = taskQuery.seekAfter(null,
+                    pageable.getAfterId());
+        }
+        return PageImpl.fetch(taskQuery,
+                pageable,
+                taskConverter);
     }
 
     @Override
@@ -17,11 +17,14 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
@@ -67,6 +70,7 @@ import org.activiti.bpmn.converter.parser.SignalParser;
 import org.activiti.bpmn.converter.parser.SubProcessParser;
 import org.activiti.bpmn.converter.util.BpmnXMLUtil;
 import org.activiti.bpmn.converter.util.InputStreamProvider;
+import org.activiti.bpmn.converter.util.SchemaValidatingXMLStreamReader;
 import org.activiti.bpmn.exceptions.XMLException;
 import org.activiti.bpmn.model.Activity;
 import org.activiti.bpmn.model.AdhocSubProcess;
@@ -106,6 +110,12 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
   protected static final String BPMN_XSD = "org/activiti/impl/bpmn/parser/BPMN20.xsd";
   protected static final String DEFAULT_ENCODING = "UTF-8";
 
+  /** Configured once, creating readers is thread-safe */
+  protected static final XMLInputFactory xmlInputFactory = BpmnXMLUtil.createSafeXmlInputFactory();
+
+  /** The compiled BPMN schema per classloader */
+  protected static final Map<ClassLoader, Schema> schemas = Collections.synchronizedMap(new WeakHashMap<ClassLoader, Schema>());
+
   protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<String, BaseBpmnXMLConverter>();
   protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<Class<? extends BaseElement>, BaseBpmnXMLConverter>();
 
@@ -207,80 +217,87 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
   }
 
   public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-    Schema schema = createSchema();
+    Schema schema = getSchema();
 
     Validator validator = schema.newValidator();
     validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
   }
 
   public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-    Schema schema = createSchema();
+    Schema schema = getSchema();
 
     Validator validator = schema.newValidator();
     validator.validate(new StAXSource(xmlStreamReader));
   }
 
-  protected Schema createSchema() throws SAXException {
-    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    Schema schema = null;
-    if (classloader != null) {
-      schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+  /**
+   * @return the compiled BPMN schema of the classloader, which is compiled once and shared,
+   *         as a {@link Schema} is immutable and thread-safe.
+   */
+  protected Schema getSchema() throws SAXException {
+    ClassLoader schemaClassLoader = BpmnXMLConverter.class.getClassLoader();
+    if (classloader != null && classloader.getResource(BPMN_XSD) != null) {
+      schemaClassLoader = classloader;
     }
 
+    Schema schema = schemas.get(schemaClassLoader);
     if (schema == null) {
-      schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+      schema = createSchema(schemaClassLoader);
+      schemas.put(schemaClassLoader, schema);
     }
+    return schema;
+  }
 
-    if (schema == null) {
+  protected Schema createSchema(ClassLoader schemaClassLoader) throws SAXException {
+    URL xsd = schemaClassLoader.getResource(BPMN_XSD);
+    if (xsd == null) {
       throw new XMLException("BPMN XSD could not be found");
     }
-    return schema;
+    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+    return factory.newSchema(xsd);
   }
 
   public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
     return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
   }
 
+  /**
+   * Reads the stream once: when the schema is validated, the document is validated while it is converted.
+   * The document is always read with the safe XML input factory, regardless of enableSafeBpmnXml.
+   */
   public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-    XMLInputFactory xif = XMLInputFactory.newInstance();
-
-    if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-      xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-    }
-
-    if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-      xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-    }
-
-    if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-      xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-    }
-
     InputStreamReader in = null;
     try {
       in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-      XMLStreamReader xtr = xif.createXMLStreamReader(in);
+      XMLStreamReader xtr = xmlInputFactory.createXMLStreamReader(in);
 
-      try {
-        if (validateSchema) {
+      if (!validateSchema) {
+        return convertToBpmnModel(xtr);
+      }
 
-          if (!enableSafeBpmnXml) {
-            validateModel(inputStreamProvider);
-          } else {
-            validateModel(xtr);
-          }
+      SchemaValidatingXMLStreamReader validatingXtr;
+      try {
+        validatingXtr = new SchemaValidatingXMLStreamReader(xtr, getSchema());
+      } catch (SAXException e) {
+        throw new XMLException(e.getMessage(), e);
+      }
 
-          // The input stream is closed after schema validation
-          in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-          xtr = xif.createXMLStreamReader(in);
+      try {
+        BpmnModel model = convertToBpmnModel(validatingXtr);
+        validatingXtr.validateRemainder();
+        if (validatingXtr.getValidationException() == null) {
+          return model;
+        }
+      } catch (RuntimeException | XMLStreamException e) {
+        if (validatingXtr.getValidationException() == null) {
+          throw e;
         }
-
-      } catch (Exception e) {
-        throw new XMLException(e.getMessage(), e);
       }
 
-      // XML conversion
-      return convertToBpmnModel(xtr);
+      // The validation error is reported instead of the conversion errors it caused, also when a parser handled it
+      SAXException validationException = validatingXtr.getValidationException();
+      throw new XMLException(validationException.getMessage(), validationException);
+
     } catch (UnsupportedEncodingException e) {
       throw new XMLException("The bpmn 2.0 xml is not UTF8 encoded", e);
     } catch (XMLStreamException e) {
@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.bpmn.converter.util;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * {@link XMLStreamReader} that validates the document against a schema while it is read,
+ * so that a document can be validated and parsed in a single pass.
+ *
+ * Every event that is read is passed on to a {@link ValidatorHandler} of the schema. The first validation error
+ * is thrown as {@link XMLStreamException} and kept in {@link #getValidationException()}, as the readers of the
+ * document could handle the exception themselves. {@link #getElementText()} and {@link #nextTag()} read the events
+ * through {@link #next()}, so that no event escapes the validation.
+ */
+public class SchemaValidatingXMLStreamReader extends StreamReaderDelegate {
+
+  protected ValidatorHandler validatorHandler;
+  protected SAXException validationException;
+
+  public SchemaValidatingXMLStreamReader(XMLStreamReader reader, Schema schema) throws SAXException {
+    super(reader);
+    this.validatorHandler = schema.newValidatorHandler();
+    this.validatorHandler.setDocumentLocator(new StreamLocator());
+    this.validatorHandler.startDocument();
+  }
+
+  @Override
+  public int next() throws XMLStreamException {
+    int eventType = super.next();
+    if (validationException == null) {
+      try {
+        validate(eventType);
+      } catch (SAXException e) {
+        validationException = e;
+        throw new XMLStreamException(e.getMessage(), getLocation(), e);
+      }
+    }
+    return eventType;
+  }
+
+  protected void validate(int eventType) throws SAXException {
+    switch (eventType) {
+      case START_ELEMENT:
+        for (int i = 0; i < getNamespaceCount(); i++) {
+          validatorHandler.startPrefixMapping(nullToEmpty(getNamespacePrefix(i)), nullToEmpty(getNamespaceURI(i)));
+        }
+        validatorHandler.startElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()), getAttributes());
+        break;
+
+      case END_ELEMENT:
+        validatorHandler.endElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()));
+        for (int i = 0; i < getNamespaceCount(); i++) {
+          validatorHandler.endPrefixMapping(nullToEmpty(getNamespacePrefix(i)));
+        }
+        break;
+
+      case CHARACTERS:
+      case CDATA:
+      case SPACE:
+        validatorHandler.characters(getTextCharacters(), getTextStart(), getTextLength());
+        break;
+
+      case END_DOCUMENT:
+        validatorHandler.endDocument();
+        break;
+
+      default:
+        // comments and processing instructions are not validated
+    }
+  }
+
+  protected AttributesImpl getAttributes() {
+    AttributesImpl attributes = new AttributesImpl();
+    for (int i = 0; i < getAttributeCount(); i++) {
+      QName name = getAttributeName(i);
+      String type = getAttributeType(i) != null ? getAttributeType(i) : "CDATA";
+      attributes.addAttribute(nullToEmpty(name.getNamespaceURI()), name.getLocalPart(), qualifiedName(name.getPrefix(), name.getLocalPart()),
+          type, getAttributeValue(i));
+    }
+    return attributes;
+  }
+
+  /**
+   * Reads the rest of the document, to validate the part that was not read.
+   */
+  public void validateRemainder() throws XMLStreamException {
+    while (validationException == null && hasNext()) {
+      next();
+    }
+  }
+
+  @Override
+  public String getElementText() throws XMLStreamException {
+    if (getEventType() != START_ELEMENT) {
+      throw new XMLStreamException("parser must be on START_ELEMENT to read next text", getLocation());
+    }
+    StringBuilder content = new StringBuilder();
+    int eventType = next();
+    while (eventType != END_ELEMENT) {
+      if (eventType == CHARACTERS || eventType == CDATA || eventType == SPACE || eventType == ENTITY_REFERENCE) {
+        content.append(getText());
+      } else if (eventType == END_DOCUMENT) {
+        throw new XMLStreamException("unexpected end of document when reading element text content", getLocation());
+      } else if (eventType == START_ELEMENT) {
+        throw new XMLStreamException("element text content may not contain START_ELEMENT", getLocation());
+      } else if (eventType != PROCESSING_INSTRUCTION && eventType != COMMENT) {
+        throw new XMLStreamException("Unexpected event type " + eventType, getLocation());
+      }
+      eventType = next();
+    }
+    return content.toString();
+  }
+
+  @Override
+  public int nextTag() throws XMLStreamException {
+    int eventType = next();
+    while ((eventType == CHARACTERS && isWhiteSpace()) || (eventType == CDATA && isWhiteSpace()) || eventType == SPACE
+        || eventType == PROCESSING_INSTRUCTION || eventType == COMMENT) {
+      eventType = next();
+    }
+    if (eventType != START_ELEMENT && eventType != END_ELEMENT) {
+      throw new XMLStreamException("expected start or end tag", getLocation());
+    }
+    return eventType;
+  }
+
+  public SAXException getValidationException() {
+    return validationException;
+  }
+
+  protected String qualifiedName(String prefix, String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  protected String nullToEmpty(String value) {
+    return value != null ? value : "";
+  }
+
+  /**
+   * Gives the validator the position in the document, for the line and column numbers of the validation errors.
+   */
+  protected class StreamLocator implements Locator {
+
+    public String getPublicId() {
+      Location location = getLocation();
+      return location != null ? location.getPublicId() : null;
+    }
+
+    public String getSystemId() {
+      Location location = getLocation();
+      return location != null ? location.getSystemId() : null;
+    }
+
+    public int getLineNumber() {
+      Location location = getLocation();
+      return location != null ? location.getLineNumber() : -1;
+    }
+
+    public int getColumnNumber() {
+      Location location = getLocation();
+      return location != null ? location.getColumnNumber() : -1;
+    }
+  }
+
+}
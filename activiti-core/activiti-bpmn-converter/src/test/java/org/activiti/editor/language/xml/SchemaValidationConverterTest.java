@@ -0,0 +1,36 @@
+package org.activiti.editor.language.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.activiti.bpmn.converter.BpmnXMLConverter;
+import org.activiti.bpmn.exceptions.XMLException;
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.Process;
+import org.activiti.bpmn.model.UserTask;
+import org.junit.jupiter.api.Test;
+
+public class SchemaValidationConverterTest {
+
+  @Test
+  public void validateAndConvertInSinglePass() {
+    BpmnModel bpmnModel = convert("schemaValidation.bpmn");
+
+    Process process = bpmnModel.getMainProcess();
+    assertThat(process.getId()).isEqualTo("schemaValidation");
+    assertThat(process.getDocumentation()).isEqualTo("Validated and parsed in a single pass");
+    assertThat(process.getFlowElements()).hasSize(5);
+    assertThat(((UserTask) process.getFlowElement("task")).getAssignee()).isEqualTo("kermit");
+  }
+
+  @Test
+  public void validationErrorIsReported() {
+    assertThatExceptionOfType(XMLException.class)
+      .isThrownBy(() -> convert("schemaValidationInvalid.bpmn"))
+      .withMessageContaining("unknownAttribute");
+  }
+
+  protected BpmnModel convert(String resource) {
+    return new BpmnXMLConverter().convertToBpmnModel(() -> getClass().getClassLoader().getResourceAsStream(resource), true, true);
+  }
+}
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.delegate.event;
+
+/**
+ * An {@link ActivitiEventListener} that is not notified on the engine thread while the command is executing.
+ * 
+ * Events for this listener are buffered in the current command context and, once the transaction has been
+ * committed successfully, handed over to a bounded executor. Events of the same process instance are
+ * delivered in the order they were dispatched. Events dispatched by a command that fails are dropped.
+ * 
+ * As the command context is closed when the listener is notified, implementations should only rely on
+ * the state that is available on the event itself. The value of {@link #isFailOnException()} is ignored,
+ * exceptions thrown by the listener are logged.
+ */
+public interface ActivitiPostCommitEventListener extends ActivitiEventListener {
+
+}
@@ -22,6 +22,9 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.delegate.event.ActivitiEvent;
 import org.activiti.engine.delegate.event.ActivitiEventListener;
 import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.delegate.event.ActivitiPostCommitEventListener;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,6 +103,10 @@ public class ActivitiEventSupport {
   }
 
   protected void dispatchEvent(ActivitiEvent event, ActivitiEventListener listener) {
+    if (listener instanceof ActivitiPostCommitEventListener && bufferPostCommitEvent(event, (ActivitiPostCommitEventListener) listener)) {
+      return;
+    }
+
     try {
       listener.onEvent(event);
     } catch (Throwable t) {
@@ -113,6 +120,21 @@ public class ActivitiEventSupport {
     }
   }
 
+  /**
+   * Buffers the event in the current command context, to be handed over to the {@link PostCommitEventExecutor}
+   * after a successful commit. Returns false when there is no command context, in which case the listener is
+   * notified immediately.
+   */
+  protected boolean bufferPostCommitEvent(ActivitiEvent event, ActivitiPostCommitEventListener listener) {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext == null) {
+      return false;
+    }
+    PostCommitEventExecutor executor = commandContext.getProcessEngineConfiguration().getOrCreatePostCommitEventExecutor();
+    PostCommitEventBuffer.getOrCreate(commandContext, executor).add(listener, event);
+    return true;
+  }
+
   protected synchronized void addTypedEventListener(ActivitiEventListener listener, ActivitiEventType type) {
     List<ActivitiEventListener> listeners = typedListeners.get(type);
     if (listeners == null) {
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.delegate.event.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiPostCommitEventListener;
+import org.activiti.engine.impl.cfg.TransactionContext;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Collects the events for {@link ActivitiPostCommitEventListener}s during a command and hands them over to the
+ * {@link PostCommitEventExecutor} once the transaction has been committed. When the engine takes part in an
+ * outer (e.g. Spring managed) transaction, the events are only handed over when that transaction commits and
+ * are dropped when it rolls back. Without a transaction context the buffer falls back to the closing of the
+ * command context.
+ */
+public class PostCommitEventBuffer implements CommandContextCloseListener {
+
+  protected static final String ATTRIBUTE_NAME = PostCommitEventBuffer.class.getName();
+
+  protected PostCommitEventExecutor executor;
+  protected List<ActivitiPostCommitEventListener> listeners = new ArrayList<ActivitiPostCommitEventListener>();
+  protected List<ActivitiEvent> events = new ArrayList<ActivitiEvent>();
+
+  public PostCommitEventBuffer(PostCommitEventExecutor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Returns the buffer of the given command context, registering a new one when none exists yet.
+   */
+  public static PostCommitEventBuffer getOrCreate(CommandContext commandContext, PostCommitEventExecutor executor) {
+    PostCommitEventBuffer buffer = commandContext.getGenericAttribute(ATTRIBUTE_NAME);
+    if (buffer == null) {
+      buffer = new PostCommitEventBuffer(executor);
+      commandContext.addAttribute(ATTRIBUTE_NAME, buffer);
+      TransactionContext transactionContext = Context.getTransactionContext();
+      if (transactionContext != null) {
+        final PostCommitEventBuffer committedBuffer = buffer;
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> committedBuffer.submitAll());
+        transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> committedBuffer.dropAll());
+      } else {
+        commandContext.addCloseListener(buffer);
+      }
+    }
+    return buffer;
+  }
+
+  public void add(ActivitiPostCommitEventListener listener, ActivitiEvent event) {
+    listeners.add(listener);
+    events.add(event);
+  }
+
+  @Override
+  public void closing(CommandContext commandContext) {
+  }
+
+  @Override
+  public void afterSessionsFlush(CommandContext commandContext) {
+  }
+
+  @Override
+  public void closed(CommandContext commandContext) {
+    submitAll();
+  }
+
+  @Override
+  public void closeFailure(CommandContext commandContext) {
+    dropAll();
+  }
+
+  protected void submitAll() {
+    for (int i = 0; i < events.size(); i++) {
+      executor.submit(listeners.get(i), events.get(i));
+    }
+    clear();
+  }
+
+  protected void dropAll() {
+    executor.dropped(events.size());
+    clear();
+  }
+
+  protected void clear() {
+    listeners.clear();
+    events.clear();
+  }
+
+}
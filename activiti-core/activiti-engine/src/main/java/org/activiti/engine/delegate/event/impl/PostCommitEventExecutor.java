@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.delegate.event.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiPostCommitEventListener;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notifies {@link ActivitiPostCommitEventListener}s outside of the engine thread.
+ *
+ * Events are distributed over a fixed number of lanes, based on the process instance id of the event. Every lane
+ * is served by a single thread and has a bounded queue, so that events of the same process instance are delivered
+ * in order. When the queue of a lane is full, the submitting thread waits until there is room again (back-pressure).
+ */
+public class PostCommitEventExecutor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PostCommitEventExecutor.class);
+
+  protected int laneCount;
+  protected int queueSize;
+  protected long secondsToWaitOnShutdown = 60L;
+
+  protected ThreadPoolExecutor[] lanes;
+
+  protected final AtomicLong submittedEventCount = new AtomicLong();
+  protected final AtomicLong deliveredEventCount = new AtomicLong();
+  protected final AtomicLong failedEventCount = new AtomicLong();
+  protected final AtomicLong droppedEventCount = new AtomicLong();
+  protected final AtomicLong blockedSubmissionCount = new AtomicLong();
+
+  public PostCommitEventExecutor(int laneCount, int queueSize) {
+    if (laneCount < 1 || queueSize < 1) {
+      throw new ActivitiException("Lane count and queue size of the post commit event executor must be at least 1");
+    }
+    this.laneCount = laneCount;
+    this.queueSize = queueSize;
+    initLanes();
+  }
+
+  protected void initLanes() {
+    lanes = new ThreadPoolExecutor[laneCount];
+    RejectedExecutionHandler waitForRoomPolicy = new WaitForRoomPolicy();
+    for (int i = 0; i < laneCount; i++) {
+      BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+          .namingPattern("activiti-post-commit-event-lane-" + i + "-%d")
+          .daemon(true)
+          .build();
+      lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<Runnable>(queueSize), threadFactory, waitForRoomPolicy);
+    }
+  }
+
+  public void submit(final ActivitiPostCommitEventListener listener, final ActivitiEvent event) {
+    submittedEventCount.incrementAndGet();
+    try {
+      getLane(event).execute(new Runnable() {
+        public void run() {
+          try {
+            listener.onEvent(event);
+            deliveredEventCount.incrementAndGet();
+          } catch (Throwable t) {
+            failedEventCount.incrementAndGet();
+            LOG.warn("Exception while executing post commit event-listener, which was ignored", t);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      droppedEventCount.incrementAndGet();
+      LOG.warn("Post commit event {} could not be handed over and was dropped: {}", event.getType(), e.getMessage());
+    }
+  }
+
+  /**
+   * Records that the given number of events were not handed over because the command that dispatched them failed.
+   */
+  public void dropped(int eventCount) {
+    droppedEventCount.addAndGet(eventCount);
+  }
+
+  protected ThreadPoolExecutor getLane(ActivitiEvent event) {
+    String processInstanceId = event.getProcessInstanceId();
+    if (processInstanceId == null || laneCount == 1) {
+      return lanes[0];
+    }
+    return lanes[(processInstanceId.hashCode() & Integer.MAX_VALUE) % laneCount];
+  }
+
+  public void shutdown() {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+    try {
+      for (ThreadPoolExecutor lane : lanes) {
+        if (!lane.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+          LOG.warn("Timeout during shutdown of post commit event executor. The lane still has {} queued events", lane.getQueue().size());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while shutting down the post commit event executor", e);
+    }
+  }
+
+  // metrics //////////////////////////////////////////////////////////////////
+
+  public int getQueuedEventCount() {
+    int queued = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      queued += lane.getQueue().size();
+    }
+    return queued;
+  }
+
+  public long getSubmittedEventCount() {
+    return submittedEventCount.get();
+  }
+
+  public long getDeliveredEventCount() {
+    return deliveredEventCount.get();
+  }
+
+  public long getFailedEventCount() {
+    return failedEventCount.get();
+  }
+
+  public long getDroppedEventCount() {
+    return droppedEventCount.get();
+  }
+
+  /**
+   * @return the number of times a committing thread had to wait because the queue of a lane was full.
+   */
+  public long getBlockedSubmissionCount() {
+    return blockedSubmissionCount.get();
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  public int getLaneCount() {
+    return laneCount;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public long getSecondsToWaitOnShutdown() {
+    return secondsToWaitOnShutdown;
+  }
+
+  public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+    this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+  }
+
+  protected class WaitForRoomPolicy implements RejectedExecutionHandler {
+
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+      if (executor.isShutdown()) {
+        throw new RejectedExecutionException("Post commit event executor has been shut down");
+      }
+      blockedSubmissionCount.incrementAndGet();
+      try {
+        executor.getQueue().put(runnable);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RejectedExecutionException("Interrupted while waiting for room in the post commit event queue", e);
+      }
+    }
+  }
+
+}
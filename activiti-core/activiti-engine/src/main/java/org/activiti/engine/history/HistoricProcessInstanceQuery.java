@@ -14,6 +14,7 @@
 package org.activiti.engine.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -296,10 +297,16 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
   HistoricProcessInstanceQuery includeProcessVariables();
   
   /**
-   * Limit process instance variables
+   * Limit process instance variables.
+   * The variables of a page of process instances are loaded with a separate query, so this limit is no longer applied.
    */
   HistoricProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit);
 
+  /**
+   * Only include the process variables with the given names in the process query result, when process variables are included.
+   */
+  HistoricProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames);
+
   /**
    * Only select process instances that failed due to an exception happening during a job execution.
    */
@@ -14,6 +14,7 @@ package org.activiti.engine.impl;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiIllegalArgumentException;
@@ -39,8 +40,10 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
   public static final String SORTORDER_ASC = "asc";
   public static final String SORTORDER_DESC = "desc";
 
+  protected static final String ID_ORDER_COLUMN = "RES.ID_";
+
   private static enum ResultType {
-    LIST, LIST_PAGE, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, SINGLE_RESULT, COUNT, COUNT_UP_TO, FOR_EACH
   }
 
   protected transient CommandExecutor commandExecutor;
@@ -60,6 +63,20 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
   protected NullHandlingOnOrder nullHandlingOnOrder;
 
+  // the first order, used for keyset pagination
+  protected String firstOrderColumn;
+  protected String firstSortOrder;
+  protected int orderCount;
+  protected boolean nullHandlingOnAnyOrder;
+
+  protected Object seekAfterOrderValue;
+  protected String seekAfterId;
+
+  protected int countLimit;
+  protected transient Consumer<? super U> resultConsumer;
+
+  protected boolean useReadReplica;
+
   protected AbstractQuery() {
     parameter = this;
   }
@@ -96,6 +113,22 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     return (T) this;
   }
 
+  @SuppressWarnings("unchecked")
+  public T seekAfter(Object orderValue, String id) {
+    if (id == null) {
+      throw new ActivitiIllegalArgumentException("id is null");
+    }
+    this.seekAfterOrderValue = orderValue;
+    this.seekAfterId = id;
+    return (T) this;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T useReadReplica() {
+    this.useReadReplica = true;
+    return (T) this;
+  }
+
   public T asc() {
     return direction(Direction.ASCENDING);
   }
@@ -119,6 +152,17 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     if (orderProperty != null) {
       throw new ActivitiIllegalArgumentException("Invalid query: call asc() or desc() after using orderByXX()");
     }
+    if (seekAfterId != null) {
+      if (!isSeekAfterSupported()) {
+        throw new ActivitiIllegalArgumentException("Invalid query: seekAfter() is not supported by " + getClass().getSimpleName());
+      }
+      if (orderCount > 1 || nullHandlingOnAnyOrder) {
+        throw new ActivitiIllegalArgumentException("Invalid query: seekAfter() requires ordering by at most one property, without null handling");
+      }
+      if (getSeekAfterOrderColumn() != null && seekAfterOrderValue == null) {
+        throw new ActivitiIllegalArgumentException("Invalid query: seekAfter() requires the value of the order property");
+      }
+    }
   }
 
   @SuppressWarnings("unchecked")
@@ -158,6 +202,35 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     return executeCount(Context.getCommandContext());
   }
 
+  public long countUpTo(int limit) {
+    if (limit < 0) {
+      throw new ActivitiIllegalArgumentException("limit must not be negative");
+    }
+    this.countLimit = limit;
+    this.resultType = ResultType.COUNT_UP_TO;
+    if (commandExecutor != null) {
+      return (Long) commandExecutor.execute(this);
+    }
+    return executeCountUpTo(Context.getCommandContext(), limit);
+  }
+
+  public void forEach(Consumer<? super U> consumer) {
+    if (consumer == null) {
+      throw new ActivitiIllegalArgumentException("consumer is null");
+    }
+    this.resultConsumer = consumer;
+    this.resultType = ResultType.FOR_EACH;
+    try {
+      if (commandExecutor != null) {
+        commandExecutor.execute(this);
+      } else {
+        executeForEach(Context.getCommandContext(), consumer);
+      }
+    } finally {
+      this.resultConsumer = null;
+    }
+  }
+
   public Object execute(CommandContext commandContext) {
     if (resultType == ResultType.LIST) {
       return executeList(commandContext, null);
@@ -165,6 +238,11 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
       return executeSingleResult(commandContext);
     } else if (resultType == ResultType.LIST_PAGE) {
       return executeList(commandContext, null);
+    } else if (resultType == ResultType.COUNT_UP_TO) {
+      return executeCountUpTo(commandContext, countLimit);
+    } else if (resultType == ResultType.FOR_EACH) {
+      executeForEach(commandContext, resultConsumer);
+      return null;
     } else {
       return executeCount(commandContext);
     }
@@ -172,6 +250,13 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
   public abstract long executeCount(CommandContext commandContext);
 
+  /**
+   * Counts at most limit + 1 results. Queries that have no bounded count statement count all results.
+   */
+  public long executeCountUpTo(CommandContext commandContext, int limit) {
+    return Math.min(executeCount(commandContext), (long) limit + 1);
+  }
+
   /**
    * Executes the actual query to retrieve the list of results.
    * 
@@ -180,6 +265,22 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
    */
   public abstract List<U> executeList(CommandContext commandContext, Page page);
 
+  /**
+   * Executes the query and hands the results to the consumer. Queries that have no streaming statement hand over the list of results.
+   */
+  public void executeForEach(CommandContext commandContext, Consumer<? super U> consumer) {
+    for (U result : executeList(commandContext, null)) {
+      consumer.accept(result);
+    }
+  }
+
+  /**
+   * @return true if the mapping of the query applies the seek predicate of {@link #seekAfter(Object, String)}.
+   */
+  protected boolean isSeekAfterSupported() {
+    return false;
+  }
+
   public U executeSingleResult(CommandContext commandContext) {
     List<U> results = executeList(commandContext, null);
     if (results.size() == 1) {
@@ -192,6 +293,15 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
   protected void addOrder(String column, String sortOrder, NullHandlingOnOrder nullHandlingOnOrder) {
 
+    if (orderCount == 0) {
+      firstOrderColumn = column;
+      firstSortOrder = sortOrder;
+    }
+    orderCount++;
+    if (nullHandlingOnOrder != null) {
+      nullHandlingOnAnyOrder = true;
+    }
+
     if (orderBy == null) {
       orderBy = "";
     } else {
@@ -239,11 +349,21 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
   public String getOrderBy() {
     if (orderBy == null) {
       return super.getOrderBy();
+    } else if (isKeysetOrder() && !ID_ORDER_COLUMN.equals(firstOrderColumn)) {
+      // the id makes the order unique, which keyset pagination relies on from the first page on
+      return orderBy + ", " + ID_ORDER_COLUMN + " " + firstSortOrder;
     } else {
       return orderBy;
     }
   }
   
+  /**
+   * @return true if the order of the query can be continued with {@link #seekAfter(Object, String)}.
+   */
+  protected boolean isKeysetOrder() {
+    return isSeekAfterSupported() && orderCount == 1 && !nullHandlingOnAnyOrder;
+  }
+
   public String getOrderByColumns() {
       return getOrderBy();
   }
@@ -252,6 +372,39 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     return databaseType;
   }
 
+  /**
+   * @return true if the seek predicate must be applied: keyset pagination was requested and the results are selected, not counted.
+   */
+  public boolean isSeekAfter() {
+    return seekAfterId != null && resultType != ResultType.COUNT && resultType != ResultType.COUNT_UP_TO;
+  }
+
+  public Object getSeekAfterOrderValue() {
+    return seekAfterOrderValue;
+  }
+
+  public String getSeekAfterId() {
+    return seekAfterId;
+  }
+
+  public boolean isUseReadReplica() {
+    return useReadReplica;
+  }
+
+  /**
+   * @return the column the query is ordered by, or null if the query is ordered by id only.
+   */
+  public String getSeekAfterOrderColumn() {
+    if (orderCount == 0 || ID_ORDER_COLUMN.equals(firstOrderColumn)) {
+      return null;
+    }
+    return firstOrderColumn;
+  }
+
+  public String getSeekAfterOperator() {
+    return SORTORDER_DESC.equals(firstSortOrder) ? "<" : ">";
+  }
+
   public void setDatabaseType(String databaseType) {
     this.databaseType = databaseType;
   }
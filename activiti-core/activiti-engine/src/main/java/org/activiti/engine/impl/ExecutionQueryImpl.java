@@ -372,6 +372,11 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
     return commandContext.getExecutionEntityManager().findExecutionCountByQueryCriteria(this);
   }
 
+  @Override
+  protected boolean isSeekAfterSupported() {
+    return true;
+  }
+
   @SuppressWarnings({ "unchecked" })
   public List<Execution> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
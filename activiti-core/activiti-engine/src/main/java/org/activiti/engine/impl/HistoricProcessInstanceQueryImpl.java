@@ -14,9 +14,11 @@
 package org.activiti.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiIllegalArgumentException;
@@ -68,6 +70,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
   protected String involvedUser;
   protected boolean includeProcessVariables;
   protected Integer processInstanceVariablesLimit;
+  protected Collection<String> includedVariableNames;
   protected boolean withJobException;
   protected String tenantId;
   protected String tenantIdLike;
@@ -332,6 +335,15 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
   public Integer getProcessInstanceVariablesLimit() {
     return processInstanceVariablesLimit;
   }
+
+  public HistoricProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames) {
+    this.includedVariableNames = variableNames;
+    return this;
+  }
+
+  public Collection<String> getIncludedVariableNames() {
+    return includedVariableNames;
+  }
   
   public HistoricProcessInstanceQuery withJobException() {
     this.withJobException = true;
@@ -585,6 +597,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return commandContext.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceCountByQueryCriteria(this);
   }
 
+  @Override
+  protected boolean isSeekAfterSupported() {
+    return true;
+  }
+
   public List<HistoricProcessInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
     ensureVariablesInitialized();
@@ -604,6 +621,24 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return results;
   }
 
+  @Override
+  public void executeForEach(CommandContext commandContext, Consumer<? super HistoricProcessInstance> consumer) {
+    if (includeProcessVariables) {
+      super.executeForEach(commandContext, consumer);
+      return;
+    }
+
+    checkQueryOk();
+    ensureVariablesInitialized();
+    final boolean localize = Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableLocalization();
+    commandContext.getHistoricProcessInstanceEntityManager().streamHistoricProcessInstancesByQueryCriteria(this, processInstance -> {
+      if (localize) {
+        localize(processInstance, commandContext);
+      }
+      consumer.accept(processInstance);
+    });
+  }
+
   protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
     HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
     processInstanceEntity.setLocalizedName(null);
@@ -637,15 +672,6 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     }
   }
 
-  @Override
-  protected void checkQueryOk() {
-    super.checkQueryOk();
-
-    if (includeProcessVariables) {
-      this.orderBy(HistoricProcessInstanceQueryProperty.INCLUDED_VARIABLE_TIME).asc();
-    }
-  }
-  
   public String getBusinessKey() {
     return businessKey;
   }
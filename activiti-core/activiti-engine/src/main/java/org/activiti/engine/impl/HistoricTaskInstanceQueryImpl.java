@@ -16,6 +16,7 @@ package org.activiti.engine.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -131,6 +132,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     return commandContext.getHistoricTaskInstanceEntityManager().findHistoricTaskInstanceCountByQueryCriteria(this);
   }
 
+  @Override
+  protected boolean isSeekAfterSupported() {
+    return true;
+  }
+
   @Override
   public List<HistoricTaskInstance> executeList(CommandContext commandContext, Page page) {
     ensureVariablesInitialized();
@@ -151,6 +157,24 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     return tasks;
   }
 
+  @Override
+  public void executeForEach(CommandContext commandContext, Consumer<? super HistoricTaskInstance> consumer) {
+    if (includeTaskLocalVariables || includeProcessVariables) {
+      super.executeForEach(commandContext, consumer);
+      return;
+    }
+
+    ensureVariablesInitialized();
+    checkQueryOk();
+    final boolean localize = Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableLocalization();
+    commandContext.getHistoricTaskInstanceEntityManager().streamHistoricTaskInstancesByQueryCriteria(this, task -> {
+      if (localize) {
+        localize(task);
+      }
+      consumer.accept(task);
+    });
+  }
+
   public HistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
     if (inOrStatement) {
       this.currentOrQueryObject.processInstanceId = processInstanceId;
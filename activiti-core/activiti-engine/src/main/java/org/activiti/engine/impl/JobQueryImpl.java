@@ -36,6 +36,7 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
   protected String processInstanceId;
   protected String executionId;
   protected String processDefinitionId;
+  protected String handlerType;
   protected boolean retriesLeft;
   protected boolean executable;
   protected boolean onlyTimers;
@@ -88,6 +89,14 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
     return this;
   }
 
+  public JobQueryImpl handlerType(String handlerType) {
+    if (handlerType == null) {
+      throw new ActivitiIllegalArgumentException("Provided handler type is null");
+    }
+    this.handlerType = handlerType;
+    return this;
+  }
+
   public JobQueryImpl executionId(String executionId) {
     if (executionId == null) {
       throw new ActivitiIllegalArgumentException("Provided execution id is null");
@@ -303,6 +312,10 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
     return processDefinitionId;
   }
 
+  public String getHandlerType() {
+    return handlerType;
+  }
+
   public boolean isOnlyTimers() {
     return onlyTimers;
   }
@@ -93,6 +93,14 @@ public class ProcessEngineImpl implements ProcessEngine {
       asyncExecutor.shutdown();
     }
 
+    if (processEngineConfiguration.getPostCommitEventExecutor() != null) {
+      processEngineConfiguration.getPostCommitEventExecutor().shutdown();
+    }
+
+    if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+      processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+    }
+
     commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationProcessEngineClose());
 
     if (processEngineConfiguration.getProcessEngineLifecycleListener() != null) {
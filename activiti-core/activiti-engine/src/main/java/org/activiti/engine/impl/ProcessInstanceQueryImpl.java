@@ -15,6 +15,7 @@ package org.activiti.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -65,6 +66,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
   protected SuspensionState suspensionState;
   protected boolean includeProcessVariables;
   protected Integer processInstanceVariablesLimit;
+  protected Collection<String> includedVariableNames;
   protected boolean withJobException;
   protected String name;
   protected String nameLike;
@@ -380,6 +382,15 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
   public Integer getProcessInstanceVariablesLimit() {
     return processInstanceVariablesLimit;
   }
+
+  public ProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames) {
+    this.includedVariableNames = variableNames;
+    return this;
+  }
+
+  public Collection<String> getIncludedVariableNames() {
+    return includedVariableNames;
+  }
   
   public ProcessInstanceQuery withJobException() {
     this.withJobException = true;
@@ -621,6 +632,18 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     return commandContext.getExecutionEntityManager().findProcessInstanceCountByQueryCriteria(this);
   }
 
+  @Override
+  public long executeCountUpTo(CommandContext commandContext, int limit) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    return commandContext.getExecutionEntityManager().findProcessInstanceCountUpToByQueryCriteria(this, limit);
+  }
+
+  @Override
+  protected boolean isSeekAfterSupported() {
+    return true;
+  }
+
   public List<ProcessInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
     ensureVariablesInitialized();
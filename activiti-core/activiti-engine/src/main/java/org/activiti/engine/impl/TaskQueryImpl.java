@@ -13,6 +13,7 @@
 package org.activiti.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -108,6 +109,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
   protected boolean includeTaskLocalVariables;
   protected boolean includeProcessVariables;
   protected Integer taskVariablesLimit;
+  protected Collection<String> includedVariableNames;
   protected String userIdForCandidateAndAssignee;
   protected boolean bothCandidateAndAssigned;
   protected String locale;
@@ -1200,6 +1202,15 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     return taskVariablesLimit;
   }
 
+  public TaskQuery limitIncludedVariables(Collection<String> variableNames) {
+    this.includedVariableNames = variableNames;
+    return this;
+  }
+
+  public Collection<String> getIncludedVariableNames() {
+    return includedVariableNames;
+  }
+
   public List<String> getCandidateGroups(){
     if (candidateGroup != null) {
       List<String> candidateGroupList = new ArrayList<String>(1);
@@ -1347,6 +1358,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
   // results ////////////////////////////////////////////////////////////////
 
+  @Override
+  protected boolean isSeekAfterSupported() {
+    return true;
+  }
+
   public List<Task> executeList(CommandContext commandContext, Page page) {
     ensureVariablesInitialized();
     checkQueryOk();
@@ -1372,6 +1388,13 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     return commandContext.getTaskEntityManager().findTaskCountByQueryCriteria(this);
   }
 
+  @Override
+  public long executeCountUpTo(CommandContext commandContext, int limit) {
+    ensureVariablesInitialized();
+    checkQueryOk();
+    return commandContext.getTaskEntityManager().findTaskCountUpToByQueryCriteria(this, limit);
+  }
+
   protected void localize(Task task) {
     task.setLocalizedName(null);
     task.setLocalizedDescription(null);
@@ -1637,6 +1660,17 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     return bothCandidateAndAssigned;
   }
 
+  /**
+   * @return true if the query only filters on candidate users or groups, so that the candidate task inbox
+   *         can be used instead of the identity links.
+   */
+  public boolean isUseTaskInbox() {
+    return (candidateUser != null || candidateGroup != null || candidateGroups != null)
+        && !bothCandidateAndAssigned
+        && involvedGroups == null
+        && Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableTaskInbox();
+  }
+
   public String getNameLikeIgnoreCase() {
     return nameLikeIgnoreCase;
   }
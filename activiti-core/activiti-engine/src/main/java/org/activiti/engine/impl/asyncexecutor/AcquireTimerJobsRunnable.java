@@ -12,6 +12,9 @@
  */
 package org.activiti.engine.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.activiti.engine.ActivitiOptimisticLockingException;
@@ -54,21 +57,17 @@ public class AcquireTimerJobsRunnable implements Runnable {
     while (!isInterrupted) {
 
       try {
-        final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
-
-        commandExecutor.execute(new Command<Void>() {
-
-          @Override
-          public Void execute(CommandContext commandContext) {
-            for (TimerJobEntity job : acquiredJobs.getJobs()) {
-              jobManager.moveTimerJobToExecutableJob(job);
-            }
-            return null;
-          }
-        });
+        TimerJobWheelRunnable timerJobWheelRunnable = asyncExecutor.getTimerJobWheelRunnable();
+        final AcquiredTimerJobEntities acquiredJobs;
+        if (timerJobWheelRunnable != null) {
+          acquiredJobs = acquireTimerJobsIntoWheel(commandExecutor, timerJobWheelRunnable);
+        } else {
+          acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+          moveTimerJobsToExecutableJobs(commandExecutor, new ArrayList<TimerJobEntity>(acquiredJobs.getJobs()));
+        }
         
         // if all jobs were executed
-        millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        millisToWait = timerJobWheelRunnable != null ? timerJobWheelRunnable.getLookAheadInMillis() / 2 : asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
         int jobsAcquired = acquiredJobs.size();
         if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
           millisToWait = 0; 
@@ -115,6 +114,50 @@ public class AcquireTimerJobsRunnable implements Runnable {
     log.info("{} stopped async job due acquisition");
   }
 
+  protected void moveTimerJobsToExecutableJobs(CommandExecutor commandExecutor, final List<TimerJobEntity> timerJobs) {
+    commandExecutor.execute(new Command<Void>() {
+
+      @Override
+      public Void execute(CommandContext commandContext) {
+        jobManager.moveTimerJobsToExecutableJobs(timerJobs);
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Acquires the timer jobs that become due within the look-ahead time of the timing wheel. The due timer jobs are
+   * moved directly, the others are put in the wheel. Timer jobs that could not be moved are handed to the wheel too,
+   * which retries them: all timer jobs locked by this executor must be in the wheel, as it renews their lock.
+   */
+  protected AcquiredTimerJobEntities acquireTimerJobsIntoWheel(CommandExecutor commandExecutor, TimerJobWheelRunnable timerJobWheelRunnable) {
+    Date now = asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime();
+    Date dueBefore = new Date(now.getTime() + timerJobWheelRunnable.getLookAheadInMillis());
+    AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, dueBefore));
+
+    List<TimerJobEntity> dueJobs = new ArrayList<TimerJobEntity>();
+    for (TimerJobEntity job : acquiredJobs.getJobs()) {
+      if (job.getDuedate() == null || !job.getDuedate().after(now)) {
+        dueJobs.add(job);
+      } else {
+        timerJobWheelRunnable.schedule(job.getId(), job.getDuedate());
+      }
+    }
+
+    if (!dueJobs.isEmpty()) {
+      try {
+        moveTimerJobsToExecutableJobs(commandExecutor, dueJobs);
+      } catch (RuntimeException e) {
+        for (TimerJobEntity job : dueJobs) {
+          timerJobWheelRunnable.schedule(job.getId(), now);
+        }
+        throw e;
+      }
+    }
+
+    return acquiredJobs;
+  }
+
   public void stop() {
     synchronized (MONITOR) {
       isInterrupted = true;
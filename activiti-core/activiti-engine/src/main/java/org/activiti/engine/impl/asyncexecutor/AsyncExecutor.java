@@ -94,5 +94,21 @@ public interface AsyncExecutor {
   int getResetExpiredJobsPageSize();
   
   void setResetExpiredJobsPageSize(int resetExpiredJobsPageSize);
+
+  /**
+   * @return the partitioner that limits the acquisition of async jobs to the process instances of this node,
+   *         or null when all due jobs can be acquired.
+   */
+  default AsyncJobNodePartitioner getNodePartitioner() {
+    return null;
+  }
+
+  /**
+   * @return the runnable that moves the timer jobs due within its look-ahead time at their due time,
+   *         or null when timer jobs are only moved by the timer job acquisition.
+   */
+  default TimerJobWheelRunnable getTimerJobWheelRunnable() {
+    return null;
+  }
   
 }
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.ActivitiIllegalArgumentException;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.runtime.Job;
+
+/**
+ * Divides the async jobs over a number of nodes, based on the hash of the process instance id of the job
+ * (or the job id, for jobs that don't belong to a process instance). All jobs of a process instance are
+ * thus acquired by the same node, which avoids that nodes compete for the lock on the process instance.
+ *
+ * A job of another partition is acquired anyway once it has been passed over for
+ * {@link #takeoverTimeInMillis}, so that the jobs of a node that is down still get executed.
+ */
+public class AsyncJobNodePartitioner {
+
+  protected int partitionCount;
+  protected int partitionIndex;
+  protected long takeoverTimeInMillis;
+
+  // jobs of other partitions seen by the last acquisition, with the time they were first passed over
+  protected Map<String, Long> passedOverJobs = new HashMap<String, Long>();
+
+  public AsyncJobNodePartitioner(int partitionCount, int partitionIndex, long takeoverTimeInMillis) {
+    if (partitionCount < 1 || partitionIndex < 0 || partitionIndex >= partitionCount) {
+      throw new ActivitiIllegalArgumentException("Invalid node partition " + partitionIndex + " of " + partitionCount + " partitions");
+    }
+    this.partitionCount = partitionCount;
+    this.partitionIndex = partitionIndex;
+    this.takeoverTimeInMillis = takeoverTimeInMillis;
+  }
+
+  public boolean isPartitioned() {
+    return partitionCount > 1;
+  }
+
+  public int getPartition(Job job) {
+    return getPartition(job, partitionCount);
+  }
+
+  /**
+   * @return the partition, between 0 and the given count, of the process instance of the job.
+   *         Uses {@link String#hashCode()}, which is the same on every node.
+   */
+  public static int getPartition(Job job, int partitionCount) {
+    String key = job.getProcessInstanceId() != null ? job.getProcessInstanceId() : job.getId();
+    return (key.hashCode() & Integer.MAX_VALUE) % partitionCount;
+  }
+
+  /**
+   * Selects at most maxJobs jobs of this node from the given candidates, including jobs of other nodes that have been
+   * passed over for longer than the takeover time.
+   */
+  public synchronized List<JobEntity> selectJobs(List<JobEntity> candidates, int maxJobs, long currentTimeMillis) {
+    List<JobEntity> selectedJobs = new ArrayList<JobEntity>(maxJobs);
+    Map<String, Long> stillPassedOverJobs = new HashMap<String, Long>();
+
+    for (JobEntity job : candidates) {
+      boolean full = selectedJobs.size() >= maxJobs;
+
+      if (getPartition(job) == partitionIndex) {
+        if (!full) {
+          selectedJobs.add(job);
+        }
+
+      } else {
+        Long passedOverSince = passedOverJobs.get(job.getId());
+        if (passedOverSince == null) {
+          passedOverSince = currentTimeMillis;
+        }
+
+        if (!full && currentTimeMillis - passedOverSince >= takeoverTimeInMillis) {
+          selectedJobs.add(job);
+        } else {
+          stillPassedOverJobs.put(job.getId(), passedOverSince);
+        }
+      }
+    }
+
+    passedOverJobs = stillPassedOverJobs;
+    return selectedJobs;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public int getPartitionIndex() {
+    return partitionIndex;
+  }
+
+  public long getTakeoverTimeInMillis() {
+    return takeoverTimeInMillis;
+  }
+
+}
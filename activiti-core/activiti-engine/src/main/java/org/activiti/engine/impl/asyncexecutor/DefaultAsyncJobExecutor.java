@@ -63,6 +63,35 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
   /** The executor service used for job execution */
   protected ExecutorService executorService;
 
+  /**
+   * The number of serial lanes jobs are routed to, based on the process instance id of the job. Every lane is served by a
+   * single thread, so that the jobs of a process instance are executed one after the other instead of competing for the
+   * lock on the process instance. The queue size is divided over the lanes. When 0 (default), the thread pool is used.
+   */
+  protected int processInstanceLaneCount;
+
+  /** The single threaded executor services of the lanes, when {@link #processInstanceLaneCount} is set */
+  protected ThreadPoolExecutor[] processInstanceLanes;
+
+  /**
+   * The number of nodes over which the acquisition of async jobs is partitioned by process instance id, and the
+   * partition (0 based) of this node. Jobs of another partition are only acquired when they have not been acquired by
+   * their own node for {@link #nodePartitionTakeoverTimeInMillis}.
+   */
+  protected int nodePartitionCount = 1;
+  protected int nodePartitionIndex;
+  protected long nodePartitionTakeoverTimeInMillis = 5 * 60 * 1000;
+  protected AsyncJobNodePartitioner nodePartitioner;
+
+  /**
+   * When larger than 0, the timer jobs that become due within this time are acquired into a timing wheel, which moves
+   * them to the executable jobs at their due time instead of at the next timer job acquisition. Timer jobs created by
+   * this engine with a due date within this time are put in the wheel directly. The timer jobs are then acquired every
+   * half of the look-ahead time.
+   */
+  protected long timerJobWheelLookAheadInMillis;
+  protected long timerJobWheelTickInMillis = 100L;
+
   /**
    * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution
    */
@@ -71,8 +100,10 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
   protected Thread timerJobAcquisitionThread;
   protected Thread asyncJobAcquisitionThread;
   protected Thread resetExpiredJobThread;
+  protected Thread timerJobWheelThread;
   
   protected AcquireTimerJobsRunnable timerJobRunnable;
+  protected TimerJobWheelRunnable timerJobWheelRunnable;
   protected AcquireAsyncJobsDueRunnable asyncJobsDueRunnable;
   protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
   
@@ -115,7 +146,7 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
       runnable = createRunnableForJob(job);
       
       try {
-        executorService.execute(runnable);
+        getExecutorService(job).execute(runnable);
       } catch (RejectedExecutionException e) {
         
         // When a RejectedExecutionException is caught, this means that the queue for holding the jobs 
@@ -152,6 +183,16 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     return true;
   }
 
+  /**
+   * @return the lane of the process instance of the job, or the thread pool when no lanes are used.
+   */
+  protected ExecutorService getExecutorService(Job job) {
+    if (processInstanceLanes == null) {
+      return executorService;
+    }
+    return processInstanceLanes[AsyncJobNodePartitioner.getPartition(job, processInstanceLanes.length)];
+  }
+
   protected Runnable createRunnableForJob(final Job job) {
     if (executeAsyncRunnableFactory == null) {
       return new ExecuteAsyncRunnable(job, processEngineConfiguration);
@@ -175,6 +216,10 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     if (resetExpiredJobsRunnable == null) {
       resetExpiredJobsRunnable = new ResetExpiredJobsRunnable(this);
     }
+
+    if (timerJobWheelLookAheadInMillis > 0 && timerJobWheelRunnable == null) {
+      timerJobWheelRunnable = new TimerJobWheelRunnable(this, timerJobWheelLookAheadInMillis, timerJobWheelTickInMillis);
+    }
     
     if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
       asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(this);
@@ -185,6 +230,7 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
       startJobAcquisitionThread();
     }
     
+    startTimerJobWheelThread();
     startTimerAcquisitionThread();
     startResetExpiredJobsThread();
 
@@ -219,10 +265,12 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     
     stopResetExpiredJobsThread();
     stopTimerAcquisitionThread();
+    stopTimerJobWheelThread();
     stopJobAcquisitionThread();
     stopExecutingAsyncJobs();
 
     timerJobRunnable = null;
+    timerJobWheelRunnable = null;
     asyncJobsDueRunnable = null;
     resetExpiredJobsRunnable = null;
     
@@ -230,6 +278,11 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
   }
 
   protected void initAsyncJobExecutionThreadPool() {
+    if (processInstanceLaneCount > 0) {
+      initProcessInstanceLanes();
+      return;
+    }
+
     if (threadPoolQueue == null) {
       log.info("Creating thread pool queue of size {}", queueSize);
       threadPoolQueue = new ArrayBlockingQueue<Runnable>(queueSize);
@@ -243,7 +296,36 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     }
   }
 
+  protected void initProcessInstanceLanes() {
+    if (processInstanceLanes == null) {
+      int laneQueueSize = Math.max(1, queueSize / processInstanceLaneCount);
+      log.info("Creating {} process instance lanes with a queue size of {}", processInstanceLaneCount, laneQueueSize);
+
+      processInstanceLanes = new ThreadPoolExecutor[processInstanceLaneCount];
+      for (int i = 0; i < processInstanceLaneCount; i++) {
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("activiti-async-job-executor-lane-" + i + "-%d").build();
+        processInstanceLanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(laneQueueSize), threadFactory);
+      }
+    }
+  }
+
   protected void stopExecutingAsyncJobs() {
+    if (processInstanceLanes != null) {
+      for (ThreadPoolExecutor lane : processInstanceLanes) {
+        lane.shutdown();
+      }
+      try {
+        for (ThreadPoolExecutor lane : processInstanceLanes) {
+          if (!lane.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+            log.warn("Timeout during shutdown of async job executor. " + "The current running jobs of a lane could not end within " + secondsToWaitOnShutdown + " seconds after shutdown operation.");
+          }
+        }
+      } catch (InterruptedException e) {
+        log.warn("Interrupted while shutting down the async job executor. ", e);
+      }
+      processInstanceLanes = null;
+    }
+
     if (executorService != null) {
       
       // Ask the thread pool to finish and exit
@@ -300,6 +382,30 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     }
   }
   
+  protected void startTimerJobWheelThread() {
+    if (timerJobWheelRunnable != null) {
+      if (timerJobWheelThread == null) {
+        timerJobWheelThread = new Thread(timerJobWheelRunnable);
+      }
+      timerJobWheelThread.start();
+    }
+  }
+
+  /** Stops the timing wheel thread, after the timer job acquisition thread has stopped adding timer jobs to it */
+  protected void stopTimerJobWheelThread() {
+    if (timerJobWheelRunnable != null) {
+      timerJobWheelRunnable.stop();
+    }
+    if (timerJobWheelThread != null) {
+      try {
+        timerJobWheelThread.join();
+      } catch (InterruptedException e) {
+        log.warn("Interrupted while waiting for the timer job wheel thread to terminate", e);
+      }
+      timerJobWheelThread = null;
+    }
+  }
+  
   /** Starts the reset expired jobs thread */
   protected void startResetExpiredJobsThread() {
     if (resetExpiredJobThread == null) {
@@ -340,6 +446,15 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     maxTimerJobsPerAcquisition = processEngineConfiguration.getAsyncExecutorMaxTimerJobsPerAcquisition();
 
     retryWaitTimeInMillis = processEngineConfiguration.getAsyncFailedJobWaitTime();
+
+    processInstanceLaneCount = processEngineConfiguration.getAsyncExecutorProcessInstanceLaneCount();
+    nodePartitionCount = processEngineConfiguration.getAsyncExecutorNodePartitionCount();
+    nodePartitionIndex = processEngineConfiguration.getAsyncExecutorNodePartitionIndex();
+    nodePartitionTakeoverTimeInMillis = processEngineConfiguration.getAsyncExecutorNodePartitionTakeoverTimeInMillis();
+    nodePartitioner = null;
+
+    timerJobWheelLookAheadInMillis = processEngineConfiguration.getAsyncExecutorTimerJobWheelLookAheadInMillis();
+    timerJobWheelTickInMillis = processEngineConfiguration.getAsyncExecutorTimerJobWheelTickInMillis();
   }
 
   private void applyLockConfig(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -575,6 +690,76 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
   }
 
+  public AsyncJobNodePartitioner getNodePartitioner() {
+    if (nodePartitioner == null && nodePartitionCount > 1) {
+      nodePartitioner = new AsyncJobNodePartitioner(nodePartitionCount, nodePartitionIndex, nodePartitionTakeoverTimeInMillis);
+    }
+    return nodePartitioner;
+  }
+
+  public int getProcessInstanceLaneCount() {
+    return processInstanceLaneCount;
+  }
+
+  public void setProcessInstanceLaneCount(int processInstanceLaneCount) {
+    this.processInstanceLaneCount = processInstanceLaneCount;
+  }
+
+  public ThreadPoolExecutor[] getProcessInstanceLanes() {
+    return processInstanceLanes;
+  }
+
+  public int getNodePartitionCount() {
+    return nodePartitionCount;
+  }
+
+  public void setNodePartitionCount(int nodePartitionCount) {
+    this.nodePartitionCount = nodePartitionCount;
+    this.nodePartitioner = null;
+  }
+
+  public int getNodePartitionIndex() {
+    return nodePartitionIndex;
+  }
+
+  public void setNodePartitionIndex(int nodePartitionIndex) {
+    this.nodePartitionIndex = nodePartitionIndex;
+    this.nodePartitioner = null;
+  }
+
+  public long getNodePartitionTakeoverTimeInMillis() {
+    return nodePartitionTakeoverTimeInMillis;
+  }
+
+  public void setNodePartitionTakeoverTimeInMillis(long nodePartitionTakeoverTimeInMillis) {
+    this.nodePartitionTakeoverTimeInMillis = nodePartitionTakeoverTimeInMillis;
+    this.nodePartitioner = null;
+  }
+
+  public TimerJobWheelRunnable getTimerJobWheelRunnable() {
+    return timerJobWheelRunnable;
+  }
+
+  public void setTimerJobWheelRunnable(TimerJobWheelRunnable timerJobWheelRunnable) {
+    this.timerJobWheelRunnable = timerJobWheelRunnable;
+  }
+
+  public long getTimerJobWheelLookAheadInMillis() {
+    return timerJobWheelLookAheadInMillis;
+  }
+
+  public void setTimerJobWheelLookAheadInMillis(long timerJobWheelLookAheadInMillis) {
+    this.timerJobWheelLookAheadInMillis = timerJobWheelLookAheadInMillis;
+  }
+
+  public long getTimerJobWheelTickInMillis() {
+    return timerJobWheelTickInMillis;
+  }
+
+  public void setTimerJobWheelTickInMillis(long timerJobWheelTickInMillis) {
+    this.timerJobWheelTickInMillis = timerJobWheelTickInMillis;
+  }
+
   public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
     return executeAsyncRunnableFactory;
   }
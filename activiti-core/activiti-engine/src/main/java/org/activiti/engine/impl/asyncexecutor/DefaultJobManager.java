@@ -2,6 +2,7 @@ package org.activiti.engine.impl.asyncexecutor;
 
 import static java.util.Arrays.asList;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -27,8 +28,10 @@ import org.activiti.engine.impl.el.NoExecutionVariableScope;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.activiti.engine.impl.jobexecutor.AsyncJobAddedNotification;
+import org.activiti.engine.impl.jobexecutor.AsyncJobsAddedNotification;
 import org.activiti.engine.impl.jobexecutor.JobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerEventHandler;
+import org.activiti.engine.impl.jobexecutor.TimerJobAddedNotification;
 import org.activiti.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.activiti.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.activiti.engine.impl.persistence.entity.AbstractJobEntity;
@@ -103,6 +106,7 @@ public class DefaultJobManager implements JobManager {
     }
 
     processEngineConfiguration.getTimerJobEntityManager().insert(timerJob);
+    hintTimerJobWheelIfNeeded(timerJob);
 
     CommandContext commandContext = Context.getCommandContext();
     ActivitiEventDispatcher eventDispatcher = commandContext.getEventDispatcher();
@@ -127,11 +131,92 @@ public class DefaultJobManager implements JobManager {
     return null;
   }
 
+  /**
+   * Moves timer jobs that are locked by the async executor with one INSERT ... SELECT and one DELETE statement,
+   * instead of one insert and one delete per timer job. The executable jobs keep the id and the lock of the timer job,
+   * and are handed to the async executor after the commit without reading them again.
+   *
+   * Falls back to moving the timer jobs one by one when execution related entity counts are enabled (as these
+   * counts are kept on the execution entities) or when the timer jobs aren't locked by the active async executor.
+   */
+  @Override
+  public List<JobEntity> moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+    if (!isSetBasedMoveOfTimerJobsPossible(timerJobs)) {
+      return JobManager.super.moveTimerJobsToExecutableJobs(timerJobs);
+    }
+
+    List<String> timerJobIds = new ArrayList<String>(timerJobs.size());
+    for (TimerJobEntity timerJob : timerJobs) {
+      timerJobIds.add(timerJob.getId());
+    }
+    processEngineConfiguration.getTimerJobEntityManager().moveLockedTimerJobsToExecutableJobs(timerJobIds, getAsyncExecutor().getLockOwner());
+
+    List<JobEntity> executableJobs = new ArrayList<JobEntity>(timerJobs.size());
+    for (TimerJobEntity timerJob : timerJobs) {
+      executableJobs.add(createExecutableJobFromMovedTimerJob(timerJob));
+    }
+
+    ActivitiEventDispatcher eventDispatcher = getCommandContext().getEventDispatcher();
+    if (eventDispatcher.isEnabled()) {
+      for (int i = 0; i < timerJobs.size(); i++) {
+        eventDispatcher.dispatchEvent(ActivitiEventBuilder.createEntityEvent(ActivitiEventType.ENTITY_CREATED, executableJobs.get(i)));
+        eventDispatcher.dispatchEvent(ActivitiEventBuilder.createEntityEvent(ActivitiEventType.ENTITY_INITIALIZED, executableJobs.get(i)));
+        eventDispatcher.dispatchEvent(ActivitiEventBuilder.createEntityEvent(ActivitiEventType.ENTITY_DELETED, timerJobs.get(i)));
+      }
+    }
+
+    getCommandContext().addCloseListener(new AsyncJobsAddedNotification(executableJobs, getAsyncExecutor()));
+    return executableJobs;
+  }
+
+  /**
+   * Creates the in-memory counterpart of an executable job that was inserted from a timer job with a set-based statement.
+   * Unlike {@link #copyJobInfo(AbstractJobEntity, AbstractJobEntity)}, the exception stacktrace is not copied, as it would
+   * be fetched from the database: the row of the executable job references the byte array of the timer job.
+   */
+  protected JobEntity createExecutableJobFromMovedTimerJob(TimerJobEntity timerJob) {
+    JobEntity executableJob = processEngineConfiguration.getJobEntityManager().create();
+    executableJob.setId(timerJob.getId());
+    executableJob.setRevision(timerJob.getRevision());
+    executableJob.setJobType(timerJob.getJobType());
+    executableJob.setDuedate(timerJob.getDuedate());
+    executableJob.setEndDate(timerJob.getEndDate());
+    executableJob.setExclusive(timerJob.isExclusive());
+    executableJob.setExecutionId(timerJob.getExecutionId());
+    executableJob.setProcessInstanceId(timerJob.getProcessInstanceId());
+    executableJob.setProcessDefinitionId(timerJob.getProcessDefinitionId());
+    executableJob.setJobHandlerType(timerJob.getJobHandlerType());
+    executableJob.setJobHandlerConfiguration(timerJob.getJobHandlerConfiguration());
+    executableJob.setExceptionMessage(timerJob.getExceptionMessage());
+    executableJob.setMaxIterations(timerJob.getMaxIterations());
+    executableJob.setRepeat(timerJob.getRepeat());
+    executableJob.setRetries(timerJob.getRetries());
+    executableJob.setTenantId(timerJob.getTenantId());
+    executableJob.setLockOwner(timerJob.getLockOwner());
+    executableJob.setLockExpirationTime(timerJob.getLockExpirationTime());
+    return executableJob;
+  }
+
+  protected boolean isSetBasedMoveOfTimerJobsPossible(List<TimerJobEntity> timerJobs) {
+    if (timerJobs.size() < 2 || !isAsyncExecutorActive()
+        || processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelationshipCounts()) {
+      return false;
+    }
+    String lockOwner = getAsyncExecutor().getLockOwner();
+    for (TimerJobEntity timerJob : timerJobs) {
+      if (!lockOwner.equals(timerJob.getLockOwner())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public TimerJobEntity moveJobToTimerJob(AbstractJobEntity job) {
     TimerJobEntity timerJob = createTimerJobFromOtherJob(job);
     boolean insertSuccesful = processEngineConfiguration.getTimerJobEntityManager().insertTimerJobEntity(timerJob);
     if (insertSuccesful) {
+      hintTimerJobWheelIfNeeded(timerJob);
       if (job instanceof JobEntity) {
         processEngineConfiguration.getJobEntityManager().delete((JobEntity) job);
       } else if (job instanceof SuspendedJobEntity) {
@@ -408,6 +493,16 @@ public class DefaultJobManager implements JobManager {
     getCommandContext().addCloseListener(jobAddedNotification);
   }
 
+  protected void hintTimerJobWheelIfNeeded(TimerJobEntity timerJob) {
+    // Timer jobs that become due soon are put in the timing wheel of the async executor, instead of waiting for the acquisition
+    if (isAsyncExecutorActive()) {
+      TimerJobWheelRunnable timerJobWheelRunnable = getAsyncExecutor().getTimerJobWheelRunnable();
+      if (timerJobWheelRunnable != null && timerJobWheelRunnable.isWithinLookAhead(timerJob.getDuedate())) {
+        getCommandContext().addCloseListener(new TimerJobAddedNotification(timerJob, timerJobWheelRunnable));
+      }
+    }
+  }
+
   protected JobEntity internalCreateAsyncJob(ExecutionEntity execution, boolean exclusive) {
     JobEntity asyncJob = processEngineConfiguration.getJobEntityManager().create();
     fillDefaultAsyncJobInfo(asyncJob, execution, exclusive);
@@ -17,6 +17,7 @@ import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.cmd.ExecuteAsyncJobCmd;
+import org.activiti.engine.impl.cmd.ExecuteExclusiveAsyncJobCmd;
 import org.activiti.engine.impl.cmd.LockExclusiveJobCmd;
 import org.activiti.engine.impl.cmd.UnlockExclusiveJobCmd;
 import org.activiti.engine.impl.context.Context;
@@ -62,6 +63,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
       });
     }
+
+    if (job.isExclusive() && processEngineConfiguration.isAsyncExecutorExclusiveJobsInSingleTransaction()) {
+      if (executeExclusiveJobInSingleTransaction()) {
+        return;
+      }
+    }
     
     boolean lockNotNeededOrSuccess = lockJobIfNeeded();
 
@@ -96,6 +103,33 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
   }
   
+  /**
+   * Locks, executes and unlocks the exclusive job in one transaction.
+   * Returns false if the process instance could not be locked or was changed concurrently, in which case nothing was
+   * committed and the job should go through the separate lock, execute and unlock transactions instead.
+   */
+  protected boolean executeExclusiveJobInSingleTransaction() {
+    try {
+      processEngineConfiguration.getCommandExecutor().execute(new ExecuteExclusiveAsyncJobCmd(job));
+
+    } catch (ActivitiOptimisticLockingException e) {
+      if (log.isDebugEnabled()) {
+        log.debug("Optimistic locking exception while executing exclusive job {} in a single transaction, "
+            + "falling back to separate lock, execute and unlock transactions. Exception message: {}", jobId, e.getMessage());
+      }
+      return false;
+
+    } catch (Throwable exception) {
+      handleFailedJob(exception);
+
+      // The lock was rolled back together with the job, so there is nothing to unlock
+      String message = "Job " + jobId + " failed";
+      log.error(message, exception);
+    }
+
+    return true;
+  }
+  
   protected void unlockJobIfNeeded() {
     try {
       if (job.isExclusive()) {
@@ -1,5 +1,8 @@
 package org.activiti.engine.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.activiti.bpmn.model.TimerEventDefinition;
 import org.activiti.engine.ProcessEngine;
 import org.activiti.engine.api.internal.Internal;
@@ -64,6 +67,23 @@ public interface JobManager {
    */
   JobEntity moveTimerJobToExecutableJob(TimerJobEntity timerJob);
 
+  /**
+   * Moves a batch of {@link TimerJobEntity} instances, acquired by the {@link AsyncExecutor}, to become async {@link JobEntity} instances.
+   *
+   * This happens when the timer job acquisition finds due timers. Implementations can move the batch at once,
+   * the default implementation moves them one by one.
+   */
+  default List<JobEntity> moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+    List<JobEntity> executableJobs = new ArrayList<JobEntity>(timerJobs.size());
+    for (TimerJobEntity timerJob : timerJobs) {
+      JobEntity executableJob = moveTimerJobToExecutableJob(timerJob);
+      if (executableJob != null) {
+        executableJobs.add(executableJob);
+      }
+    }
+    return executableJobs;
+  }
+
   /**
    * Moves an {@link AbstractJobEntity} to become a {@link TimerJobEntity}.
    * 
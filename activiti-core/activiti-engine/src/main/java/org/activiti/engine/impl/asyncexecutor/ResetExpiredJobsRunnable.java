@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
  * goes down before completing a task.
  * 
  * This runnable will find such jobs and reset them, so they can be picked up again.
+ * The same is done for timer jobs, which are locked when they are acquired.
  * 
 
  */
@@ -67,6 +68,13 @@ public class ResetExpiredJobsRunnable implements Runnable {
           asyncExecutor.getProcessEngineConfiguration().getCommandExecutor()
             .execute(new ResetExpiredJobsCmd(expiredJobIds));
         }
+
+        // Timer jobs stay locked while they are in the timing wheel of an async executor, which renews the lock
+        int resetTimerJobs = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor()
+            .execute(new ResetExpiredTimerJobsCmd());
+        if (resetTimerJobs > 0) {
+          log.info("Released {} timer jobs with an expired lock", resetTimerJobs);
+        }
         
       } catch (Throwable e) {
         if (e instanceof ActivitiOptimisticLockingException) {
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.Date;
+
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+
+/**
+ * Releases the timer jobs of which the lock has expired, so they can be acquired again.
+ * Returns the number of released timer jobs.
+ */
+public class ResetExpiredTimerJobsCmd implements Command<Integer> {
+
+  @Override
+  public Integer execute(CommandContext commandContext) {
+    Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+    return commandContext.getTimerJobEntityManager().resetExpiredTimerJobs(now);
+  }
+
+}
@@ -0,0 +1,203 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.activiti.engine.ActivitiOptimisticLockingException;
+import org.activiti.engine.impl.cmd.MoveDueTimerJobToExecutableJobCmd;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.runtime.ClockReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runnable that moves timer jobs to the executable jobs at their due time, using a {@link TimingWheel}.
+ *
+ * The timer jobs in the wheel are either acquired (locked) by the {@link AcquireTimerJobsRunnable} because they
+ * become due within the look-ahead time, or were created by this engine with a due date within the look-ahead time.
+ * The lock of the acquired timer jobs is renewed periodically, so that the timer jobs of a node that goes down are
+ * released by the {@link ResetExpiredJobsRunnable} of the other nodes once the lock expires.
+ */
+public class TimerJobWheelRunnable implements Runnable {
+
+  private static Logger log = LoggerFactory.getLogger(TimerJobWheelRunnable.class);
+
+  protected static final int WHEEL_SIZE = 64;
+  protected static final int WHEEL_LEVELS = 4;
+
+  protected final AsyncExecutor asyncExecutor;
+  protected final long lookAheadInMillis;
+  protected final long tickInMillis;
+  protected final TimingWheel timingWheel;
+
+  /** Timer jobs that were already due when they were scheduled, moved on the next tick */
+  protected final Queue<String> dueJobIds = new ConcurrentLinkedQueue<String>();
+
+  protected long lastLockRenewalTime;
+
+  protected volatile boolean isInterrupted;
+  protected final Object MONITOR = new Object();
+  protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+  public TimerJobWheelRunnable(AsyncExecutor asyncExecutor, long lookAheadInMillis, long tickInMillis) {
+    this.asyncExecutor = asyncExecutor;
+    this.lookAheadInMillis = lookAheadInMillis;
+    this.tickInMillis = tickInMillis;
+    this.timingWheel = new TimingWheel(tickInMillis, WHEEL_SIZE, WHEEL_LEVELS, getClock().getCurrentTime().getTime());
+    this.lastLockRenewalTime = getClock().getCurrentTime().getTime();
+  }
+
+  public void run() {
+    log.info("{} starting to move timer jobs of the timing wheel", getClass().getSimpleName());
+    Thread.currentThread().setName("activiti-timer-job-wheel");
+
+    CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+
+    while (!isInterrupted) {
+
+      try {
+        long now = getClock().getCurrentTime().getTime();
+
+        List<String> jobIds = new ArrayList<String>();
+        String dueJobId;
+        while ((dueJobId = dueJobIds.poll()) != null) {
+          jobIds.add(dueJobId);
+        }
+        jobIds.addAll(timingWheel.advance(now));
+
+        for (String jobId : jobIds) {
+          moveTimerJob(commandExecutor, jobId, now);
+        }
+
+        if (now - lastLockRenewalTime >= asyncExecutor.getAsyncJobLockTimeInMillis() / 3) {
+          renewLocks(commandExecutor, now);
+          lastLockRenewalTime = now;
+        }
+
+      } catch (Throwable e) {
+        log.error("exception while moving timer jobs of the timing wheel: {}", e.getMessage(), e);
+      }
+
+      try {
+        synchronized (MONITOR) {
+          if (!isInterrupted) {
+            isWaiting.set(true);
+            MONITOR.wait(tickInMillis);
+          }
+        }
+      } catch (InterruptedException e) {
+        if (log.isDebugEnabled()) {
+          log.debug("timer job wheel wait interrupted");
+        }
+      } finally {
+        isWaiting.set(false);
+      }
+    }
+
+    unlockTimerJobs(commandExecutor);
+
+    log.info("{} stopped moving timer jobs of the timing wheel", getClass().getSimpleName());
+  }
+
+  protected void moveTimerJob(CommandExecutor commandExecutor, String jobId, long now) {
+    try {
+      Date dueDate = commandExecutor.execute(new MoveDueTimerJobToExecutableJobCmd(jobId, asyncExecutor.getLockOwner()));
+      if (dueDate != null) {
+        timingWheel.add(jobId, Math.max(dueDate.getTime(), now + tickInMillis));
+      }
+
+    } catch (ActivitiOptimisticLockingException e) {
+      // Another async executor moved or acquired the timer job in the meantime
+      log.debug("Optimistic locking exception while moving timer job {}: {}", jobId, e.getMessage());
+
+    } catch (Throwable e) {
+      log.error("exception while moving timer job {}, retrying later: {}", jobId, e.getMessage(), e);
+      timingWheel.add(jobId, now + asyncExecutor.getRetryWaitTimeInMillis());
+    }
+  }
+
+  protected void renewLocks(CommandExecutor commandExecutor, long now) {
+    final String lockOwner = asyncExecutor.getLockOwner();
+    final Date lockExpirationTime = new Date(now + asyncExecutor.getAsyncJobLockTimeInMillis());
+    commandExecutor.execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getTimerJobEntityManager().updateTimerJobLockExpirationTimeByLockOwner(lockOwner, lockExpirationTime);
+        return null;
+      }
+    });
+  }
+
+  protected void unlockTimerJobs(CommandExecutor commandExecutor) {
+    final String lockOwner = asyncExecutor.getLockOwner();
+    try {
+      commandExecutor.execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          commandContext.getTimerJobEntityManager().unlockTimerJobsByLockOwner(lockOwner);
+          return null;
+        }
+      });
+    } catch (Throwable e) {
+      log.warn("Could not release the timer jobs of the timing wheel, they are released when their lock expires: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Puts the timer job in the timing wheel, it is moved to the executable jobs on the next tick when already due.
+   */
+  public void schedule(String jobId, Date dueDate) {
+    if (!timingWheel.add(jobId, dueDate.getTime())) {
+      dueJobIds.add(jobId);
+    }
+  }
+
+  /**
+   * @return true if the due date is within the look-ahead time of the timing wheel.
+   */
+  public boolean isWithinLookAhead(Date dueDate) {
+    return dueDate != null && dueDate.getTime() - getClock().getCurrentTime().getTime() <= lookAheadInMillis;
+  }
+
+  public void stop() {
+    synchronized (MONITOR) {
+      isInterrupted = true;
+      if (isWaiting.compareAndSet(true, false)) {
+        MONITOR.notifyAll();
+      }
+    }
+  }
+
+  protected ClockReader getClock() {
+    return asyncExecutor.getProcessEngineConfiguration().getClock();
+  }
+
+  public TimingWheel getTimingWheel() {
+    return timingWheel;
+  }
+
+  public long getLookAheadInMillis() {
+    return lookAheadInMillis;
+  }
+
+  public long getTickInMillis() {
+    return tickInMillis;
+  }
+
+}
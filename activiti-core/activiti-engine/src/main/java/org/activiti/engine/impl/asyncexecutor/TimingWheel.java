@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.activiti.engine.ActivitiIllegalArgumentException;
+
+/**
+ * Hierarchical timing wheel that keeps track of the due times of job ids.
+ *
+ * Level 0 has one bucket per tick, every next level has buckets that span wheelSize buckets of the level below.
+ * A job is put in the lowest level that can hold its due time. When the wheel passes a bucket of a higher level,
+ * its jobs are cascaded to the lower levels, so that adding, removing and expiring a job is done in constant time,
+ * regardless of the number of jobs in the wheel.
+ *
+ * Jobs with a due time beyond the span of the highest level are kept in its last bucket and cascaded again until
+ * they fit.
+ */
+public class TimingWheel {
+
+  protected final long tickInMillis;
+  protected final int wheelSize;
+  protected final int levels;
+
+  /** The number of ticks spanned by a bucket of each level */
+  protected final long[] bucketSpans;
+
+  protected final List<Set<String>[]> buckets;
+  protected final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+  /** The last tick that was processed */
+  protected long currentTick;
+
+  public TimingWheel(long tickInMillis, int wheelSize, int levels, long currentTimeMillis) {
+    if (tickInMillis < 1 || wheelSize < 2 || levels < 1) {
+      throw new ActivitiIllegalArgumentException("Invalid timing wheel: tick " + tickInMillis + "ms, wheel size " + wheelSize + ", levels " + levels);
+    }
+    this.tickInMillis = tickInMillis;
+    this.wheelSize = wheelSize;
+    this.levels = levels;
+    this.bucketSpans = new long[levels];
+    this.buckets = new ArrayList<Set<String>[]>(levels);
+
+    long bucketSpan = 1;
+    for (int level = 0; level < levels; level++) {
+      bucketSpans[level] = bucketSpan;
+      bucketSpan *= wheelSize;
+      buckets.add(createLevel());
+    }
+
+    this.currentTick = currentTimeMillis / tickInMillis;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Set<String>[] createLevel() {
+    Set<String>[] level = new Set[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      level[i] = new LinkedHashSet<String>();
+    }
+    return level;
+  }
+
+  /**
+   * Adds the job to the wheel, replacing its previous due time if it already was in the wheel.
+   *
+   * @return false if the job is already due at the current tick, in which case it is not added.
+   */
+  public synchronized boolean add(String jobId, long dueTimeMillis) {
+    remove(jobId);
+    Entry entry = new Entry(jobId, toTick(dueTimeMillis));
+    if (entry.tick <= currentTick) {
+      return false;
+    }
+    place(entry);
+    return true;
+  }
+
+  /**
+   * @return true if the job was in the wheel.
+   */
+  public synchronized boolean remove(String jobId) {
+    Entry entry = entries.remove(jobId);
+    if (entry != null) {
+      entry.bucket.remove(jobId);
+      return true;
+    }
+    return false;
+  }
+
+  public synchronized boolean contains(String jobId) {
+    return entries.containsKey(jobId);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized List<String> getJobIds() {
+    return new ArrayList<String>(entries.keySet());
+  }
+
+  /**
+   * Moves the wheel up to the given time.
+   *
+   * @return the ids of the jobs that became due, which are removed from the wheel.
+   */
+  public synchronized List<String> advance(long currentTimeMillis) {
+    List<String> dueJobIds = new ArrayList<String>();
+    long targetTick = currentTimeMillis / tickInMillis;
+
+    if (targetTick < currentTick || targetTick - currentTick > wheelSize) {
+      // The clock was moved back, or made a large jump (a stalled thread or a clock that was moved forward):
+      // cheaper to place all jobs again than to visit every tick
+      List<Entry> allEntries = new ArrayList<Entry>(entries.values());
+      for (Entry entry : allEntries) {
+        entry.bucket.remove(entry.jobId);
+      }
+      currentTick = targetTick;
+      for (Entry entry : allEntries) {
+        replace(entry, dueJobIds);
+      }
+      return dueJobIds;
+    }
+
+    while (currentTick < targetTick) {
+      currentTick++;
+
+      // Cascade the higher levels first, their jobs can end up in the buckets of the lower levels that are passed now
+      for (int level = levels - 1; level > 0; level--) {
+        if (currentTick % bucketSpans[level] == 0) {
+          Set<String> bucket = buckets.get(level)[bucketIndex(currentTick, level)];
+          List<String> jobIds = new ArrayList<String>(bucket);
+          bucket.clear();
+          for (String jobId : jobIds) {
+            replace(entries.get(jobId), dueJobIds);
+          }
+        }
+      }
+
+      Set<String> bucket = buckets.get(0)[bucketIndex(currentTick, 0)];
+      for (String jobId : bucket) {
+        entries.remove(jobId);
+        dueJobIds.add(jobId);
+      }
+      bucket.clear();
+    }
+
+    return dueJobIds;
+  }
+
+  protected void replace(Entry entry, List<String> dueJobIds) {
+    if (entry.tick <= currentTick) {
+      entries.remove(entry.jobId);
+      dueJobIds.add(entry.jobId);
+    } else {
+      place(entry);
+    }
+  }
+
+  protected void place(Entry entry) {
+    int level = 0;
+    while (level < levels - 1 && entry.tick / bucketSpans[level] - currentTick / bucketSpans[level] >= wheelSize) {
+      level++;
+    }
+
+    long bucketTick = entry.tick;
+    if (entry.tick / bucketSpans[level] - currentTick / bucketSpans[level] >= wheelSize) {
+      // Beyond the span of the wheel: park in the last bucket of the highest level, from where it is cascaded again
+      bucketTick = currentTick + (wheelSize - 1) * bucketSpans[level];
+    }
+
+    Set<String> bucket = buckets.get(level)[bucketIndex(bucketTick, level)];
+    bucket.add(entry.jobId);
+    entry.bucket = bucket;
+    entries.put(entry.jobId, entry);
+  }
+
+  protected int bucketIndex(long tick, int level) {
+    return (int) ((tick / bucketSpans[level]) % wheelSize);
+  }
+
+  protected long toTick(long dueTimeMillis) {
+    // Rounded up, so that a job never expires before its due time
+    return (dueTimeMillis + tickInMillis - 1) / tickInMillis;
+  }
+
+  public long getTickInMillis() {
+    return tickInMillis;
+  }
+
+  public int getWheelSize() {
+    return wheelSize;
+  }
+
+  public int getLevels() {
+    return levels;
+  }
+
+  protected static class Entry {
+
+    protected final String jobId;
+    protected final long tick;
+    protected Set<String> bucket;
+
+    public Entry(String jobId, long tick) {
+      this.jobId = jobId;
+      this.tick = tick;
+    }
+  }
+
+}
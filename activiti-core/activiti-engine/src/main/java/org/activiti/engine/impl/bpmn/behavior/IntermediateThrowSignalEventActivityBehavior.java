@@ -22,8 +22,12 @@ import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.activiti.engine.impl.persistence.entity.TransientVariableInstance;
+import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +75,11 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
             subscriptionEntities = eventSubscriptionEntityManager
                     .findSignalEventSubscriptionsByProcessInstanceAndEventName(execution.getProcessInstanceId(),
                                                                                eventSubscriptionName);
+        } else if (commandContext.getProcessEngineConfiguration().isSignalBroadcastAsync()) {
+            eventSubscriptionEntityManager.scheduleSignalBroadcast(eventSubscriptionName,
+                                                                   execution.getTenantId(),
+                                                                   getPersistentVariables(execution));
+            subscriptionEntities = Collections.emptyList();
         } else {
             subscriptionEntities = eventSubscriptionEntityManager
                     .findSignalEventSubscriptionsByEventName(eventSubscriptionName,
@@ -90,4 +99,17 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
         Context.getAgenda().planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution,
                                                                    true);
     }
+
+    /**
+     * The transient variables only live in the throwing transaction, they are not passed on by asynchronous broadcasts.
+     */
+    protected Map<String, Object> getPersistentVariables(DelegateExecution execution) {
+        Map<String, Object> variables = new HashMap<>();
+        for (VariableInstance variableInstance : execution.getVariableInstances().values()) {
+            if (!(variableInstance instanceof TransientVariableInstance)) {
+                variables.put(variableInstance.getName(), variableInstance.getValue());
+            }
+        }
+        return variables;
+    }
 }
@@ -24,6 +24,7 @@ import org.activiti.engine.impl.cmd.DeploymentSettings;
 import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.activiti.engine.impl.persistence.entity.ResourceEntity;
+import org.activiti.engine.impl.util.DigestUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,6 +73,7 @@ public class ParsedDeploymentBuilder {
     BpmnParse bpmnParse = bpmnParser.createParse()
         .sourceInputStream(inputStream)
         .setSourceSystemId(resourceName)
+        .sourceDigest(DigestUtil.digest(resource.getBytes()))
         .deployment(deployment)
         .name(resourceName);
 
@@ -38,6 +38,7 @@ import org.activiti.engine.delegate.TransactionDependentTaskListener;
 import org.activiti.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
 import org.activiti.engine.impl.bpmn.behavior.ServiceTaskJavaDelegateActivityBehavior;
 import org.activiti.engine.impl.bpmn.parser.FieldDeclaration;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.delegate.ActivityBehavior;
 import org.activiti.engine.impl.delegate.SubProcessActivityBehavior;
@@ -303,6 +304,12 @@ public class ClassDelegate extends AbstractBpmnActivityBehavior implements TaskL
   }
 
   public static Object defaultInstantiateDelegate(String className, List<FieldDeclaration> fieldDeclarations) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null && processEngineConfiguration.getDelegateInstantiationPlanCache() != null) {
+      DelegateInstantiationPlan plan = processEngineConfiguration.getDelegateInstantiationPlanCache().getPlan(className, fieldDeclarations);
+      return plan.instantiate(fieldDeclarations);
+    }
+
     Object object = ReflectUtil.instantiate(className);
     applyFieldDeclaration(fieldDeclarations, object);
     return object;
@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.bpmn.helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiIllegalArgumentException;
+import org.activiti.engine.delegate.StatelessDelegate;
+import org.activiti.engine.impl.bpmn.parser.FieldDeclaration;
+import org.activiti.engine.impl.util.ReflectUtil;
+
+/**
+ * The resolved instantiation of a delegate class with a given list of field declarations: the class, its constructor
+ * and, for each field declaration, the setter or field the value is injected in.
+ * 
+ * The class is loaded and the setters and fields are looked up once, when the plan is created. Instantiating the delegate
+ * then only invokes the method handles. Delegates annotated with {@link StatelessDelegate} that have no field declarations
+ * are instantiated once and shared.
+ */
+public class DelegateInstantiationPlan {
+
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType INJECTION_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  protected final Class<?> delegateClass;
+  protected final MethodHandle constructor;
+  protected final List<String> fieldNames;
+  protected final List<MethodHandle> fieldInjections;
+  protected final Object sharedInstance;
+
+  protected DelegateInstantiationPlan(Class<?> delegateClass, MethodHandle constructor, List<String> fieldNames, List<MethodHandle> fieldInjections) {
+    this.delegateClass = delegateClass;
+    this.constructor = constructor;
+    this.fieldNames = fieldNames;
+    this.fieldInjections = fieldInjections;
+    this.sharedInstance = fieldInjections.isEmpty() && delegateClass.isAnnotationPresent(StatelessDelegate.class) ? newInstance() : null;
+  }
+
+  /**
+   * Resolves the instantiation of the given class with the given field declarations.
+   * 
+   * Fails the same way as {@link ClassDelegate#defaultInstantiateDelegate(String, List)} when the class can't be
+   * instantiated or a field declaration can't be injected.
+   */
+  public static DelegateInstantiationPlan create(String className, List<FieldDeclaration> fieldDeclarations) {
+    Class<?> delegateClass;
+    MethodHandle constructor;
+    try {
+      delegateClass = ReflectUtil.loadClass(className);
+      Constructor<?> defaultConstructor = delegateClass.getDeclaredConstructor();
+      defaultConstructor.setAccessible(true);
+      constructor = MethodHandles.lookup().unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
+    } catch (Exception e) {
+      throw new ActivitiException("couldn't instantiate class " + className, e);
+    }
+
+    List<String> fieldNames = new ArrayList<String>();
+    List<MethodHandle> fieldInjections = new ArrayList<MethodHandle>();
+    if (fieldDeclarations != null) {
+      for (FieldDeclaration declaration : fieldDeclarations) {
+        fieldNames.add(declaration.getName());
+        fieldInjections.add(createFieldInjection(delegateClass, declaration));
+      }
+    }
+    return new DelegateInstantiationPlan(delegateClass, constructor, fieldNames, fieldInjections);
+  }
+
+  protected static MethodHandle createFieldInjection(Class<?> delegateClass, FieldDeclaration declaration) {
+    Method setterMethod = ReflectUtil.getSetter(declaration.getName(), delegateClass, declaration.getValue().getClass());
+    if (setterMethod != null) {
+      try {
+        setterMethod.setAccessible(true);
+        return MethodHandles.lookup().unreflect(setterMethod).asType(INJECTION_TYPE);
+      } catch (Exception e) {
+        throw new ActivitiException("Illegal acces when calling '" + declaration.getName() + "' on class " + delegateClass.getName(), e);
+      }
+    }
+
+    Field field = ReflectUtil.getField(declaration.getName(), delegateClass);
+    if (field == null) {
+      throw new ActivitiIllegalArgumentException("Field definition uses unexisting field '" + declaration.getName() + "' on class " + delegateClass.getName());
+    }
+    if (!ClassDelegate.fieldTypeCompatible(declaration, field)) {
+      throw new ActivitiIllegalArgumentException("Incompatible type set on field declaration '" + declaration.getName()
+          + "' for class " + delegateClass.getName()
+          + ". Declared value has type " + declaration.getValue().getClass().getName()
+          + ", while expecting " + field.getType().getName());
+    }
+    try {
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectSetter(field).asType(INJECTION_TYPE);
+    } catch (Exception e) {
+      throw new ActivitiException("Could not set field " + field.toString(), e);
+    }
+  }
+
+  /**
+   * Instantiates the delegate and injects the values of the field declarations, which must be the same fields
+   * as the ones the plan was created with.
+   */
+  public Object instantiate(List<FieldDeclaration> fieldDeclarations) {
+    if (sharedInstance != null) {
+      return sharedInstance;
+    }
+
+    Object delegate = newInstance();
+    for (int i = 0; i < fieldInjections.size(); i++) {
+      FieldDeclaration declaration = fieldDeclarations.get(i);
+      try {
+        fieldInjections.get(i).invokeExact(delegate, declaration.getValue());
+      } catch (Throwable e) {
+        throw new ActivitiException("Exception while invoking '" + declaration.getName() + "' on class " + delegateClass.getName(), e);
+      }
+    }
+    return delegate;
+  }
+
+  protected Object newInstance() {
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (Throwable e) {
+      throw new ActivitiException("couldn't instantiate class " + delegateClass.getName(), e);
+    }
+  }
+
+  public Class<?> getDelegateClass() {
+    return delegateClass;
+  }
+
+  public List<String> getFieldNames() {
+    return fieldNames;
+  }
+
+  public boolean isShared() {
+    return sharedInstance != null;
+  }
+
+}
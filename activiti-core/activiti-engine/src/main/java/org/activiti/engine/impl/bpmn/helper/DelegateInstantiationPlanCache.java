@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.bpmn.helper;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.activiti.engine.impl.bpmn.parser.FieldDeclaration;
+
+/**
+ * Cache of the {@link DelegateInstantiationPlan}s of a process engine, by class name and by the names and value types of the field declarations.
+ * 
+ * Like the delegates that are kept by the {@link ClassDelegate}s of the cached process definitions, the plans are resolved with the class loader
+ * of the first instantiation and kept as long as the process engine.
+ */
+public class DelegateInstantiationPlanCache {
+
+  protected ConcurrentMap<String, DelegateInstantiationPlan> plans = new ConcurrentHashMap<String, DelegateInstantiationPlan>();
+
+  public DelegateInstantiationPlan getPlan(String className, List<FieldDeclaration> fieldDeclarations) {
+    String key = createKey(className, fieldDeclarations);
+    DelegateInstantiationPlan plan = plans.get(key);
+    if (plan == null) {
+      // Created outside of the map, so that a failing class or field declaration is reported on each instantiation and not cached
+      plan = DelegateInstantiationPlan.create(className, fieldDeclarations);
+      DelegateInstantiationPlan existingPlan = plans.putIfAbsent(key, plan);
+      if (existingPlan != null) {
+        plan = existingPlan;
+      }
+    }
+    return plan;
+  }
+
+  protected String createKey(String className, List<FieldDeclaration> fieldDeclarations) {
+    StringBuilder key = new StringBuilder(className);
+    if (fieldDeclarations != null) {
+      for (FieldDeclaration declaration : fieldDeclarations) {
+        key.append('|').append(declaration.getName()).append(':');
+        key.append(declaration.getValue() != null ? declaration.getValue().getClass().getName() : null);
+      }
+    }
+    return key.toString();
+  }
+
+  public int size() {
+    return plans.size();
+  }
+
+  public void clear() {
+    plans.clear();
+  }
+
+}
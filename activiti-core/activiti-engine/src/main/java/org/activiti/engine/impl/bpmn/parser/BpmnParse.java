@@ -83,6 +83,9 @@ public class BpmnParse implements BpmnXMLConstants {
   protected StreamSource streamSource;
   protected String sourceSystemId;
 
+  /** The digest of the source, to reuse the result of an earlier validation of the same source. */
+  protected String sourceDigest;
+
   protected BpmnModel bpmnModel;
 
   protected String targetNamespace;
@@ -156,7 +159,7 @@ public class BpmnParse implements BpmnXMLConstants {
         if (processValidator == null) {
           LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
         } else {
-          List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+          List<ValidationError> validationErrors = processValidator.validate(bpmnModel, sourceDigest);
           if (validationErrors != null && !validationErrors.isEmpty()) {
 
             StringBuilder warningBuilder = new StringBuilder();
@@ -215,6 +218,11 @@ public class BpmnParse implements BpmnXMLConstants {
     return this;
   }
 
+  public BpmnParse sourceDigest(String sourceDigest) {
+    this.sourceDigest = sourceDigest;
+    return this;
+  }
+
   public BpmnParse sourceInputStream(InputStream inputStream) {
     if (name == null) {
       name("inputStream");
@@ -50,6 +50,23 @@ public class PerformanceSettings {
    */
   protected boolean enableLocalization = true;
 
+  /**
+   * Experimental setting: keeps a denormalized inbox of the candidate users and groups of the unassigned tasks,
+   * with their priority and create time, which is used instead of the identity links by the task queries
+   * that only filter on candidate users or groups.
+   *
+   * The inbox is updated in the same transaction as the tasks and identity links, which means
+   * some more statements when tasks or candidates change, in exchange for cheaper inbox queries.
+   * Requires the ACT_RU_TASK_INBOX table; the inbox is rebuilt on boot when the setting was off before.
+   */
+  protected boolean enableTaskInbox;
+
+  /**
+   * True once the task inbox setting is configured, to enable or to disable the inbox.
+   * The inbox is only checked on boot when it is, so that the engines that never use it don't look it up.
+   */
+  protected boolean taskInboxConfigured;
+
   public boolean isEnableEagerExecutionTreeFetching() {
     return enableEagerExecutionTreeFetching;
   }
@@ -82,4 +99,17 @@ public class PerformanceSettings {
     this.enableLocalization = enableLocalization;
   }
 
+  public boolean isEnableTaskInbox() {
+    return enableTaskInbox;
+  }
+
+  public void setEnableTaskInbox(boolean enableTaskInbox) {
+    this.enableTaskInbox = enableTaskInbox;
+    this.taskInboxConfigured = true;
+  }
+
+  public boolean isTaskInboxConfigured() {
+    return taskInboxConfigured;
+  }
+
 }
@@ -55,7 +55,9 @@ import org.activiti.engine.cfg.ProcessEngineConfigurator;
 import org.activiti.engine.delegate.event.ActivitiEventDispatcher;
 import org.activiti.engine.delegate.event.ActivitiEventListener;
 import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.delegate.event.ActivitiPostCommitEventListener;
 import org.activiti.engine.delegate.event.impl.ActivitiEventDispatcherImpl;
+import org.activiti.engine.delegate.event.impl.PostCommitEventExecutor;
 import org.activiti.engine.impl.DynamicBpmnServiceImpl;
 import org.activiti.engine.impl.HistoryServiceImpl;
 import org.activiti.engine.impl.ManagementServiceImpl;
@@ -77,6 +79,7 @@ import org.activiti.engine.impl.bpmn.deployer.CachingAndArtifactsManager;
 import org.activiti.engine.impl.bpmn.deployer.EventSubscriptionManager;
 import org.activiti.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
 import org.activiti.engine.impl.bpmn.deployer.TimerManager;
+import org.activiti.engine.impl.bpmn.helper.DelegateInstantiationPlanCache;
 import org.activiti.engine.impl.bpmn.listener.ListenerNotificationHelper;
 import org.activiti.engine.impl.bpmn.parser.BpmnParseHandlers;
 import org.activiti.engine.impl.bpmn.parser.BpmnParser;
@@ -123,6 +126,7 @@ import org.activiti.engine.impl.calendar.DurationBusinessCalendar;
 import org.activiti.engine.impl.calendar.MapBusinessCalendarManager;
 import org.activiti.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.activiti.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
+import org.activiti.engine.impl.cmd.ValidateTaskInboxCfgCmd;
 import org.activiti.engine.impl.db.DbIdGenerator;
 import org.activiti.engine.impl.db.DbSqlSessionFactory;
 import org.activiti.engine.impl.db.IbatisVariableTypeHandler;
@@ -133,6 +137,7 @@ import org.activiti.engine.impl.event.EventHandler;
 import org.activiti.engine.impl.event.EventSubscriptionPayloadMappingProvider;
 import org.activiti.engine.impl.event.MessageEventHandler;
 import org.activiti.engine.impl.event.SignalEventHandler;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter;
 import org.activiti.engine.impl.event.logger.EventLogger;
 import org.activiti.engine.impl.history.DefaultHistoryManager;
 import org.activiti.engine.impl.history.HistoryLevel;
@@ -153,6 +158,7 @@ import org.activiti.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.activiti.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.activiti.engine.impl.jobexecutor.JobHandler;
 import org.activiti.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.activiti.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -672,6 +678,52 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean asyncExecutorMessageQueueMode;
 
+  /**
+   * When true, an exclusive async job is executed in the same transaction that locks its process instance, and the lock
+   * is cleared again before that transaction commits. This saves two transactions per job compared to the default,
+   * where locking, executing and unlocking each happen in their own transaction. When the process instance is locked by
+   * someone else or was modified concurrently, the default protocol is used for that job.
+   *
+   * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+   */
+  protected boolean asyncExecutorExclusiveJobsInSingleTransaction;
+
+  /**
+   * The number of serial lanes over which acquired async jobs are divided by process instance id. Jobs of the same process
+   * instance run one after the other on the single thread of their lane, instead of competing for the process instance lock.
+   * When 0 (default), the jobs are executed by the thread pool.
+   *
+   * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+   */
+  protected int asyncExecutorProcessInstanceLaneCount;
+
+  /**
+   * The number of nodes over which the acquisition of async jobs is partitioned by process instance id, and the 0 based
+   * partition of this node. Default 1, meaning every node acquires all due jobs.
+   *
+   * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+   */
+  protected int asyncExecutorNodePartitionCount = 1;
+  protected int asyncExecutorNodePartitionIndex;
+
+  /**
+   * The time (in milliseconds) a job of another node partition has to be passed over, before this node acquires it anyway.
+   * Makes sure the jobs of a node that is down still get executed. Default 5 minutes.
+   *
+   * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+   */
+  protected long asyncExecutorNodePartitionTakeoverTimeInMillis = 5 * 60 * 1000;
+
+  /**
+   * When larger than 0, timer jobs that become due within this time are acquired into an in-memory timing wheel,
+   * that moves them to the executable jobs at their due time. Timer jobs created with a due date within this time
+   * are put in the wheel after the transaction commits. The wheel advances every tick. Default 0 (disabled).
+   *
+   * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+   */
+  protected long asyncExecutorTimerJobWheelLookAheadInMillis;
+  protected long asyncExecutorTimerJobWheelTickInMillis = 100L;
+
  /**
   * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
   *
@@ -679,6 +731,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   */
   protected ExecuteAsyncRunnableFactory asyncExecutorExecuteAsyncRunnableFactory;
 
+  /**
+   * When true, globally scoped signals thrown without a target execution are not delivered
+   * in the throwing transaction. Instead a signal broadcast job is scheduled, which splits the
+   * matching subscriptions in ranges of {@link #signalBroadcastBatchSize} and delivers each
+   * range in its own job (and thus its own transaction).
+   *
+   * The payload of the signal, or the (non transient) variables of the throwing execution, is stored
+   * with the broadcast job through the variable types, and passed to the receiving executions.
+   *
+   * Default value = false.
+   */
+  protected boolean signalBroadcastAsync;
+
+  /**
+   * The maximum number of signal event subscriptions handled by one signal broadcast job.
+   *
+   * Default value = 100.
+   */
+  protected int signalBroadcastBatchSize = 100;
+
   // MYBATIS SQL SESSION FACTORY //////////////////////////////////////////////
 
   protected SqlSessionFactory sqlSessionFactory;
@@ -687,6 +759,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected Set<Class<?>> customMybatisMappers;
   protected Set<String> customMybatisXMLMappers;
 
+  /**
+   * The JDBC fetch size of the queries that stream their results, see {@link org.activiti.engine.query.Query#forEach}.
+   * On MySQL, the fetch size is only honored with the useCursorFetch=true connection property.
+   */
+  protected int queryStreamFetchSize = 1000;
+
+  /**
+   * Optional data source of a read replica of the database. When set, the queries that
+   * {@link org.activiti.engine.query.Query#useReadReplica() opt in} read from the replica when they are executed
+   * on their own. Queries that are executed within another command, and all other commands, always use the
+   * primary data source.
+   */
+  protected DataSource readReplicaDataSource;
+  protected String readReplicaDataSourceJndiName;
+
   // ID GENERATOR ///////////////////////////////////////////////////////////////
 
   protected IdGenerator idGenerator;
@@ -702,6 +789,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected ListenerFactory listenerFactory;
   protected BpmnParseFactory bpmnParseFactory;
 
+  /**
+   * Cache of the resolved classes, constructors and field injections of the 'activiti:class' delegates and listeners.
+   * When null, the delegates are resolved through reflection on each instantiation.
+   */
+  protected DelegateInstantiationPlanCache delegateInstantiationPlanCache = new DelegateInstantiationPlanCache();
+
   // PROCESS VALIDATION //////////////////////////////////////////////////////////////
 
   protected ProcessValidator processValidator;
@@ -778,9 +871,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected List<ActivitiEventListener> eventListeners;
   protected Map<String, List<ActivitiEventListener>> typedEventListeners;
 
+  /**
+   * Executor used to notify {@link ActivitiPostCommitEventListener}s after a successful commit.
+   * By default created when the first post commit listener is registered, with {@link #postCommitEventLaneCount} lanes,
+   * each with a queue of {@link #postCommitEventQueueSize} events.
+   */
+  protected volatile PostCommitEventExecutor postCommitEventExecutor;
+  protected int postCommitEventLaneCount = 2;
+  protected int postCommitEventQueueSize = 1000;
+
   // Event logging to database
   protected boolean enableDatabaseEventLogging;
 
+  /**
+   * When true (and database event logging is enabled), the event log entries are serialized and inserted
+   * by a background writer after the command has been committed, instead of within the command itself.
+   * The writer queues at most {@link #asyncDatabaseEventLoggingQueueSize} batches of entries.
+   */
+  protected boolean enableAsyncDatabaseEventLogging;
+  protected int asyncDatabaseEventLoggingQueueSize = 1000;
+  protected AsyncEventLogWriter asyncEventLogWriter;
+
   /**
    * Using field injection together with a delegate expression for a service
    * task / execution listener / task listener is not thread-sade , see user
@@ -1077,6 +1188,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (databaseType == null) {
       initDatabaseType();
     }
+
+    if (readReplicaDataSource == null && readReplicaDataSourceJndiName != null) {
+      try {
+        readReplicaDataSource = (DataSource) new InitialContext().lookup(readReplicaDataSourceJndiName);
+      } catch (Exception e) {
+        throw new ActivitiException("couldn't lookup read replica datasource from " + readReplicaDataSourceJndiName + ": " + e.getMessage(), e);
+      }
+    }
   }
 
   protected static Properties databaseTypeMappings = getDefaultDatabaseTypeMappings();
@@ -1191,6 +1310,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         properties.put("orderBy" , "order by ${orderByColumns}");
         properties.put("blobType" , "BLOB");
         properties.put("boolValue" , "TRUE");
+        properties.put("queryStreamFetchSize" , String.valueOf(queryStreamFetchSize));
 
         if (databaseType != null) {
             properties.load(getResourceAsStream("org/activiti/db/properties/"+databaseType+".properties"));
@@ -1274,6 +1394,32 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.customMybatisXMLMappers = customMybatisXMLMappers;
   }
 
+  public int getQueryStreamFetchSize() {
+    return queryStreamFetchSize;
+  }
+
+  public void setQueryStreamFetchSize(int queryStreamFetchSize) {
+    this.queryStreamFetchSize = queryStreamFetchSize;
+  }
+
+  public DataSource getReadReplicaDataSource() {
+    return readReplicaDataSource;
+  }
+
+  public ProcessEngineConfigurationImpl setReadReplicaDataSource(DataSource readReplicaDataSource) {
+    this.readReplicaDataSource = readReplicaDataSource;
+    return this;
+  }
+
+  public String getReadReplicaDataSourceJndiName() {
+    return readReplicaDataSourceJndiName;
+  }
+
+  public ProcessEngineConfigurationImpl setReadReplicaDataSourceJndiName(String readReplicaDataSourceJndiName) {
+    this.readReplicaDataSourceJndiName = readReplicaDataSourceJndiName;
+    return this;
+  }
+
   // Data managers ///////////////////////////////////////////////////////////
 
   public void initDataManagers() {
@@ -1484,6 +1630,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     dbSqlSessionFactory.setIdGenerator(idGenerator);
     dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
     dbSqlSessionFactory.setDbHistoryUsed(isDbHistoryUsed);
+    dbSqlSessionFactory.setReadReplicaDataSource(readReplicaDataSource);
     dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
     dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
     dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
@@ -1833,6 +1980,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
     jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+    SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+    jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
     // if we have custom job handlers, register them
     if (getCustomJobHandlers() != null) {
       for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2078,6 +2228,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     if (eventListeners != null) {
       for (ActivitiEventListener listenerToAdd : eventListeners) {
+        initPostCommitEventExecutor(listenerToAdd);
         this.eventDispatcher.addEventListener(listenerToAdd);
       }
     }
@@ -2088,6 +2239,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ActivitiEventType[] types = ActivitiEventType.getTypesFromString(listenersToAdd.getKey());
 
         for (ActivitiEventListener listenerToAdd : listenersToAdd.getValue()) {
+          initPostCommitEventExecutor(listenerToAdd);
           this.eventDispatcher.addEventListener(listenerToAdd, types);
         }
       }
@@ -2095,6 +2247,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   }
 
+  /**
+   * Creates the post commit event executor when the given listener is a post commit listener,
+   * so that engines without such listeners don't start its threads.
+   */
+  public void initPostCommitEventExecutor(ActivitiEventListener listener) {
+    if (listener instanceof ActivitiPostCommitEventListener) {
+      getOrCreatePostCommitEventExecutor();
+    }
+  }
+
   public void initProcessValidator() {
     if (this.processValidator == null) {
       this.processValidator = new ProcessValidatorFactory().createDefaultProcessValidator();
@@ -2105,7 +2267,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (enableDatabaseEventLogging) {
       // Database event logging uses the default logging mechanism and adds
       // a specific event listener to the list of event listeners
-      getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+      EventLogger eventLogger = new EventLogger(clock, objectMapper);
+      if (enableAsyncDatabaseEventLogging) {
+        if (asyncEventLogWriter == null) {
+          asyncEventLogWriter = new AsyncEventLogWriter(commandExecutor, objectMapper, asyncDatabaseEventLoggingQueueSize);
+        }
+        asyncEventLogWriter.start();
+        eventLogger.setAsyncEventLogWriter(asyncEventLogWriter);
+      }
+      getEventDispatcher().addEventListener(eventLogger);
     }
   }
 
@@ -2116,6 +2286,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (performanceSettings.isValidateExecutionRelationshipCountConfigOnBoot()) {
       commandExecutor.execute(new ValidateExecutionRelatedEntityCountCfgCmd());
     }
+    if (performanceSettings.isTaskInboxConfigured()) {
+      commandExecutor.execute(new ValidateTaskInboxCfgCmd());
+    }
   }
 
   // getters and setters
@@ -2697,6 +2870,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public DelegateInstantiationPlanCache getDelegateInstantiationPlanCache() {
+    return delegateInstantiationPlanCache;
+  }
+
+  public ProcessEngineConfigurationImpl setDelegateInstantiationPlanCache(DelegateInstantiationPlanCache delegateInstantiationPlanCache) {
+    this.delegateInstantiationPlanCache = delegateInstantiationPlanCache;
+    return this;
+  }
+
   public BpmnParseFactory getBpmnParseFactory() {
     return bpmnParseFactory;
   }
@@ -2886,6 +3068,47 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public PostCommitEventExecutor getPostCommitEventExecutor() {
+    return postCommitEventExecutor;
+  }
+
+  public PostCommitEventExecutor getOrCreatePostCommitEventExecutor() {
+    PostCommitEventExecutor executor = postCommitEventExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = postCommitEventExecutor;
+        if (executor == null) {
+          executor = new PostCommitEventExecutor(postCommitEventLaneCount, postCommitEventQueueSize);
+          postCommitEventExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  public ProcessEngineConfigurationImpl setPostCommitEventExecutor(PostCommitEventExecutor postCommitEventExecutor) {
+    this.postCommitEventExecutor = postCommitEventExecutor;
+    return this;
+  }
+
+  public int getPostCommitEventLaneCount() {
+    return postCommitEventLaneCount;
+  }
+
+  public ProcessEngineConfigurationImpl setPostCommitEventLaneCount(int postCommitEventLaneCount) {
+    this.postCommitEventLaneCount = postCommitEventLaneCount;
+    return this;
+  }
+
+  public int getPostCommitEventQueueSize() {
+    return postCommitEventQueueSize;
+  }
+
+  public ProcessEngineConfigurationImpl setPostCommitEventQueueSize(int postCommitEventQueueSize) {
+    this.postCommitEventQueueSize = postCommitEventQueueSize;
+    return this;
+  }
+
   public ProcessValidator getProcessValidator() {
     return processValidator;
   }
@@ -2908,6 +3131,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isEnableAsyncDatabaseEventLogging() {
+    return enableAsyncDatabaseEventLogging;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableAsyncDatabaseEventLogging(boolean enableAsyncDatabaseEventLogging) {
+    this.enableAsyncDatabaseEventLogging = enableAsyncDatabaseEventLogging;
+    return this;
+  }
+
+  public int getAsyncDatabaseEventLoggingQueueSize() {
+    return asyncDatabaseEventLoggingQueueSize;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncDatabaseEventLoggingQueueSize(int asyncDatabaseEventLoggingQueueSize) {
+    this.asyncDatabaseEventLoggingQueueSize = asyncDatabaseEventLoggingQueueSize;
+    return this;
+  }
+
+  public AsyncEventLogWriter getAsyncEventLogWriter() {
+    return asyncEventLogWriter;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+    this.asyncEventLogWriter = asyncEventLogWriter;
+    return this;
+  }
+
   public int getMaxLengthStringVariableType() {
     return maxLengthStringVariableType;
   }
@@ -2976,6 +3226,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public ProcessEngineConfigurationImpl setEnableTaskInbox(boolean enableTaskInbox) {
+    this.performanceSettings.setEnableTaskInbox(enableTaskInbox);
+    return this;
+  }
+
   public AttachmentDataManager getAttachmentDataManager() {
     return attachmentDataManager;
   }
@@ -3511,6 +3766,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isSignalBroadcastAsync() {
+    return signalBroadcastAsync;
+  }
+
+  public ProcessEngineConfigurationImpl setSignalBroadcastAsync(boolean signalBroadcastAsync) {
+    this.signalBroadcastAsync = signalBroadcastAsync;
+    return this;
+  }
+
+  public int getSignalBroadcastBatchSize() {
+    return signalBroadcastBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setSignalBroadcastBatchSize(int signalBroadcastBatchSize) {
+    this.signalBroadcastBatchSize = signalBroadcastBatchSize;
+    return this;
+  }
+
   public int getAsyncExecutorMaxPoolSize() {
     return asyncExecutorMaxPoolSize;
   }
@@ -3664,6 +3937,69 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getAsyncExecutorProcessInstanceLaneCount() {
+    return asyncExecutorProcessInstanceLaneCount;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorProcessInstanceLaneCount(int asyncExecutorProcessInstanceLaneCount) {
+    this.asyncExecutorProcessInstanceLaneCount = asyncExecutorProcessInstanceLaneCount;
+    return this;
+  }
+
+  public int getAsyncExecutorNodePartitionCount() {
+    return asyncExecutorNodePartitionCount;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorNodePartitionCount(int asyncExecutorNodePartitionCount) {
+    this.asyncExecutorNodePartitionCount = asyncExecutorNodePartitionCount;
+    return this;
+  }
+
+  public int getAsyncExecutorNodePartitionIndex() {
+    return asyncExecutorNodePartitionIndex;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorNodePartitionIndex(int asyncExecutorNodePartitionIndex) {
+    this.asyncExecutorNodePartitionIndex = asyncExecutorNodePartitionIndex;
+    return this;
+  }
+
+  public long getAsyncExecutorNodePartitionTakeoverTimeInMillis() {
+    return asyncExecutorNodePartitionTakeoverTimeInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorNodePartitionTakeoverTimeInMillis(long asyncExecutorNodePartitionTakeoverTimeInMillis) {
+    this.asyncExecutorNodePartitionTakeoverTimeInMillis = asyncExecutorNodePartitionTakeoverTimeInMillis;
+    return this;
+  }
+
+  public long getAsyncExecutorTimerJobWheelLookAheadInMillis() {
+    return asyncExecutorTimerJobWheelLookAheadInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelLookAheadInMillis(long asyncExecutorTimerJobWheelLookAheadInMillis) {
+    this.asyncExecutorTimerJobWheelLookAheadInMillis = asyncExecutorTimerJobWheelLookAheadInMillis;
+    return this;
+  }
+
+  public long getAsyncExecutorTimerJobWheelTickInMillis() {
+    return asyncExecutorTimerJobWheelTickInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelTickInMillis(long asyncExecutorTimerJobWheelTickInMillis) {
+    this.asyncExecutorTimerJobWheelTickInMillis = asyncExecutorTimerJobWheelTickInMillis;
+    return this;
+  }
+
+  public boolean isAsyncExecutorExclusiveJobsInSingleTransaction() {
+    return asyncExecutorExclusiveJobsInSingleTransaction;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobsInSingleTransaction(boolean asyncExecutorExclusiveJobsInSingleTransaction) {
+    this.asyncExecutorExclusiveJobsInSingleTransaction = asyncExecutorExclusiveJobsInSingleTransaction;
+    return this;
+  }
+
   public EventSubscriptionPayloadMappingProvider getEventSubscriptionPayloadMappingProvider() {
     return eventSubscriptionPayloadMappingProvider;
   }
@@ -19,6 +19,7 @@ import java.util.List;
 import org.activiti.engine.impl.Page;
 import org.activiti.engine.impl.asyncexecutor.AcquiredJobEntities;
 import org.activiti.engine.impl.asyncexecutor.AsyncExecutor;
+import org.activiti.engine.impl.asyncexecutor.AsyncJobNodePartitioner;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.entity.JobEntity;
@@ -36,7 +37,17 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
   public AcquiredJobEntities execute(CommandContext commandContext) {
     AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
-    List<JobEntity> jobs = commandContext.getJobEntityManager().findJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+    int maxJobs = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+    AsyncJobNodePartitioner nodePartitioner = asyncExecutor.getNodePartitioner();
+
+    List<JobEntity> jobs;
+    if (nodePartitioner != null && nodePartitioner.isPartitioned()) {
+      // Fetch more, as most of the due jobs belong to the partitions of other nodes
+      List<JobEntity> candidates = commandContext.getJobEntityManager().findJobsToExecute(new Page(0, maxJobs * nodePartitioner.getPartitionCount()));
+      jobs = nodePartitioner.selectJobs(candidates, maxJobs, commandContext.getProcessEngineConfiguration().getClock().getCurrentTime().getTime());
+    } else {
+      jobs = commandContext.getJobEntityManager().findJobsToExecute(new Page(0, maxJobs));
+    }
 
     for (JobEntity job : jobs) {
       lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -13,6 +13,7 @@
 package org.activiti.engine.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,14 +31,24 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
   private final AsyncExecutor asyncExecutor;
 
+  /** When set, the timer jobs that become due before this date are acquired instead of only the due timer jobs */
+  private final Date dueBefore;
+
   public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+    this(asyncExecutor, null);
+  }
+
+  public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, Date dueBefore) {
     this.asyncExecutor = asyncExecutor;
+    this.dueBefore = dueBefore;
   }
 
   public AcquiredTimerJobEntities execute(CommandContext commandContext) {
     AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
-    List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager()
-        .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+    Page page = new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+    List<TimerJobEntity> timerJobs = dueBefore != null
+        ? commandContext.getTimerJobEntityManager().findTimerJobsToExecute(page, dueBefore)
+        : commandContext.getTimerJobEntityManager().findTimerJobsToExecute(page);
 
     for (TimerJobEntity job : timerJobs) {
       lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
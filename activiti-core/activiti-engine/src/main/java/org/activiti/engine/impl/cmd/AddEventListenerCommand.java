@@ -44,6 +44,8 @@ public class AddEventListenerCommand implements Command<Void> {
       throw new ActivitiIllegalArgumentException("listener is null.");
     }
 
+    commandContext.getProcessEngineConfiguration().initPostCommitEventExecutor(listener);
+
     if (types != null) {
       commandContext.getProcessEngineConfiguration().getEventDispatcher().addEventListener(listener, types);
     } else {
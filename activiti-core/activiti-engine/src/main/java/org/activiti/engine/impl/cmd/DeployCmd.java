@@ -13,11 +13,14 @@
 package org.activiti.engine.impl.cmd;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.activiti.engine.ProcessEngineConfiguration;
 import org.activiti.engine.delegate.event.ActivitiEventType;
@@ -28,6 +31,7 @@ import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.activiti.engine.impl.persistence.entity.ResourceEntity;
 import org.activiti.engine.impl.repository.DeploymentBuilderImpl;
+import org.activiti.engine.impl.util.DigestUtil;
 import org.activiti.engine.repository.Deployment;
 
 /**
@@ -52,6 +56,7 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
       setProjectReleaseVersion(deployment);
       deployment.setVersion(1);
+      deployment.setDigest(computeDigest(deployment));
 
       if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
@@ -149,6 +154,11 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
   }
 
   private boolean deploymentsDifferDefault(DeploymentEntity deployment, DeploymentEntity saved){
+      if (deployment.getDigest() != null && saved.getDigest() != null) {
+          return !deployment.getDigest().equals(saved.getDigest());
+      }
+
+      // Deployments created before the digest was introduced: compare the resources themselves
       if (deployment.getResources() == null || saved.getResources() == null) {
           return true;
       }
@@ -176,7 +186,27 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
       return false;
   }
 
+  /**
+   * Computes the SHA-256 digest of the deployment: the digest of the names and of the SHA-256 digests of
+   * its resources, ordered by name. It is computed before the deployers add the generated resources
+   * (like the process diagrams), so that two deployments of the same resources have the same digest.
+   */
+  protected String computeDigest(DeploymentEntity deployment) {
+      if (deployment.getResources() == null) {
+          return null;
+      }
+
+      MessageDigest deploymentDigest = DigestUtil.createMessageDigest();
+      for (ResourceEntity resource : new TreeMap<String, ResourceEntity>(deployment.getResources()).values()) {
+          byte[] bytes = resource.getBytes() != null ? resource.getBytes() : new byte[0];
+          byte[] resourceDigest = DigestUtil.createMessageDigest().digest(bytes);
 
+          deploymentDigest.update(resource.getName().getBytes(StandardCharsets.UTF_8));
+          deploymentDigest.update((byte) 0);
+          deploymentDigest.update(resourceDigest);
+      }
+      return DigestUtil.toHexString(deploymentDigest.digest());
+  }
 
   protected void scheduleProcessDefinitionActivation(CommandContext commandContext, DeploymentEntity deployment) {
     for (ProcessDefinitionEntity processDefinitionEntity : deployment.getDeployedArtifacts(ProcessDefinitionEntity.class)) {
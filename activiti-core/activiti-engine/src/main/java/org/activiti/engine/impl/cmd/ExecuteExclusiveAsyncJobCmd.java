@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.activiti.engine.ActivitiIllegalArgumentException;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.runtime.Job;
+
+/**
+ * Locks the process instance of an exclusive job, executes the job and clears the lock again, all in one transaction.
+ *
+ * Equivalent to running {@link LockExclusiveJobCmd}, {@link ExecuteAsyncJobCmd} and {@link UnlockExclusiveJobCmd} one after
+ * the other, but with one transaction instead of three. Other executors are kept away from the process instance by the row
+ * lock the database holds until commit, rather than by a committed lock time. When the lock can't be taken, an
+ * {@link org.activiti.engine.ActivitiOptimisticLockingException} is thrown before the job is executed.
+ */
+public class ExecuteExclusiveAsyncJobCmd implements Command<Object>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected Job job;
+
+  public ExecuteExclusiveAsyncJobCmd(Job job) {
+    this.job = job;
+  }
+
+  public Object execute(CommandContext commandContext) {
+
+    if (job == null) {
+      throw new ActivitiIllegalArgumentException("job is null");
+    }
+
+    new LockExclusiveJobCmd(job).execute(commandContext);
+    new ExecuteAsyncJobCmd(job.getId()).execute(commandContext);
+    new UnlockExclusiveJobCmd(job).execute(commandContext);
+
+    return null;
+  }
+}
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.cmd;
+
+import java.util.Date;
+
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves a timer job that expired in the timing wheel of the async executor to the executable jobs.
+ *
+ * The timer job is only moved when it still exists, is due, and is not locked by another async executor.
+ * The revision check on the delete of the timer job makes sure that it is moved only once, even when
+ * another async executor acquired it in the meantime.
+ *
+ * Returns the due date of the timer job when it is not due yet (for example because the due date was changed),
+ * so that it can be put back in the timing wheel, or null otherwise.
+ */
+public class MoveDueTimerJobToExecutableJobCmd implements Command<Date> {
+
+  private static Logger log = LoggerFactory.getLogger(MoveDueTimerJobToExecutableJobCmd.class);
+
+  protected String jobId;
+  protected String lockOwner;
+
+  public MoveDueTimerJobToExecutableJobCmd(String jobId, String lockOwner) {
+    this.jobId = jobId;
+    this.lockOwner = lockOwner;
+  }
+
+  public Date execute(CommandContext commandContext) {
+    TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(jobId);
+
+    if (timerJob == null) {
+      log.debug("Timer job {} no longer exists", jobId);
+      return null;
+    }
+
+    if (timerJob.getLockOwner() != null && !timerJob.getLockOwner().equals(lockOwner)) {
+      log.debug("Timer job {} is locked by {}", jobId, timerJob.getLockOwner());
+      return null;
+    }
+
+    Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+    if (timerJob.getDuedate() != null && timerJob.getDuedate().after(now)) {
+      return timerJob.getDuedate();
+    }
+
+    commandContext.getJobManager().moveTimerJobToExecutableJob(timerJob);
+    return null;
+  }
+
+}
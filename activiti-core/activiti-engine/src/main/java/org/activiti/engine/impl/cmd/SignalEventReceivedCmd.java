@@ -65,6 +65,10 @@ public class SignalEventReceivedCmd implements Command<Void> {
 
     EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
     if (executionId == null) {
+      if (commandContext.getProcessEngineConfiguration().isSignalBroadcastAsync()) {
+        eventSubscriptionEntityManager.scheduleSignalBroadcast(eventName, tenantId, payload);
+        return null;
+      }
       signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     } else {
 
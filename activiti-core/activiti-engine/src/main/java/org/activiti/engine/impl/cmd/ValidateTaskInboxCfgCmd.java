@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.cmd;
+
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.PropertyEntity;
+import org.activiti.engine.impl.persistence.entity.PropertyEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the candidate task inbox consistent with the configuration of the engine.
+ * The inbox is only maintained while the feature is enabled, so it is rebuilt when the feature
+ * is enabled after having been disabled, and cleared when the feature is disabled.
+ */
+public class ValidateTaskInboxCfgCmd implements Command<Void> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValidateTaskInboxCfgCmd.class);
+
+  public static String PROPERTY_TASK_INBOX = "cfg.task-inbox";
+
+  @Override
+  public Void execute(CommandContext commandContext) {
+
+    /*
+     * If the task inbox is on in config | Current property in database : Result
+     *
+     *  A) true | not there or false : the inbox was not maintained before, rebuild it and write the property
+     *  B) true | true : all good
+     *  C) false | true : the inbox will not be maintained anymore, clear it and update the property
+     *  D) false | not there or false : all good, nothing is written when the feature was never used
+     */
+
+    PropertyEntityManager propertyEntityManager = commandContext.getPropertyEntityManager();
+
+    boolean configProperty = commandContext.getProcessEngineConfiguration().getPerformanceSettings().isEnableTaskInbox();
+    PropertyEntity propertyEntity = propertyEntityManager.findById(PROPERTY_TASK_INBOX);
+    boolean propertyValue = propertyEntity != null && Boolean.valueOf(propertyEntity.getValue().toLowerCase());
+
+    if (configProperty == propertyValue) {
+      return null;
+    }
+
+    if (configProperty) {
+      logger.info("Configuration change: task inbox was disabled before, but now enabled. Rebuilding the task inbox.");
+      commandContext.getTaskEntityManager().rebuildTaskInbox();
+    } else {
+      logger.info("Configuration change: task inbox was enabled before, but now disabled. Clearing the task inbox.");
+      commandContext.getTaskEntityManager().clearTaskInbox();
+    }
+
+    if (propertyEntity == null) {
+      PropertyEntity newPropertyEntity = propertyEntityManager.create();
+      newPropertyEntity.setName(PROPERTY_TASK_INBOX);
+      newPropertyEntity.setValue(Boolean.toString(configProperty));
+      propertyEntityManager.insert(newPropertyEntity);
+    } else {
+      propertyEntity.setValue(Boolean.toString(configProperty));
+      propertyEntityManager.update(propertyEntity);
+    }
+
+    return null;
+  }
+
+}
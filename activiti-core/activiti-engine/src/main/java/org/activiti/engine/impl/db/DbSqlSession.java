@@ -33,6 +33,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiOptimisticLockingException;
@@ -60,9 +61,13 @@ import org.activiti.engine.impl.persistence.cache.CachedEntity;
 import org.activiti.engine.impl.persistence.cache.EntityCache;
 import org.activiti.engine.impl.persistence.entity.Entity;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.IdentityLinkEntity;
 import org.activiti.engine.impl.persistence.entity.PropertyEntity;
+import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.util.IoUtil;
 import org.activiti.engine.impl.util.ReflectUtil;
+import org.activiti.engine.task.IdentityLinkType;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -135,11 +140,15 @@ public class DbSqlSession implements Session {
         // Version 7
         ACTIVITI_VERSIONS.add(new ActivitiVersion("7.0.0.0"));
         ACTIVITI_VERSIONS.add(new ActivitiVersion("7.1.0.0"));
+        ACTIVITI_VERSIONS.add(new ActivitiVersion("7.1.0-M6"));
 
         /* Current */
         ACTIVITI_VERSIONS.add(new ActivitiVersion(ProcessEngine.VERSION));
     }
 
+    /** Maximum number of task ids in the in clause of the statements that rebuild the task inbox */
+    protected static final int TASK_INBOX_FLUSH_BATCH_SIZE = 500;
+
     protected SqlSession sqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected EntityCache entityCache;
@@ -424,6 +433,32 @@ public class DbSqlSession implements Session {
                                      parameter);
     }
 
+    /**
+     * Reads the results of the statement one by one from an open result set, instead of collecting them in a list.
+     * The results are not stored in the entity cache, so changes to them are not flushed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void selectCursor(String statement,
+                                 Object parameter,
+                                 Consumer<? super T> consumer) {
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        Cursor<T> cursor = sqlSession.selectCursor(statement,
+                                                   parameter);
+        try {
+            for (T result : cursor) {
+                consumer.accept(result);
+            }
+        } finally {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                log.warn("Could not close the cursor of statement {}: {}",
+                         statement,
+                         e.getMessage());
+            }
+        }
+    }
+
     public Object selectOne(String statement,
                             Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
@@ -516,9 +551,77 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        // Needs to be done before the flush of the entities, as the flush clears the inserted and deleted objects
+        Set<String> taskInboxTaskIds = isTaskInboxUsed() ? determineTaskInboxTaskIds() : null;
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (taskInboxTaskIds != null && !taskInboxTaskIds.isEmpty()) {
+            flushTaskInbox(taskInboxTaskIds);
+        }
+    }
+
+    protected boolean isTaskInboxUsed() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        return processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableTaskInbox();
+    }
+
+    /**
+     * Collects the ids of the tasks of which the candidate task inbox rows need to be rebuilt:
+     * the tasks that are inserted, updated (assignee, priority) or deleted, and the tasks
+     * of which candidate identity links are inserted or deleted.
+     */
+    protected Set<String> determineTaskInboxTaskIds() {
+        Set<String> taskIds = new HashSet<String>();
+        for (Map<String, Entity> insertedObjectMap : insertedObjects.values()) {
+            for (Entity insertedObject : insertedObjectMap.values()) {
+                addTaskInboxTaskId(taskIds,
+                                   insertedObject);
+            }
+        }
+        for (Entity updatedObject : updatedObjects) {
+            addTaskInboxTaskId(taskIds,
+                               updatedObject);
+        }
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            for (Entity deletedObject : deletedObjectMap.values()) {
+                addTaskInboxTaskId(taskIds,
+                                   deletedObject);
+            }
+        }
+        return taskIds;
+    }
+
+    protected void addTaskInboxTaskId(Set<String> taskIds,
+                                      Entity entity) {
+        if (entity instanceof TaskEntity) {
+            taskIds.add(entity.getId());
+        } else if (entity instanceof IdentityLinkEntity) {
+            IdentityLinkEntity identityLink = (IdentityLinkEntity) entity;
+            if (identityLink.getTaskId() != null && IdentityLinkType.CANDIDATE.equals(identityLink.getType())) {
+                taskIds.add(identityLink.getTaskId());
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the candidate task inbox rows of the given tasks from their identity links,
+     * in the same transaction as the changes to the tasks and identity links.
+     */
+    protected void flushTaskInbox(Set<String> taskIds) {
+        List<String> taskIdList = new ArrayList<String>(taskIds);
+        for (int i = 0; i < taskIdList.size(); i += TASK_INBOX_FLUSH_BATCH_SIZE) {
+            ListQueryParameterObject parameter = new ListQueryParameterObject();
+            parameter.setParameter(taskIdList.subList(i,
+                                                      Math.min(i + TASK_INBOX_FLUSH_BATCH_SIZE,
+                                                               taskIdList.size())));
+            sqlSession.delete(dbSqlSessionFactory.mapStatement("deleteTaskInboxByTaskIds"),
+                              parameter);
+            sqlSession.insert(dbSqlSessionFactory.mapStatement("insertTaskInboxByTaskIds"),
+                              parameter);
+        }
     }
 
     /**
@@ -1208,10 +1311,13 @@ public class DbSqlSession implements Session {
                                                     nextVersion.length() - "-SNAPSHOT".length());
             }
 
+            // the upgrade resources of milestone versions like 7.1.0-M6 are named 710M6
             dbVersion = dbVersion.replace(".",
-                                          "");
+                                          "").replace("-",
+                                                      "");
             nextVersion = nextVersion.replace(".",
-                                              "");
+                                              "").replace("-",
+                                                          "");
             log.info("Upgrade needed: {} -> {}. Looking for schema update resource for component '{}'",
                      dbVersion,
                      nextVersion,
@@ -13,12 +13,16 @@
 
 package org.activiti.engine.impl.db;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
 import org.activiti.engine.ActivitiException;
+import org.activiti.engine.impl.AbstractQuery;
 import org.activiti.engine.impl.cfg.IdGenerator;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.Session;
@@ -65,6 +69,7 @@ public class DbSqlSessionFactory implements SessionFactory {
   protected Map<Class<?>,String> selectStatements = new ConcurrentHashMap<Class<?>, String>();
 
   protected boolean isDbHistoryUsed = true;
+  protected DataSource readReplicaDataSource;
   protected int maxNrOfStatementsInBulkInsert = 100;
   
   public Class<?> getSessionType() {
@@ -72,7 +77,9 @@ public class DbSqlSessionFactory implements SessionFactory {
   }
 
   public Session openSession(CommandContext commandContext) {
-    DbSqlSession dbSqlSession = new DbSqlSession(this, commandContext.getEntityCache());
+    DbSqlSession dbSqlSession = isReadReplicaUsed(commandContext)
+        ? openReadReplicaSession(commandContext)
+        : new DbSqlSession(this, commandContext.getEntityCache());
     if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
       try {
         dbSqlSession.getSqlSession().getConnection().setSchema(getDatabaseSchema());
@@ -90,6 +97,29 @@ public class DbSqlSessionFactory implements SessionFactory {
     return dbSqlSession;
   }
 
+  /**
+   * The read replica is only used when the command is a query that opted in and is executed on its own,
+   * so never for a query that is executed within another command, which could have made changes that are
+   * not replicated yet. Queries don't use it by default, as the engine can't tell whether the caller's
+   * (e.g. Spring managed) transaction has uncommitted changes the query must see.
+   */
+  protected boolean isReadReplicaUsed(CommandContext commandContext) {
+    if (readReplicaDataSource == null || !(commandContext.getCommand() instanceof AbstractQuery)) {
+      return false;
+    }
+    return ((AbstractQuery<?, ?>) commandContext.getCommand()).isUseReadReplica();
+  }
+
+  protected DbSqlSession openReadReplicaSession(CommandContext commandContext) {
+    Connection connection;
+    try {
+      connection = readReplicaDataSource.getConnection();
+    } catch (SQLException e) {
+      throw new ActivitiException("Could not get a connection from the read replica data source", e);
+    }
+    return new DbSqlSession(this, commandContext.getEntityCache(), connection, getDatabaseCatalog(), getDatabaseSchema());
+  }
+
   // insert, update and delete statements
   // /////////////////////////////////////
 
@@ -279,6 +309,14 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.isDbHistoryUsed = isDbHistoryUsed;
   }
 
+  public DataSource getReadReplicaDataSource() {
+    return readReplicaDataSource;
+  }
+
+  public void setReadReplicaDataSource(DataSource readReplicaDataSource) {
+    this.readReplicaDataSource = readReplicaDataSource;
+  }
+
   public void setDatabaseTablePrefix(String databaseTablePrefix) {
     this.databaseTablePrefix = databaseTablePrefix;
   }
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.impl.cfg.TransactionContext;
+import org.activiti.engine.impl.cfg.TransactionListener;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter.PendingEventLogEntry;
+import org.activiti.engine.impl.event.logger.handler.AbstractDatabaseEventLoggerEventHandler;
+import org.activiti.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event flusher that only extracts the entries on the engine thread. Serializing and inserting them
+ * is left to the {@link AsyncEventLogWriter}, once the transaction has been committed successfully.
+ * When the engine takes part in an outer transaction, that is the commit of the outer transaction.
+ */
+public class AsyncEventFlusher extends AbstractEventFlusher {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncEventFlusher.class);
+
+  protected AsyncEventLogWriter eventLogWriter;
+  protected List<PendingEventLogEntry> pendingEntries;
+
+  public AsyncEventFlusher(AsyncEventLogWriter eventLogWriter) {
+    this.eventLogWriter = eventLogWriter;
+  }
+
+  @Override
+  public void closing(CommandContext commandContext) {
+
+    if (commandContext.getException() != null) {
+      return; // Not interested in events about exceptions
+    }
+
+    pendingEntries = new ArrayList<PendingEventLogEntry>(eventHandlers.size());
+    for (EventLoggerEventHandler eventHandler : eventHandlers) {
+      try {
+        Map<String, Object> data = null;
+        EventLogEntryEntity eventLogEntry;
+        if (eventHandler instanceof AbstractDatabaseEventLoggerEventHandler) {
+          AbstractDatabaseEventLoggerEventHandler databaseEventHandler = (AbstractDatabaseEventLoggerEventHandler) eventHandler;
+          databaseEventHandler.setDeferDataSerialization(true);
+          eventLogEntry = databaseEventHandler.generateEventLogEntry(commandContext);
+          data = databaseEventHandler.getDeferredData();
+        } else {
+          eventLogEntry = eventHandler.generateEventLogEntry(commandContext);
+        }
+        pendingEntries.add(new PendingEventLogEntry(eventLogEntry, data));
+      } catch (Exception e) {
+        logger.warn("Could not create event log", e);
+      }
+    }
+
+    TransactionContext transactionContext = Context.getTransactionContext();
+    if (transactionContext != null) {
+      final List<PendingEventLogEntry> committedEntries = pendingEntries;
+      pendingEntries = null;
+      transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+        public void execute(CommandContext commandContext) {
+          eventLogWriter.submit(committedEntries);
+        }
+      });
+    }
+  }
+
+  public void afterSessionsFlush(CommandContext commandContext) {
+
+  }
+
+  @Override
+  public void closed(CommandContext commandContext) {
+    // Only used when there is no transaction context to register with
+    if (pendingEntries != null) {
+      eventLogWriter.submit(pendingEntries);
+      pendingEntries = null;
+    }
+  }
+
+  public void closeFailure(CommandContext commandContext) {
+    pendingEntries = null;
+  }
+
+}
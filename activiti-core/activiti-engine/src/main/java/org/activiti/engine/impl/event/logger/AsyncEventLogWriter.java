@@ -0,0 +1,254 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.event.logger;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandConfig;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Background writer for the event log.
+ *
+ * Batches of entries of committed commands are put on a bounded queue. A single thread takes them from the queue,
+ * serializes their data with a reused buffer and inserts up to {@link #maxEntriesPerTransaction} entries in one
+ * transaction, using multi-row insert statements where the database supports them.
+ *
+ * When the queue is full, the batch is written by the submitting thread itself, so that no entries are lost and
+ * the memory used by the queue stays bounded.
+ */
+public class AsyncEventLogWriter implements Runnable {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+  protected CommandExecutor commandExecutor;
+  protected ObjectMapper objectMapper;
+
+  protected BlockingQueue<List<PendingEventLogEntry>> queue;
+  protected int maxEntriesPerTransaction = 100;
+  protected int initialBufferSize = 4096;
+  protected long secondsToWaitOnShutdown = 60L;
+
+  protected Thread thread;
+  protected volatile boolean running;
+
+  // Only used by the writer thread
+  protected ByteArrayOutputStream buffer;
+
+  protected final AtomicLong writtenEntryCount = new AtomicLong();
+  protected final AtomicLong failedEntryCount = new AtomicLong();
+  protected final AtomicLong callerRunsCount = new AtomicLong();
+
+  public AsyncEventLogWriter(CommandExecutor commandExecutor, ObjectMapper objectMapper, int queueSize) {
+    this.commandExecutor = commandExecutor;
+    this.objectMapper = objectMapper;
+    this.queue = new ArrayBlockingQueue<List<PendingEventLogEntry>>(queueSize);
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    buffer = new ByteArrayOutputStream(initialBufferSize);
+    thread = new Thread(this, "activiti-async-event-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public synchronized void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(secondsToWaitOnShutdown));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted while waiting for the event log writer to finish", e);
+    }
+    if (!queue.isEmpty()) {
+      logger.warn("Event log writer stopped with {} batches still queued", queue.size());
+    }
+  }
+
+  /**
+   * Hands over the entries of a committed command. Called on the engine thread.
+   */
+  public void submit(List<PendingEventLogEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    if (!running || !queue.offer(entries)) {
+      callerRunsCount.incrementAndGet();
+      try {
+        write(entries, new ByteArrayOutputStream(initialBufferSize), commandExecutor.getDefaultConfig().transactionRequiresNew());
+      } catch (Exception e) {
+        logger.warn("Could not write event log entries", e);
+      }
+    }
+  }
+
+  @Override
+  public void run() {
+    List<PendingEventLogEntry> entries = new ArrayList<PendingEventLogEntry>(maxEntriesPerTransaction);
+    while (running || !queue.isEmpty()) {
+      try {
+        List<PendingEventLogEntry> batch = queue.poll(1, TimeUnit.SECONDS);
+        if (batch == null) {
+          continue;
+        }
+
+        entries.addAll(batch);
+        while (entries.size() < maxEntriesPerTransaction && (batch = queue.poll()) != null) {
+          entries.addAll(batch);
+        }
+
+        write(entries, buffer, commandExecutor.getDefaultConfig());
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Throwable t) {
+        logger.warn("Could not write event log entries", t);
+      } finally {
+        entries.clear();
+      }
+    }
+  }
+
+  protected void write(final List<PendingEventLogEntry> entries, ByteArrayOutputStream buffer, CommandConfig commandConfig) {
+    for (PendingEventLogEntry entry : entries) {
+      serialize(entry, buffer);
+    }
+
+    try {
+      commandExecutor.execute(commandConfig, new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          List<EventLogEntryEntity> eventLogEntries = new ArrayList<EventLogEntryEntity>(entries.size());
+          for (PendingEventLogEntry entry : entries) {
+            eventLogEntries.add(entry.getEventLogEntry());
+          }
+          commandContext.getEventLogEntryEntityManager().bulkInsertEventLogEntries(eventLogEntries);
+          return null;
+        }
+      });
+      writtenEntryCount.addAndGet(entries.size());
+    } catch (RuntimeException e) {
+      failedEntryCount.addAndGet(entries.size());
+      throw e;
+    }
+  }
+
+  protected void serialize(PendingEventLogEntry entry, ByteArrayOutputStream buffer) {
+    Map<String, Object> data = entry.getData();
+    if (data == null) {
+      return; // already serialized
+    }
+    try {
+      buffer.reset();
+      objectMapper.writeValue(buffer, data);
+      entry.getEventLogEntry().setData(buffer.toByteArray());
+    } catch (Exception e) {
+      logger.warn("Could not serialize event data. Data will not be written to the database", e);
+    }
+  }
+
+  // metrics //////////////////////////////////////////////////////////////////
+
+  public int getQueuedBatchCount() {
+    return queue.size();
+  }
+
+  public long getWrittenEntryCount() {
+    return writtenEntryCount.get();
+  }
+
+  public long getFailedEntryCount() {
+    return failedEntryCount.get();
+  }
+
+  /**
+   * @return the number of batches that were written by the submitting thread because the queue was full.
+   */
+  public long getCallerRunsCount() {
+    return callerRunsCount.get();
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public int getMaxEntriesPerTransaction() {
+    return maxEntriesPerTransaction;
+  }
+
+  public void setMaxEntriesPerTransaction(int maxEntriesPerTransaction) {
+    this.maxEntriesPerTransaction = maxEntriesPerTransaction;
+  }
+
+  public int getInitialBufferSize() {
+    return initialBufferSize;
+  }
+
+  public void setInitialBufferSize(int initialBufferSize) {
+    this.initialBufferSize = initialBufferSize;
+  }
+
+  public long getSecondsToWaitOnShutdown() {
+    return secondsToWaitOnShutdown;
+  }
+
+  public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+    this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+  }
+
+  /**
+   * An event log entry of which the data still needs to be serialized.
+   */
+  public static class PendingEventLogEntry {
+
+    protected EventLogEntryEntity eventLogEntry;
+    protected Map<String, Object> data;
+
+    public PendingEventLogEntry(EventLogEntryEntity eventLogEntry, Map<String, Object> data) {
+      this.eventLogEntry = eventLogEntry;
+      this.data = data;
+    }
+
+    public EventLogEntryEntity getEventLogEntry() {
+      return eventLogEntry;
+    }
+
+    public Map<String, Object> getData() {
+      return data;
+    }
+  }
+
+}
@@ -54,6 +54,9 @@ public class EventLogger implements ActivitiEventListener {
 	// Listeners for new events
 	protected List<EventLoggerListener> listeners;
 	
+	// Optional background writer for the entries
+	protected AsyncEventLogWriter asyncEventLogWriter;
+	
 	public EventLogger() {
 		initializeDefaultHandlers();
 	}
@@ -198,9 +201,23 @@ public class EventLogger implements ActivitiEventListener {
 	 * Subclasses that want something else than the database flusher should override this method
 	 */
 	protected EventFlusher createEventFlusher() {
+		if (asyncEventLogWriter != null) {
+			return new AsyncEventFlusher(asyncEventLogWriter);
+		}
 		return null;
 	}
 
+	public AsyncEventLogWriter getAsyncEventLogWriter() {
+		return asyncEventLogWriter;
+	}
+
+	/**
+	 * When set, the entries are handed over to the given writer after commit instead of being inserted by the command.
+	 */
+	public void setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+		this.asyncEventLogWriter = asyncEventLogWriter;
+	}
+
 	public Clock getClock() {
 		return clock;
 	}
@@ -27,6 +27,10 @@ public abstract class AbstractDatabaseEventLoggerEventHandler implements EventLo
   protected Date timeStamp;
   protected ObjectMapper objectMapper;
 
+  // When true, the data is not serialized when creating the entry, but kept for serialization later on
+  protected boolean deferDataSerialization;
+  protected Map<String, Object> deferredData;
+
   public AbstractDatabaseEventLoggerEventHandler() {
   }
 
@@ -64,10 +68,14 @@ public abstract class AbstractDatabaseEventLoggerEventHandler implements EventLo
       }
     }
 
-    try {
-      eventLogEntry.setData(objectMapper.writeValueAsBytes(data));
-    } catch (Exception e) {
-      logger.warn("Could not serialize event data. Data will not be written to the database", e);
+    if (deferDataSerialization) {
+      deferredData = data;
+    } else {
+      try {
+        eventLogEntry.setData(objectMapper.writeValueAsBytes(data));
+      } catch (Exception e) {
+        logger.warn("Could not serialize event data. Data will not be written to the database", e);
+      }
     }
 
     return eventLogEntry;
@@ -89,6 +97,21 @@ public abstract class AbstractDatabaseEventLoggerEventHandler implements EventLo
     this.objectMapper = objectMapper;
   }
 
+  public boolean isDeferDataSerialization() {
+    return deferDataSerialization;
+  }
+
+  public void setDeferDataSerialization(boolean deferDataSerialization) {
+    this.deferDataSerialization = deferDataSerialization;
+  }
+
+  /**
+   * @return the data of the last generated entry, when {@link #isDeferDataSerialization()} is enabled.
+   */
+  public Map<String, Object> getDeferredData() {
+    return deferredData;
+  }
+
   // Helper methods //////////////////////////////////////////////////////
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,320 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.jobexecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiIllegalArgumentException;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ByteArrayEntity;
+import org.activiti.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.activiti.engine.impl.util.json.JSONArray;
+import org.activiti.engine.impl.util.json.JSONObject;
+import org.activiti.engine.impl.variable.ValueFields;
+import org.activiti.engine.impl.variable.VariableType;
+import org.activiti.engine.impl.variable.VariableTypes;
+
+/**
+ * Delivers a globally scoped signal to its subscriptions in batches.
+ *
+ * The job scheduled by the thrower only contains the signal name and tenant. When executed, it
+ * reads the ids of all matching subscriptions, splits them in ranges of
+ * {@link org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl#getSignalBroadcastBatchSize()}
+ * and schedules one (non exclusive) job per range. Those range jobs are picked up in parallel
+ * by the async executor, each delivering the signal to a bounded number of subscriptions
+ * in its own transaction.
+ *
+ * The progress of a broadcast can be followed by querying the jobs with handler type {@link #TYPE}.
+ *
+ * The payload of the signal is stored through the variable types of the engine into a byte array, referenced from
+ * the job configuration.
+ * Every range job gets its own copy of the payload, which is deleted once the range is delivered.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+  public static final String TYPE = "signal-broadcast";
+
+  public static final String PROPERTYNAME_SIGNAL_NAME = "signalName";
+  public static final String PROPERTYNAME_TENANT_ID = "tenantId";
+  public static final String PROPERTYNAME_FROM_ID = "fromId";
+  public static final String PROPERTYNAME_TO_ID = "toId";
+  public static final String PROPERTYNAME_PAYLOAD_ID = "payloadId";
+
+  protected static final String PAYLOAD_BYTE_ARRAY_NAME = "signal-broadcast-payload";
+
+  public String getType() {
+    return TYPE;
+  }
+
+  public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+    JSONObject cfgJson = new JSONObject(configuration);
+    String signalName = cfgJson.getString(PROPERTYNAME_SIGNAL_NAME);
+    String tenantId = cfgJson.optString(PROPERTYNAME_TENANT_ID, null);
+    String payloadId = cfgJson.optString(PROPERTYNAME_PAYLOAD_ID, null);
+
+    if (cfgJson.has(PROPERTYNAME_FROM_ID)) {
+      deliverRange(signalName, tenantId, cfgJson.getString(PROPERTYNAME_FROM_ID), cfgJson.getString(PROPERTYNAME_TO_ID), payloadId, commandContext);
+    } else {
+      scheduleRanges(signalName, tenantId, payloadId, commandContext);
+    }
+  }
+
+  protected void scheduleRanges(String signalName, String tenantId, String payloadId, CommandContext commandContext) {
+    List<String> subscriptionIds = commandContext.getEventSubscriptionEntityManager().findSignalEventSubscriptionIdsByEventName(signalName, tenantId);
+    byte[] payload = payloadId != null ? findPayload(payloadId, commandContext) : null;
+
+    int batchSize = Math.max(1, commandContext.getProcessEngineConfiguration().getSignalBroadcastBatchSize());
+    for (int fromIndex = 0; fromIndex < subscriptionIds.size(); fromIndex += batchSize) {
+      int toIndex = Math.min(fromIndex + batchSize, subscriptionIds.size()) - 1;
+
+      JobEntity rangeJob = commandContext.getJobEntityManager().create();
+      rangeJob.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+      rangeJob.setJobHandlerType(TYPE);
+      String rangePayloadId = payload != null ? insertPayload(payload, commandContext) : null;
+      rangeJob.setJobHandlerConfiguration(createConfiguration(signalName, tenantId, rangePayloadId, subscriptionIds.get(fromIndex), subscriptionIds.get(toIndex)));
+      rangeJob.setTenantId(tenantId);
+      rangeJob.setExclusive(false);
+
+      commandContext.getJobManager().scheduleAsyncJob(rangeJob);
+    }
+
+    if (payloadId != null) {
+      commandContext.getByteArrayEntityManager().deleteByteArrayById(payloadId);
+    }
+  }
+
+  protected void deliverRange(String signalName, String tenantId, String fromId, String toId, String payloadId, CommandContext commandContext) {
+    Map<String, Object> payload = null;
+    if (payloadId != null) {
+      payload = deserializePayload(findPayload(payloadId, commandContext), commandContext);
+      commandContext.getByteArrayEntityManager().deleteByteArrayById(payloadId);
+    }
+
+    EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+    List<SignalEventSubscriptionEntity> signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventNameAndIdRange(signalName, tenantId, fromId, toId);
+
+    for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
+      // Process instance scoped signals are never broadcasted
+      if (signalEventSubscriptionEntity.isGlobalScoped()) {
+        eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, payload, false);
+      }
+    }
+  }
+
+  protected byte[] findPayload(String payloadId, CommandContext commandContext) {
+    ByteArrayEntity payload = commandContext.getByteArrayEntityManager().findById(payloadId);
+    if (payload == null) {
+      throw new ActivitiException("Payload " + payloadId + " of signal broadcast not found");
+    }
+    return payload.getBytes();
+  }
+
+  public static String insertPayload(byte[] payload, CommandContext commandContext) {
+    ByteArrayEntityManager byteArrayEntityManager = commandContext.getByteArrayEntityManager();
+    ByteArrayEntity byteArray = byteArrayEntityManager.create();
+    byteArray.setName(PAYLOAD_BYTE_ARRAY_NAME);
+    byteArray.setBytes(payload);
+    byteArrayEntityManager.insert(byteArray);
+    return byteArray.getId();
+  }
+
+  /**
+   * Serializes the payload through the variable types of the engine, the same way as the variables of an execution
+   * are stored, so that any value that can be stored as a variable can be broadcasted.
+   */
+  public static byte[] serializePayload(String signalName, Map<String, Object> payload, CommandContext commandContext) {
+    VariableTypes variableTypes = commandContext.getProcessEngineConfiguration().getVariableTypes();
+    JSONArray payloadJson = new JSONArray();
+    for (Map.Entry<String, Object> variable : payload.entrySet()) {
+      PayloadValueFields valueFields = new PayloadValueFields(variable.getKey());
+      try {
+        VariableType type = variableTypes.findVariableType(variable.getValue());
+        type.setValue(variable.getValue(), valueFields);
+        payloadJson.put(valueFields.toJson(type.getTypeName()));
+      } catch (ActivitiException e) {
+        throw new ActivitiIllegalArgumentException("The payload of signal '" + signalName + "' must only contain values that can be stored as variables to be broadcasted asynchronously", e);
+      }
+    }
+    return payloadJson.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  protected Map<String, Object> deserializePayload(byte[] payload, CommandContext commandContext) {
+    VariableTypes variableTypes = commandContext.getProcessEngineConfiguration().getVariableTypes();
+    JSONArray payloadJson = new JSONArray(new String(payload, StandardCharsets.UTF_8));
+    Map<String, Object> variables = new HashMap<String, Object>();
+    for (int i = 0; i < payloadJson.length(); i++) {
+      JSONObject valueJson = payloadJson.getJSONObject(i);
+      PayloadValueFields valueFields = PayloadValueFields.fromJson(valueJson);
+      VariableType type = variableTypes.getVariableType(valueJson.getString(PayloadValueFields.PROPERTYNAME_TYPE));
+      variables.put(valueFields.getName(), type.getValue(valueFields));
+    }
+    return variables;
+  }
+
+  public static String createConfiguration(String signalName, String tenantId) {
+    return createConfiguration(signalName, tenantId, (String) null);
+  }
+
+  public static String createConfiguration(String signalName, String tenantId, String payloadId) {
+    JSONObject cfgJson = new JSONObject();
+    cfgJson.put(PROPERTYNAME_SIGNAL_NAME, signalName);
+    if (tenantId != null) {
+      cfgJson.put(PROPERTYNAME_TENANT_ID, tenantId);
+    }
+    if (payloadId != null) {
+      cfgJson.put(PROPERTYNAME_PAYLOAD_ID, payloadId);
+    }
+    return cfgJson.toString();
+  }
+
+  public static String createConfiguration(String signalName, String tenantId, String payloadId, String fromId, String toId) {
+    JSONObject cfgJson = new JSONObject(createConfiguration(signalName, tenantId, payloadId));
+    cfgJson.put(PROPERTYNAME_FROM_ID, fromId);
+    cfgJson.put(PROPERTYNAME_TO_ID, toId);
+    return cfgJson.toString();
+  }
+
+  /**
+   * Holds a value of the payload as it is stored by its variable type.
+   */
+  protected static class PayloadValueFields implements ValueFields {
+
+    protected static final String PROPERTYNAME_NAME = "name";
+    protected static final String PROPERTYNAME_TYPE = "type";
+    protected static final String PROPERTYNAME_TEXT_VALUE = "textValue";
+    protected static final String PROPERTYNAME_TEXT_VALUE2 = "textValue2";
+    protected static final String PROPERTYNAME_LONG_VALUE = "longValue";
+    protected static final String PROPERTYNAME_DOUBLE_VALUE = "doubleValue";
+    protected static final String PROPERTYNAME_BYTES = "bytes";
+
+    protected String name;
+    protected String textValue;
+    protected String textValue2;
+    protected Long longValue;
+    protected Double doubleValue;
+    protected byte[] bytes;
+    protected Object cachedValue;
+
+    public PayloadValueFields(String name) {
+      this.name = name;
+    }
+
+    public JSONObject toJson(String typeName) {
+      JSONObject valueJson = new JSONObject();
+      valueJson.put(PROPERTYNAME_NAME, name);
+      valueJson.put(PROPERTYNAME_TYPE, typeName);
+      valueJson.put(PROPERTYNAME_TEXT_VALUE, textValue);
+      valueJson.put(PROPERTYNAME_TEXT_VALUE2, textValue2);
+      valueJson.put(PROPERTYNAME_LONG_VALUE, longValue);
+      if (doubleValue != null) {
+        // as text, to keep NaN and infinity
+        valueJson.put(PROPERTYNAME_DOUBLE_VALUE, doubleValue.toString());
+      }
+      if (bytes != null) {
+        valueJson.put(PROPERTYNAME_BYTES, Base64.getEncoder().encodeToString(bytes));
+      }
+      return valueJson;
+    }
+
+    public static PayloadValueFields fromJson(JSONObject valueJson) {
+      PayloadValueFields valueFields = new PayloadValueFields(valueJson.getString(PROPERTYNAME_NAME));
+      valueFields.textValue = valueJson.optString(PROPERTYNAME_TEXT_VALUE, null);
+      valueFields.textValue2 = valueJson.optString(PROPERTYNAME_TEXT_VALUE2, null);
+      if (valueJson.has(PROPERTYNAME_LONG_VALUE)) {
+        valueFields.longValue = valueJson.getLong(PROPERTYNAME_LONG_VALUE);
+      }
+      if (valueJson.has(PROPERTYNAME_DOUBLE_VALUE)) {
+        valueFields.doubleValue = Double.valueOf(valueJson.getString(PROPERTYNAME_DOUBLE_VALUE));
+      }
+      if (valueJson.has(PROPERTYNAME_BYTES)) {
+        valueFields.bytes = Base64.getDecoder().decode(valueJson.getString(PROPERTYNAME_BYTES));
+      }
+      return valueFields;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getProcessInstanceId() {
+      return null;
+    }
+
+    public String getExecutionId() {
+      return null;
+    }
+
+    public String getTaskId() {
+      return null;
+    }
+
+    public String getTextValue() {
+      return textValue;
+    }
+
+    public void setTextValue(String textValue) {
+      this.textValue = textValue;
+    }
+
+    public String getTextValue2() {
+      return textValue2;
+    }
+
+    public void setTextValue2(String textValue2) {
+      this.textValue2 = textValue2;
+    }
+
+    public Long getLongValue() {
+      return longValue;
+    }
+
+    public void setLongValue(Long longValue) {
+      this.longValue = longValue;
+    }
+
+    public Double getDoubleValue() {
+      return doubleValue;
+    }
+
+    public void setDoubleValue(Double doubleValue) {
+      this.doubleValue = doubleValue;
+    }
+
+    public byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    public Object getCachedValue() {
+      return cachedValue;
+    }
+
+    public void setCachedValue(Object cachedValue) {
+      this.cachedValue = cachedValue;
+    }
+  }
+
+}
@@ -63,4 +63,12 @@ public interface DeploymentEntity extends Deployment, Entity {
 
   void setProjectReleaseVersion(String projectReleaseVersion);
 
+  /**
+   * @return the SHA-256 digest of the resources of the deployment, in hexadecimal, or null for
+   * deployments that were created before the digest was introduced.
+   */
+  String getDigest();
+
+  void setDigest(String digest);
+
 }
@@ -40,6 +40,7 @@ public class DeploymentEntityImpl extends AbstractEntityNoRevision implements De
   protected boolean isNew;
   protected Integer version;
   private String projectReleaseVersion;
+  protected String digest;
 
     // Backwards compatibility
   protected String engineVersion;
@@ -186,6 +187,14 @@ public class DeploymentEntityImpl extends AbstractEntityNoRevision implements De
       this.projectReleaseVersion = projectReleaseVersion;
   }
 
+  public String getDigest() {
+    return digest;
+  }
+
+  public void setDigest(String digest) {
+    this.digest = digest;
+  }
+
   // common methods //////////////////////////////////////////////////////////
 
   @Override
@@ -31,4 +31,6 @@ public interface EventLogEntryEntityManager extends EntityManager<EventLogEntryE
 
   void deleteEventLogEntry(long logNr);
 
+  void bulkInsertEventLogEntries(List<EventLogEntryEntity> eventLogEntries);
+
 }
\ No newline at end of file
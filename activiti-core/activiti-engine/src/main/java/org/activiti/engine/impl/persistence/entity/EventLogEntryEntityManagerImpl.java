@@ -57,6 +57,11 @@ public class EventLogEntryEntityManagerImpl extends AbstractEntityManager<EventL
     eventLogEntryDataManager.deleteEventLogEntry(logNr);
   }
 
+  @Override
+  public void bulkInsertEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+    eventLogEntryDataManager.bulkInsertEventLogEntries(eventLogEntries);
+  }
+
   public EventLogEntryDataManager getEventLogEntryDataManager() {
     return eventLogEntryDataManager;
   }
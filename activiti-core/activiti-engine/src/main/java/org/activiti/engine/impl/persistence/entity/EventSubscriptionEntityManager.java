@@ -13,6 +13,7 @@
 package org.activiti.engine.impl.persistence.entity;
 
 import java.util.List;
+import java.util.Map;
 
 import org.activiti.bpmn.model.Signal;
 import org.activiti.engine.api.internal.Internal;
@@ -56,6 +57,19 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
   /* Event receival */
   
   void eventReceived(EventSubscriptionEntity eventSubscriptionEntity, Object payload, boolean processASync);
+
+  /**
+   * Schedules a signal broadcast job which delivers the given globally scoped signal
+   * to all matching subscriptions in batches, outside of the current transaction.
+   */
+  void scheduleSignalBroadcast(String eventName, String tenantId);
+
+  /**
+   * Schedules a signal broadcast job which delivers the given globally scoped signal, with the given payload,
+   * to all matching subscriptions in batches, outside of the current transaction.
+   * The payload is stored with the job through the variable types, as variables are.
+   */
+  void scheduleSignalBroadcast(String eventName, String tenantId, Map<String, Object> payload);
   
   
   /* Find (generic) */
@@ -80,6 +94,10 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
   /* Find (signal) */
   
   List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
+
+  List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId);
+
+  List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(String eventName, String tenantId, String fromId, String toId);
   
   List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
   
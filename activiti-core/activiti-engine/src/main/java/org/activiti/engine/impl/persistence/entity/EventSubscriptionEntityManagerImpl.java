@@ -15,6 +15,7 @@ package org.activiti.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.activiti.bpmn.model.Signal;
 import org.activiti.engine.ActivitiException;
@@ -23,6 +24,7 @@ import org.activiti.engine.impl.Page;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.event.EventHandler;
 import org.activiti.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.activiti.engine.impl.persistence.CountingExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.data.DataManager;
 import org.activiti.engine.impl.persistence.entity.data.EventSubscriptionDataManager;
@@ -191,6 +193,16 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
     return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
   }
 
+  @Override
+  public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId) {
+    return eventSubscriptionDataManager.findSignalEventSubscriptionIdsByEventName(eventName, tenantId);
+  }
+
+  @Override
+  public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(String eventName, String tenantId, String fromId, String toId) {
+    return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventNameAndIdRange(eventName, tenantId, fromId, toId);
+  }
+
   @Override
   public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
     return eventSubscriptionDataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -286,6 +298,28 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
     getJobManager().scheduleAsyncJob(message);
   }
   
+  @Override
+  public void scheduleSignalBroadcast(String eventName, String tenantId) {
+    scheduleSignalBroadcast(eventName, tenantId, null);
+  }
+
+  @Override
+  public void scheduleSignalBroadcast(String eventName, String tenantId, Map<String, Object> payload) {
+    String payloadId = null;
+    if (payload != null && !payload.isEmpty()) {
+      payloadId = SignalBroadcastJobHandler.insertPayload(SignalBroadcastJobHandler.serializePayload(eventName, payload, getCommandContext()), getCommandContext());
+    }
+
+    JobEntity message = getJobEntityManager().create();
+    message.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+    message.setJobHandlerType(SignalBroadcastJobHandler.TYPE);
+    message.setJobHandlerConfiguration(SignalBroadcastJobHandler.createConfiguration(eventName, tenantId, payloadId));
+    message.setTenantId(tenantId);
+    message.setExclusive(false);
+
+    getJobManager().scheduleAsyncJob(message);
+  }
+
   protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
     List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<SignalEventSubscriptionEntity>(result.size());
     for (EventSubscriptionEntity eventSubscriptionEntity : result ) {
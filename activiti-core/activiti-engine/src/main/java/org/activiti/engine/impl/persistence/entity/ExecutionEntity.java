@@ -127,4 +127,8 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
 
   void setStartTime(Date startTime);
 
+  List<VariableInstanceEntity> getQueryVariables();
+
+  void setQueryVariables(List<VariableInstanceEntity> queryVariables);
+
 }
@@ -56,6 +56,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
   long findProcessInstanceCountByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+  long findProcessInstanceCountUpToByQueryCriteria(ProcessInstanceQueryImpl executionQuery, int limit);
+
   List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
   List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
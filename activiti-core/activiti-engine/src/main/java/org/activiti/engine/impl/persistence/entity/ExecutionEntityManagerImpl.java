@@ -114,6 +114,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
     return executionDataManager.findProcessInstanceCountByQueryCriteria(executionQuery);
   }
 
+  @Override
+  public long findProcessInstanceCountUpToByQueryCriteria(ProcessInstanceQueryImpl executionQuery, int limit) {
+    return executionDataManager.findProcessInstanceCountUpToByQueryCriteria(executionQuery, limit);
+  }
+
   @Override
   public List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
     return executionDataManager.findProcessInstanceByQueryCriteria(executionQuery);
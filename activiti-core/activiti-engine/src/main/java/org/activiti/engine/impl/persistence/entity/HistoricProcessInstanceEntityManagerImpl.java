@@ -17,6 +17,7 @@ import static java.util.Collections.emptyList;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.activiti.engine.history.HistoricProcessInstance;
 import org.activiti.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -95,6 +96,13 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
     return emptyList();
   }
 
+  @Override
+  public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<? super HistoricProcessInstance> consumer) {
+    if (getHistoryManager().isHistoryEnabled()) {
+      historicProcessInstanceDataManager.streamHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, consumer);
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
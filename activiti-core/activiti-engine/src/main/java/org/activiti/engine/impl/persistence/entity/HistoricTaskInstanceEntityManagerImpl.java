@@ -17,6 +17,7 @@ import static java.util.Collections.emptyList;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.activiti.engine.history.HistoricTaskInstance;
 import org.activiti.engine.impl.HistoricTaskInstanceQueryImpl;
@@ -73,6 +74,13 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
     return emptyList();
   }
 
+  @Override
+  public void streamHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, Consumer<? super HistoricTaskInstance> consumer) {
+    if (getHistoryManager().isHistoryEnabled()) {
+      historicTaskInstanceDataManager.streamHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery, consumer);
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<HistoricTaskInstance> findHistoricTaskInstancesAndVariablesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
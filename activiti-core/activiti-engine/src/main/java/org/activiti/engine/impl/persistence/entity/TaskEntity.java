@@ -73,4 +73,8 @@ public interface TaskEntity extends VariableScope, Task, DelegateTask, Entity, H
   void setCanceled(boolean isCanceled);
 
   void setBusinessKey(String businessKey);
+
+  List<VariableInstanceEntity> getQueryVariables();
+
+  void setQueryVariables(List<VariableInstanceEntity> queryVariables);
 }
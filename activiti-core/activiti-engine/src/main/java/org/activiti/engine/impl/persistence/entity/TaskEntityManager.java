@@ -39,6 +39,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
   long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
 
+  long findTaskCountUpToByQueryCriteria(TaskQueryImpl taskQuery, int limit);
+
   List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults);
 
   long findTaskCountByNativeQuery(Map<String, Object> parameterMap);
@@ -47,6 +49,16 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
   void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
 
+  /**
+   * Rebuilds the candidate task inbox of all tasks from their identity links.
+   */
+  void rebuildTaskInbox();
+
+  /**
+   * Removes all tasks from the candidate task inbox.
+   */
+  void clearTaskInbox();
+
   void deleteTask(String taskId, String deleteReason, boolean cascade);
 
   void deleteTask(String taskId, String deleteReason, boolean cascade, boolean cancel);
@@ -270,6 +270,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
     return taskDataManager.findTaskCountByQueryCriteria(taskQuery);
   }
 
+  @Override
+  public long findTaskCountUpToByQueryCriteria(TaskQueryImpl taskQuery, int limit) {
+    return taskDataManager.findTaskCountUpToByQueryCriteria(taskQuery, limit);
+  }
+
   @Override
   public List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults) {
     return taskDataManager.findTasksByNativeQuery(parameterMap, firstResult, maxResults);
@@ -311,6 +316,16 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
     taskDataManager.updateTaskTenantIdForDeployment(deploymentId, newTenantId);
   }
 
+  @Override
+  public void rebuildTaskInbox() {
+    taskDataManager.rebuildTaskInbox();
+  }
+
+  @Override
+  public void clearTaskInbox() {
+    taskDataManager.clearTaskInbox();
+  }
+
   public TaskDataManager getTaskDataManager() {
     return taskDataManager;
   }
@@ -12,6 +12,7 @@
  */
 package org.activiti.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.api.internal.Internal;
@@ -42,6 +43,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
    */
   List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+  /**
+   * Returns the unlocked {@link TimerJobEntity} instances with a due date before the given date,
+   * used to acquire the timers that will become due in the near future.
+   */
+  List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore);
+
   /**
    * Returns the {@link TimerJobEntity} for a given process definition.
    * 
@@ -95,5 +102,30 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
    * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
    */
   void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+  /**
+   * Extends the lock of all {@link TimerJobEntity} instances locked by the given lock owner.
+   */
+  int updateTimerJobLockExpirationTimeByLockOwner(String lockOwner, Date lockExpirationTime);
+
+  /**
+   * Releases the lock of all {@link TimerJobEntity} instances locked by the given lock owner.
+   */
+  int unlockTimerJobsByLockOwner(String lockOwner);
+
+  /**
+   * Releases the lock of all {@link TimerJobEntity} instances of which the lock has expired,
+   * for example because the node holding the lock went down.
+   */
+  int resetExpiredTimerJobs(Date now);
+
+  /**
+   * Moves the {@link TimerJobEntity} instances with the given ids, which must be locked by the given lock owner,
+   * to the executable jobs with set-based statements, keeping their id and lock.
+   *
+   * Throws an {@link org.activiti.engine.ActivitiOptimisticLockingException} when not all of them could be moved,
+   * for example because their lock was released in the meantime.
+   */
+  void moveLockedTimerJobsToExecutableJobs(List<String> jobIds, String lockOwner);
   
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import static java.util.Arrays.asList;
 import java.util.Date;
 import java.util.List;
 
+import org.activiti.engine.ActivitiOptimisticLockingException;
 import org.activiti.engine.delegate.VariableScope;
 import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
@@ -35,6 +36,9 @@ import org.apache.commons.lang3.StringUtils;
 
 public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEntity> implements TimerJobEntityManager {
 
+    // Keeps the 'in' clause of the set-based move below the limits of the databases
+    protected static final int MAX_TIMER_JOBS_PER_MOVE_STATEMENT = 500;
+
     protected TimerJobDataManager jobDataManager;
 
     public TimerJobEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration,
@@ -70,6 +74,13 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsToExecute(Page page,
+                                                       Date dueBefore) {
+        return jobDataManager.findTimerJobsToExecute(page,
+                                                     dueBefore);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType,
                                                                      String processDefinitionId) {
@@ -122,6 +133,44 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
                                                       newTenantId);
     }
 
+    @Override
+    public int updateTimerJobLockExpirationTimeByLockOwner(String lockOwner,
+                                                           Date lockExpirationTime) {
+        return jobDataManager.updateTimerJobLockExpirationTimeByLockOwner(lockOwner,
+                                                                          lockExpirationTime);
+    }
+
+    @Override
+    public int unlockTimerJobsByLockOwner(String lockOwner) {
+        return jobDataManager.unlockTimerJobsByLockOwner(lockOwner);
+    }
+
+    @Override
+    public int resetExpiredTimerJobs(Date now) {
+        return jobDataManager.resetExpiredTimerJobs(now);
+    }
+
+    @Override
+    public void moveLockedTimerJobsToExecutableJobs(List<String> jobIds,
+                                                    String lockOwner) {
+        for (int fromIndex = 0; fromIndex < jobIds.size(); fromIndex += MAX_TIMER_JOBS_PER_MOVE_STATEMENT) {
+            List<String> batchJobIds = jobIds.subList(fromIndex,
+                                                      Math.min(fromIndex + MAX_TIMER_JOBS_PER_MOVE_STATEMENT,
+                                                               jobIds.size()));
+
+            int insertedJobs = jobDataManager.insertJobsFromLockedTimerJobs(batchJobIds,
+                                                                            lockOwner);
+            int deletedTimerJobs = jobDataManager.deleteLockedTimerJobs(batchJobIds,
+                                                                        lockOwner);
+
+            // The transaction is rolled back when a timer job was released or removed concurrently
+            if (insertedJobs != batchJobIds.size() || deletedTimerJobs != batchJobIds.size()) {
+                throw new ActivitiOptimisticLockingException("Could only move " + insertedJobs + " of " + batchJobIds.size()
+                        + " timer jobs locked by " + lockOwner + ", they were released or removed by another transaction concurrently");
+            }
+        }
+    }
+
     @Override
     public boolean insertTimerJobEntity(TimerJobEntity timerJobEntity) {
         return doInsert(timerJobEntity,
@@ -17,9 +17,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.db.DbSqlSession;
+import org.activiti.engine.impl.db.ListQueryParameterObject;
 import org.activiti.engine.impl.persistence.AbstractManager;
 import org.activiti.engine.impl.persistence.CachedEntityMatcher;
 import org.activiti.engine.impl.persistence.SingleCachedEntityMatcher;
@@ -31,6 +33,8 @@ import org.activiti.engine.impl.persistence.entity.Entity;
 
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> extends AbstractManager implements DataManager<EntityImpl> {
+
+  protected static final int MAX_IDS_PER_STATEMENT = 500;
   
   public AbstractDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
     super(processEngineConfiguration);
@@ -209,5 +213,37 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
     return result;
   }
 
+  /**
+   * Executes the given count statement, which counts the rows of the page of the query, for the first limit + 1 rows.
+   * The paging of the query is restored afterwards.
+   */
+  protected long selectCountUpTo(String statement, ListQueryParameterObject query, int limit) {
+    int firstResult = query.getFirstResult();
+    int maxResults = query.getMaxResults();
+    query.setFirstResult(0);
+    query.setMaxResults(limit == Integer.MAX_VALUE ? limit : limit + 1);
+    try {
+      return (Long) getDbSqlSession().selectOne(statement, query);
+    } finally {
+      query.setFirstResult(firstResult);
+      query.setMaxResults(maxResults);
+    }
+  }
+
+  /**
+   * Executes the given select statement for the ids in chunks of {@link #MAX_IDS_PER_STATEMENT}, so that the 'in'
+   * clause stays within the limits of the database. The ids are passed as the 'ids' parameter, next to the given parameters.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> List<T> selectListByIds(String statement, Collection<String> ids, Map<String, Object> parameters) {
+    List<String> idList = new ArrayList<String>(ids);
+    List<T> result = new ArrayList<T>();
+    for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += MAX_IDS_PER_STATEMENT) {
+      Map<String, Object> chunkParameters = new HashMap<String, Object>(parameters);
+      chunkParameters.put("ids", idList.subList(fromIndex, Math.min(fromIndex + MAX_IDS_PER_STATEMENT, idList.size())));
+      result.addAll(getDbSqlSession().selectList(statement, chunkParameters));
+    }
+    return result;
+  }
 
 }
@@ -30,4 +30,9 @@ public interface EventLogEntryDataManager extends DataManager<EventLogEntryEntit
 
   void deleteEventLogEntry(long logNr);
 
+  /**
+   * Inserts the given entries directly, using multi-row insert statements when the database supports them.
+   */
+  void bulkInsertEventLogEntries(List<EventLogEntryEntity> eventLogEntries);
+
 }
@@ -43,6 +43,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
   
   long findProcessInstanceCountByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+  long findProcessInstanceCountUpToByQueryCriteria(ProcessInstanceQueryImpl executionQuery, int limit);
+
   List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
   
   List<ExecutionEntity> findExecutionsByRootProcessInstanceId(String rootProcessInstanceId);
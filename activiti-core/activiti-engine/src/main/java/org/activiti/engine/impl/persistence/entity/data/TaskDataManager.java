@@ -34,6 +34,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
   long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
 
+  long findTaskCountUpToByQueryCriteria(TaskQueryImpl taskQuery, int limit);
+
   List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults);
 
   long findTaskCountByNativeQuery(Map<String, Object> parameterMap);
@@ -41,5 +43,9 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
   List<Task> findTasksByParentTaskId(String parentTaskId);
   
   void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
+
+  void rebuildTaskInbox();
+
+  void clearTaskInbox();
   
 }
@@ -12,6 +12,8 @@
  */
 package org.activiti.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.impl.Page;
@@ -27,6 +29,8 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
   
   List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+  List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore);
+
   List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
   
   List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
@@ -42,4 +46,14 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
   long findJobCountByQueryCriteria(TimerJobQueryImpl jobQuery);
   
   void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+  int updateTimerJobLockExpirationTimeByLockOwner(String lockOwner, Date lockExpirationTime);
+
+  int unlockTimerJobsByLockOwner(String lockOwner);
+
+  int resetExpiredTimerJobs(Date now);
+
+  int insertJobsFromLockedTimerJobs(Collection<String> jobIds, String lockOwner);
+
+  int deleteLockedTimerJobs(Collection<String> jobIds, String lockOwner);
 }
@@ -18,10 +18,12 @@ import java.util.Map;
 
 import org.activiti.engine.event.EventLogEntry;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.db.DbSqlSessionFactory;
 import org.activiti.engine.impl.persistence.entity.EventLogEntryEntity;
 import org.activiti.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.activiti.engine.impl.persistence.entity.data.EventLogEntryDataManager;
+import org.apache.ibatis.session.SqlSession;
 
 /**
 
@@ -72,5 +74,27 @@ public class MybatisEventLogEntryDataManager extends AbstractDataManager<EventLo
     getDbSqlSession().getSqlSession().delete("deleteEventLogEntry", logNr);
   }
 
+  @Override
+  public void bulkInsertEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+    DbSqlSessionFactory dbSqlSessionFactory = getDbSqlSession().getDbSqlSessionFactory();
+    SqlSession sqlSession = getDbSqlSession().getSqlSession();
+
+    // Oracle can't combine the log number sequence with a multi-row insert
+    if (eventLogEntries.size() == 1 || !dbSqlSessionFactory.isBulkInsertable(EventLogEntryEntityImpl.class)) {
+      String insertStatement = dbSqlSessionFactory.mapStatement(dbSqlSessionFactory.getInsertStatement(EventLogEntryEntityImpl.class));
+      for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+        sqlSession.insert(insertStatement, eventLogEntry);
+      }
+      return;
+    }
+
+    String bulkInsertStatement = dbSqlSessionFactory.mapStatement(dbSqlSessionFactory.getBulkInsertStatement(EventLogEntryEntityImpl.class));
+    int maxNrOfStatements = dbSqlSessionFactory.getMaxNrOfStatementsInBulkInsert();
+    for (int fromIndex = 0; fromIndex < eventLogEntries.size(); fromIndex += maxNrOfStatements) {
+      int toIndex = Math.min(fromIndex + maxNrOfStatements, eventLogEntries.size());
+      sqlSession.insert(bulkInsertStatement, eventLogEntries.subList(fromIndex, toIndex));
+    }
+  }
+
   
 }
@@ -149,6 +149,32 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
     return toSignalEventSubscriptionEntityList(result);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<String> findSignalEventSubscriptionIdsByEventName(final String eventName, final String tenantId) {
+    final String query = "selectSignalEventSubscriptionIdsByEventName";
+    return getDbSqlSession().selectList(query, createSignalEventNameParameters(eventName, tenantId), false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventNameAndIdRange(final String eventName, final String tenantId, final String fromId, final String toId) {
+    final String query = "selectSignalEventSubscriptionsByEventNameAndIdRange";
+    Map<String, String> params = createSignalEventNameParameters(eventName, tenantId);
+    params.put("fromId", fromId);
+    params.put("toId", toId);
+    return toSignalEventSubscriptionEntityList(getDbSqlSession().selectList(query, params));
+  }
+
+  protected Map<String, String> createSignalEventNameParameters(String eventName, String tenantId) {
+    Map<String, String> params = new HashMap<String, String>();
+    params.put("eventName", eventName);
+    if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+      params.put("tenantId", tenantId);
+    }
+    return params;
+  }
+
   @Override
   public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
     final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -12,8 +12,6 @@
  */
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
-import static java.util.Collections.emptyList;
-
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -30,6 +28,8 @@ import org.activiti.engine.impl.persistence.CachedEntityMatcher;
 import org.activiti.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.activiti.engine.impl.persistence.entity.VariableInitializingList;
+import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.activiti.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.activiti.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionByProcessInstanceMatcher;
@@ -247,6 +247,11 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
     return (Long) getDbSqlSession().selectOne("selectProcessInstanceCountByQueryCriteria", executionQuery);
   }
 
+  @Override
+  public long findProcessInstanceCountUpToByQueryCriteria(ProcessInstanceQueryImpl executionQuery, int limit) {
+    return selectCountUpTo("selectProcessInstanceCountUpToByQueryCriteria", executionQuery, limit);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
@@ -255,40 +260,28 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
 
   @Override
   public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
-    // paging doesn't work for combining process instances and variables due
-    // to an outer join, so doing it in-memory
-    if (executionQuery.getFirstResult() < 0 || executionQuery.getMaxResults() <= 0) {
-      return emptyList();
+    // The page of process instances is selected first, followed by the variables of these process instances:
+    // an outer join of the variables would return a row per variable and break the paging
+    List<ProcessInstance> processInstances = findProcessInstanceByQueryCriteria(executionQuery);
+    if (processInstances.isEmpty()) {
+      return processInstances;
     }
 
-    int firstResult = executionQuery.getFirstResult();
-    int maxResults = executionQuery.getMaxResults();
-
-    // setting max results, limit to 20000 results for performance reasons
-    if (executionQuery.getProcessInstanceVariablesLimit() != null) {
-      executionQuery.setMaxResults(executionQuery.getProcessInstanceVariablesLimit());
-    } else {
-      executionQuery.setMaxResults(getProcessEngineConfiguration().getExecutionQueryLimit());
+    Map<String, ExecutionEntity> processInstancesById = new HashMap<String, ExecutionEntity>();
+    for (ProcessInstance processInstance : processInstances) {
+      ExecutionEntity processInstanceEntity = (ExecutionEntity) processInstance;
+      processInstanceEntity.setQueryVariables(new VariableInitializingList());
+      processInstancesById.put(processInstanceEntity.getId(), processInstanceEntity);
     }
-    executionQuery.setFirstResult(0);
-
-    List<ProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectProcessInstanceWithVariablesByQueryCriteria", executionQuery,
-        executionQuery.getFirstResult(), executionQuery.getMaxResults());
-
-    if (instanceList != null && !instanceList.isEmpty()) {
-      if (firstResult > 0) {
-        if (firstResult <= instanceList.size()) {
-          int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-          return instanceList.subList(firstResult, toIndex);
-        } else {
-          return emptyList();
-        }
-      } else {
-        int toIndex = Math.min(maxResults, instanceList.size());
-        return instanceList.subList(0, toIndex);
-      }
+
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("names", executionQuery.getIncludedVariableNames());
+    List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByExecutionIdsAndNames", processInstancesById.keySet(), parameters);
+    for (VariableInstanceEntity variable : variables) {
+      processInstancesById.get(variable.getExecutionId()).getQueryVariables().add(variable);
     }
-    return emptyList();
+
+    return processInstances;
   }
 
   @Override
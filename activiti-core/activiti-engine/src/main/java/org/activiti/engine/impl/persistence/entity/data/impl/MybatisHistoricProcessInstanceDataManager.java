@@ -12,10 +12,10 @@
  */
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
-import static java.util.Collections.emptyList;
-
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.activiti.engine.history.HistoricProcessInstance;
 import org.activiti.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -23,6 +23,8 @@ import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.activiti.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
+import org.activiti.engine.impl.persistence.entity.HistoricVariableInitializingList;
+import org.activiti.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.activiti.engine.impl.persistence.entity.data.HistoricProcessInstanceDataManager;
 
@@ -73,43 +75,35 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
     return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
   }
 
+  @Override
+  public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<? super HistoricProcessInstance> consumer) {
+    getDbSqlSession().selectCursor("selectHistoricProcessInstancesByQueryCriteriaCursor", historicProcessInstanceQuery, consumer);
+  }
+
   @Override
   public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
-    // paging doesn't work for combining process instances and variables
-    // due to an outer join, so doing it in-memory
-    if (historicProcessInstanceQuery.getFirstResult() < 0 || historicProcessInstanceQuery.getMaxResults() <= 0) {
-      return emptyList();
+    // The page of process instances is selected first, followed by the variables of these process instances:
+    // an outer join of the variables would return a row per variable and break the paging
+    List<HistoricProcessInstance> historicProcessInstances = findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery);
+    if (historicProcessInstances.isEmpty()) {
+      return historicProcessInstances;
     }
 
-    int firstResult = historicProcessInstanceQuery.getFirstResult();
-    int maxResults = historicProcessInstanceQuery.getMaxResults();
-
-    // setting max results, limit to 20000 results for performance reasons
-    if (historicProcessInstanceQuery.getProcessInstanceVariablesLimit() != null) {
-      historicProcessInstanceQuery.setMaxResults(historicProcessInstanceQuery.getProcessInstanceVariablesLimit());
-    } else {
-      historicProcessInstanceQuery.setMaxResults(getProcessEngineConfiguration().getHistoricProcessInstancesQueryLimit());
+    Map<String, HistoricProcessInstanceEntity> historicProcessInstancesById = new HashMap<String, HistoricProcessInstanceEntity>();
+    for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+      HistoricProcessInstanceEntity historicProcessInstanceEntity = (HistoricProcessInstanceEntity) historicProcessInstance;
+      historicProcessInstanceEntity.setQueryVariables(new HistoricVariableInitializingList());
+      historicProcessInstancesById.put(historicProcessInstanceEntity.getId(), historicProcessInstanceEntity);
     }
-    historicProcessInstanceQuery.setFirstResult(0);
-
-    List<HistoricProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectHistoricProcessInstancesWithVariablesByQueryCriteria", historicProcessInstanceQuery,
-        historicProcessInstanceQuery.getFirstResult(), historicProcessInstanceQuery.getMaxResults());
-
-    if (instanceList != null && !instanceList.isEmpty()) {
-      if (firstResult > 0) {
-        if (firstResult <= instanceList.size()) {
-          int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-          return instanceList.subList(firstResult, toIndex);
-        } else {
-          return emptyList();
-        }
-      } else {
-        int toIndex = Math.min(maxResults, instanceList.size());
-        return instanceList.subList(0, toIndex);
-      }
+
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("names", historicProcessInstanceQuery.getIncludedVariableNames());
+    List<HistoricVariableInstanceEntity> variables = selectListByIds("selectHistoricProcessVariablesByProcessInstanceIdsAndNames", historicProcessInstancesById.keySet(), parameters);
+    for (HistoricVariableInstanceEntity variable : variables) {
+      historicProcessInstancesById.get(variable.getExecutionId()).getQueryVariables().add(variable);
     }
 
-    return instanceList;
+    return historicProcessInstances;
   }
 
   @Override
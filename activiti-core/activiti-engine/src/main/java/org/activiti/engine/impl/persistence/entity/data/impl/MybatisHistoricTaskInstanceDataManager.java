@@ -16,6 +16,7 @@ import static java.util.Collections.emptyList;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.activiti.engine.history.HistoricTaskInstance;
 import org.activiti.engine.impl.HistoricTaskInstanceQueryImpl;
@@ -74,6 +75,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
     return getDbSqlSession().selectList("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery);
   }
 
+  @Override
+  public void streamHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, Consumer<? super HistoricTaskInstance> consumer) {
+    getDbSqlSession().selectCursor("selectHistoricTaskInstancesByQueryCriteriaCursor", historicTaskInstanceQuery, consumer);
+  }
+
   @Override
   public List<HistoricTaskInstance> findHistoricTaskInstancesAndVariablesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
     // paging doesn't work for combining task instances and variables
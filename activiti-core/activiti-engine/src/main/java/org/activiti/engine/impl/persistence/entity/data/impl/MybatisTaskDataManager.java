@@ -12,8 +12,7 @@
  */
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
-import static java.util.Collections.emptyList;
-
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +22,8 @@ import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.persistence.CachedEntityMatcher;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.persistence.entity.TaskEntityImpl;
+import org.activiti.engine.impl.persistence.entity.VariableInitializingList;
+import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.activiti.engine.impl.persistence.entity.data.TaskDataManager;
 import org.activiti.engine.impl.persistence.entity.data.impl.cachematcher.TasksByExecutionIdMatcher;
@@ -68,42 +69,50 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public List<Task> findTasksAndVariablesByQueryCriteria(TaskQueryImpl taskQuery) {
-    final String query = "selectTaskWithVariablesByQueryCriteria";
-    // paging doesn't work for combining task instances and variables due to
-    // an outer join, so doing it in-memory
-    if (taskQuery.getFirstResult() < 0 || taskQuery.getMaxResults() <= 0) {
-      return emptyList();
+    // The page of tasks is selected first, followed by the variables of these tasks:
+    // an outer join of the variables would return a row per variable and break the paging
+    List<Task> tasks = findTasksByQueryCriteria(taskQuery);
+    if (tasks.isEmpty()) {
+      return tasks;
     }
 
-    int firstResult = taskQuery.getFirstResult();
-    int maxResults = taskQuery.getMaxResults();
-
-    // setting max results, limit to 20000 results for performance reasons
-    if (taskQuery.getTaskVariablesLimit() != null) {
-      taskQuery.setMaxResults(taskQuery.getTaskVariablesLimit());
-    } else {
-      taskQuery.setMaxResults(getProcessEngineConfiguration().getTaskQueryLimit());
+    Map<String, TaskEntity> tasksById = new HashMap<String, TaskEntity>();
+    Map<String, List<TaskEntity>> tasksByProcessInstanceId = new HashMap<String, List<TaskEntity>>();
+    for (Task task : tasks) {
+      TaskEntity taskEntity = (TaskEntity) task;
+      taskEntity.setQueryVariables(new VariableInitializingList());
+      tasksById.put(taskEntity.getId(), taskEntity);
+      if (taskEntity.getProcessInstanceId() != null) {
+        List<TaskEntity> processInstanceTasks = tasksByProcessInstanceId.get(taskEntity.getProcessInstanceId());
+        if (processInstanceTasks == null) {
+          processInstanceTasks = new ArrayList<TaskEntity>();
+          tasksByProcessInstanceId.put(taskEntity.getProcessInstanceId(), processInstanceTasks);
+        }
+        processInstanceTasks.add(taskEntity);
+      }
     }
-    taskQuery.setFirstResult(0);
 
-    List<Task> instanceList = getDbSqlSession().selectListWithRawParameterWithoutFilter(query, taskQuery, taskQuery.getFirstResult(), taskQuery.getMaxResults());
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("names", taskQuery.getIncludedVariableNames());
 
-    if (instanceList != null && !instanceList.isEmpty()) {
-      if (firstResult > 0) {
-        if (firstResult <= instanceList.size()) {
-          int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-          return instanceList.subList(firstResult, toIndex);
-        } else {
-          return emptyList();
+    if (taskQuery.isIncludeTaskLocalVariables()) {
+      List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByTaskIdsAndNames", tasksById.keySet(), parameters);
+      for (VariableInstanceEntity variable : variables) {
+        tasksById.get(variable.getTaskId()).getQueryVariables().add(variable);
+      }
+    }
+
+    if (taskQuery.isIncludeProcessVariables() && !tasksByProcessInstanceId.isEmpty()) {
+      List<VariableInstanceEntity> variables = selectListByIds("selectVariablesByExecutionIdsAndNames", tasksByProcessInstanceId.keySet(), parameters);
+      for (VariableInstanceEntity variable : variables) {
+        for (TaskEntity taskEntity : tasksByProcessInstanceId.get(variable.getExecutionId())) {
+          taskEntity.getQueryVariables().add(variable);
         }
-      } else {
-        int toIndex = Math.min(maxResults, instanceList.size());
-        return instanceList.subList(0, toIndex);
       }
     }
-    return emptyList();
+
+    return tasks;
   }
 
   @Override
@@ -111,6 +120,11 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     return (Long) getDbSqlSession().selectOne("selectTaskCountByQueryCriteria", taskQuery);
   }
 
+  @Override
+  public long findTaskCountUpToByQueryCriteria(TaskQueryImpl taskQuery, int limit) {
+    return selectCountUpTo("selectTaskCountUpToByQueryCriteria", taskQuery, limit);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap, int firstResult, int maxResults) {
@@ -136,4 +150,15 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     getDbSqlSession().update("updateTaskTenantIdForDeployment", params);
   }
 
+  @Override
+  public void rebuildTaskInbox() {
+    clearTaskInbox();
+    getDbSqlSession().update("insertTaskInbox", null);
+  }
+
+  @Override
+  public void clearTaskInbox() {
+    getDbSqlSession().update("deleteTaskInbox", null);
+  }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -66,7 +67,13 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
   @SuppressWarnings("unchecked")
   public List<TimerJobEntity> findTimerJobsToExecute(Page page) {
     Date now = getClock().getCurrentTime();
-    return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
+    return findTimerJobsToExecute(page, now);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore) {
+    return getDbSqlSession().selectList("selectTimerJobsToExecute", dueBefore, page);
   }
   
   @Override
@@ -117,4 +124,43 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     getDbSqlSession().update("updateTimerJobTenantIdForDeployment", params);
   }
 
+  @Override
+  public int updateTimerJobLockExpirationTimeByLockOwner(String lockOwner, Date lockExpirationTime) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("lockOwner", lockOwner);
+    params.put("lockExpirationTime", lockExpirationTime);
+    return getDbSqlSession().update("updateTimerJobLockExpirationTimeByLockOwner", params);
+  }
+
+  @Override
+  public int unlockTimerJobsByLockOwner(String lockOwner) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("lockOwner", lockOwner);
+    return getDbSqlSession().update("unlockTimerJobsByLockOwner", params);
+  }
+
+  @Override
+  public int resetExpiredTimerJobs(Date now) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("now", now);
+    return getDbSqlSession().update("resetExpiredTimerJobs", params);
+  }
+
+  @Override
+  public int insertJobsFromLockedTimerJobs(Collection<String> jobIds, String lockOwner) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("jobIds", jobIds);
+    params.put("lockOwner", lockOwner);
+    // Executed directly, not at flush time
+    return getDbSqlSession().update("insertJobsFromLockedTimerJobs", params);
+  }
+
+  @Override
+  public int deleteLockedTimerJobs(Collection<String> jobIds, String lockOwner) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("jobIds", jobIds);
+    params.put("lockOwner", lockOwner);
+    return getDbSqlSession().update("deleteLockedTimerJobs", params);
+  }
+
 }
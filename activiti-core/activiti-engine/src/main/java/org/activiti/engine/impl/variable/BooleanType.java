@@ -53,4 +53,8 @@ public class BooleanType implements VariableType {
     }
     return Boolean.class.isAssignableFrom(value.getClass()) || boolean.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == BooleanType.class;
+  }
 }
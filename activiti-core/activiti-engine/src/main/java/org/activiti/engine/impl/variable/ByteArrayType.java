@@ -41,4 +41,11 @@ public class ByteArrayType implements VariableType {
     }
     return byte[].class.isAssignableFrom(value.getClass());
   }
+
+  /**
+   * Only this type itself is decided by class: subclasses must opt in explicitly.
+   */
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == ByteArrayType.class;
+  }
 }
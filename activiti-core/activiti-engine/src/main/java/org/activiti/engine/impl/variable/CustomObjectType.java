@@ -42,6 +42,10 @@ public class CustomObjectType implements VariableType {
     return this.theClass.isAssignableFrom(value.getClass());
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == CustomObjectType.class;
+  }
+
   public boolean isCachable() {
     return true;
   }
@@ -34,6 +34,10 @@ public class DateType implements VariableType {
     return Date.class.isAssignableFrom(value.getClass());
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == DateType.class;
+  }
+
   public Object getValue(ValueFields valueFields) {
     Long longValue = valueFields.getLongValue();
     if (longValue != null) {
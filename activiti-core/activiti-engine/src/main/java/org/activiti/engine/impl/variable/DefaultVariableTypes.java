@@ -17,11 +17,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.activiti.engine.ActivitiException;
 
 /**
-
+ * Finds the type of a variable value by asking the registered types in order.
+ *
+ * For each class of value, the types that can be skipped because {@link VariableType#isAbleToStoreDecidedByClass()} and
+ * they can't store that class are remembered, as well as the first such type that can. Only the remaining candidate types,
+ * of which the outcome depends on the value itself, are asked again for later values of the same class.
  */
 public class DefaultVariableTypes implements VariableTypes, Serializable {
 
@@ -30,6 +35,9 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
   private final List<VariableType> typesList = new ArrayList<VariableType>();
   private final Map<String, VariableType> typesMap = new HashMap<String, VariableType>();
 
+  // candidate types per class of value, cleared whenever the types change
+  private transient Map<Class<?>, VariableType[]> candidateTypesCache = new ConcurrentHashMap<Class<?>, VariableType[]>();
+
   public DefaultVariableTypes addType(VariableType type) {
     return addType(type, typesList.size());
   }
@@ -37,6 +45,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
   public DefaultVariableTypes addType(VariableType type, int index) {
     typesList.add(index, type);
     typesMap.put(type.getTypeName(), type);
+    clearCandidateTypesCache();
     return this;
   }
 
@@ -47,6 +56,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     for (VariableType type : typesList) {
       typesMap.put(type.getTypeName(), type);
     }
+    clearCandidateTypesCache();
   }
 
   public VariableType getVariableType(String typeName) {
@@ -54,14 +64,57 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
   }
 
   public VariableType findVariableType(Object value) {
-    for (VariableType type : typesList) {
-      if (type.isAbleToStore(value)) {
-        return type;
+    if (value == null) {
+      for (VariableType type : typesList) {
+        if (type.isAbleToStore(value)) {
+          return type;
+        }
+      }
+    } else {
+      for (VariableType type : getCandidateTypes(value)) {
+        if (type.isAbleToStoreDecidedByClass() || type.isAbleToStore(value)) {
+          return type;
+        }
       }
     }
     throw new ActivitiException("couldn't find a variable type that is able to serialize " + value);
   }
 
+  /**
+   * @return the types, in order, that still need to be considered for the given (non-null) value. When the list
+   *         ends with a type of which {@link VariableType#isAbleToStoreDecidedByClass()}, that type is able to store it.
+   */
+  protected VariableType[] getCandidateTypes(Object value) {
+    Map<Class<?>, VariableType[]> cache = candidateTypesCache;
+    if (cache == null) {
+      cache = new ConcurrentHashMap<Class<?>, VariableType[]>();
+      candidateTypesCache = cache;
+    }
+
+    Class<?> valueClass = value.getClass();
+    VariableType[] candidateTypes = cache.get(valueClass);
+    if (candidateTypes == null) {
+      List<VariableType> candidates = new ArrayList<VariableType>();
+      for (VariableType type : typesList) {
+        if (!type.isAbleToStoreDecidedByClass()) {
+          candidates.add(type);
+        } else if (type.isAbleToStore(value)) {
+          candidates.add(type);
+          break;
+        }
+      }
+      candidateTypes = candidates.toArray(new VariableType[candidates.size()]);
+      cache.put(valueClass, candidateTypes);
+    }
+    return candidateTypes;
+  }
+
+  protected void clearCandidateTypesCache() {
+    if (candidateTypesCache != null) {
+      candidateTypesCache.clear();
+    }
+  }
+
   public int getTypeIndex(VariableType type) {
     return typesList.indexOf(type);
   }
@@ -78,6 +131,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
   public VariableTypes removeType(VariableType type) {
     typesList.remove(type);
     typesMap.remove(type.getTypeName());
+    clearCandidateTypesCache();
     return this;
   }
 }
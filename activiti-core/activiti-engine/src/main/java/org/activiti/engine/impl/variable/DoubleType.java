@@ -41,4 +41,8 @@ public class DoubleType implements VariableType {
     }
     return Double.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == DoubleType.class;
+  }
 }
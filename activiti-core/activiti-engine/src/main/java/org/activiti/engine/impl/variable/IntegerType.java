@@ -50,4 +50,8 @@ public class IntegerType implements VariableType {
     }
     return Integer.class.isAssignableFrom(value.getClass()) || int.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == IntegerType.class;
+  }
 }
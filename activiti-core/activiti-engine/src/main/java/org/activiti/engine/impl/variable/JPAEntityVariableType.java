@@ -48,6 +48,10 @@ public class JPAEntityVariableType implements VariableType, CacheableVariable {
     return mappings.isJPAEntity(value);
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == JPAEntityVariableType.class;
+  }
+
   public void setValue(Object value, ValueFields valueFields) {
     EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
     if (entityManagerSession == null) {
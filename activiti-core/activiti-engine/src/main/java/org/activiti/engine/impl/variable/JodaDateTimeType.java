@@ -34,6 +34,10 @@ public class JodaDateTimeType implements VariableType {
     return DateTime.class.isAssignableFrom(value.getClass());
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == JodaDateTimeType.class;
+  }
+
   public Object getValue(ValueFields valueFields) {
     Long longValue = valueFields.getLongValue();
     if (longValue != null) {
@@ -34,6 +34,10 @@ public class JodaDateType implements VariableType {
     return LocalDate.class.isAssignableFrom(value.getClass());
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == JodaDateType.class;
+  }
+
   public Object getValue(ValueFields valueFields) {
     Long longValue = valueFields.getLongValue();
     if (longValue != null) {
@@ -13,12 +13,22 @@
 
 package org.activiti.engine.impl.variable;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Stores json values (and, when enabled, POJOs) as text.
+ *
+ * The length check in {@link #isAbleToStore(Object)} only counts the written characters and stops serializing as
+ * soon as the maximum length is exceeded. The json itself is only produced by {@link #setValue(Object, ValueFields)},
+ * so that it always reflects the current state of the (possibly mutable) value.
+ */
 public class JsonType implements VariableType {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonType.class);
@@ -46,11 +56,17 @@ public class JsonType implements VariableType {
   }
 
   public Object getValue(ValueFields valueFields) {
+    Object cachedValue = valueFields.getCachedValue();
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
     Object loadedValue = null;
     if (valueFields.getTextValue() != null && valueFields.getTextValue().length() > 0) {
         try {
             loadedValue = jsonTypeConverter.convertToValue(
                 objectMapper.readTree(valueFields.getTextValue()), valueFields);
+            valueFields.setCachedValue(loadedValue);
 
         } catch (Exception e) {
           logger.error("Error reading json variable " + valueFields.getName(), e);
@@ -62,6 +78,7 @@ public class JsonType implements VariableType {
   public void setValue(Object value, ValueFields valueFields) {
     try {
       valueFields.setTextValue(objectMapper.writeValueAsString(value));
+      valueFields.setCachedValue(value);
       if (value != null) {
           valueFields.setTextValue2(value.getClass().getName());
       }
@@ -76,9 +93,14 @@ public class JsonType implements VariableType {
     }
 
     if (JsonNode.class.isAssignableFrom(value.getClass()) || (objectMapper.canSerialize(value.getClass()) && serializePOJOsInVariablesToJson)) {
+      LengthLimitedWriter writer = new LengthLimitedWriter(maxLength);
       try {
-        return objectMapper.writeValueAsString(value).length() <= maxLength;
-      } catch (JsonProcessingException e) {
+        objectMapper.writeValue(writer, value);
+        return true;
+      } catch (IOException e) {
+        if (writer.isLimitExceeded()) {
+          return false;
+        }
         logger.error("Error writing json variable of type " + value.getClass(), e);
       }
     }
@@ -86,4 +108,39 @@ public class JsonType implements VariableType {
     return false;
   }
 
+  /**
+   * Counts the written characters of the json, failing as soon as more than the given number is written.
+   */
+  private static class LengthLimitedWriter extends Writer {
+
+    private final int maxLength;
+    private int length;
+    private boolean limitExceeded;
+
+    private LengthLimitedWriter(int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+      if (limitExceeded || this.length + length > maxLength) {
+        limitExceeded = true;
+        throw new IOException("Json exceeds maximum length of " + maxLength);
+      }
+      this.length += length;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private boolean isLimitExceeded() {
+      return limitExceeded;
+    }
+  }
+
 }
@@ -46,4 +46,8 @@ public class LongType implements VariableType {
     }
     return Long.class.isAssignableFrom(value.getClass()) || long.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == LongType.class;
+  }
 }
@@ -35,6 +35,10 @@ public class NullType implements VariableType {
     return (value == null);
   }
 
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == NullType.class;
+  }
+
   public void setValue(Object value, ValueFields valueFields) {
   }
 }
@@ -121,6 +121,14 @@ public class SerializableType extends ByteArrayType {
     return value instanceof Serializable;
   }
 
+  /**
+   * Only this type itself is decided by class: subclasses typically look at the value as well, so they must opt in
+   * explicitly.
+   */
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == SerializableType.class;
+  }
+
   protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
     return new ObjectInputStream(is) {
       protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
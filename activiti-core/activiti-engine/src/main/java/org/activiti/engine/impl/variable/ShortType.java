@@ -50,4 +50,8 @@ public class ShortType implements VariableType {
     }
     return Short.class.isAssignableFrom(value.getClass()) || short.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == ShortType.class;
+  }
 }
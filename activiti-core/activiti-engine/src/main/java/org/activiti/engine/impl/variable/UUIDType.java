@@ -50,4 +50,8 @@ public class UUIDType implements VariableType {
     }
     return UUID.class.isAssignableFrom(value.getClass());
   }
+
+  public boolean isAbleToStoreDecidedByClass() {
+    return getClass() == UUIDType.class;
+  }
 }
\ No newline at end of file
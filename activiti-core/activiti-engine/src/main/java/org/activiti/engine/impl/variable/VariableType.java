@@ -45,6 +45,15 @@ public interface VariableType {
    */
   boolean isAbleToStore(Object value);
 
+  /**
+   * Indicates if the outcome of {@link #isAbleToStore(Object)} for a non-null value only depends on the class of that value,
+   * which allows {@link DefaultVariableTypes} to remember it per class. Types that look at the value itself (its length,
+   * its serialized form, ...) must return false, which is the default.
+   */
+  default boolean isAbleToStoreDecidedByClass() {
+    return false;
+  }
+
   /**
    * Stores the specified value in the supplied {@link ValueFields}.
    */
@@ -14,6 +14,7 @@
 package org.activiti.engine.query;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.api.internal.Internal;
@@ -42,9 +43,46 @@ public interface Query<T extends Query<?, ?>, U> {
    */
   T orderBy(QueryProperty property);
 
+  /**
+   * Only select the results that come after the given result in the order of the query (keyset pagination).
+   * The next page is then fetched with listPage(0, maxResults), which doesn't need to skip the results of the previous pages.
+   * The query can be ordered by at most one column of the queried entity, without null handling. The id is added to the order as tie-breaker.
+   *
+   * @param orderValue the value of the order property of the last result of the previous page, can be null when the query is ordered by id only
+   * @param id the id of the last result of the previous page
+   * @return itself
+   */
+  default T seekAfter(Object orderValue, String id) {
+    throw new ActivitiException("seekAfter() is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Executes the query on the read replica of the database, when one is configured
+   * (see ProcessEngineConfigurationImpl#setReadReplicaDataSource) and the query is executed on its own.
+   * Only use it for queries that can tolerate the replication lag: the query doesn't see the changes made
+   * just before, nor the uncommitted changes of a surrounding (e.g. Spring managed) transaction.
+   *
+   * Queries that don't support the read replica are executed on the primary database.
+   *
+   * @return itself
+   */
+  @SuppressWarnings("unchecked")
+  default T useReadReplica() {
+    return (T) this;
+  }
+
   /** Executes the query and returns the number of results */
   long count();
 
+  /**
+   * Executes the query and returns the number of results, counting at most limit + 1 results.
+   * A number greater than the limit thus means that there are more results than the limit,
+   * without paying for counting all of them.
+   */
+  default long countUpTo(int limit) {
+    return count();
+  }
+
   /**
    * Executes the query and returns the resulting entity or null if no entity matches the query criteria.
    * 
@@ -58,4 +96,14 @@ public interface Query<T extends Query<?, ?>, U> {
 
   /** Executes the query and get a list of entities as the result. */
   List<U> listPage(int firstResult, int maxResults);
+
+  /**
+   * Executes the query and hands the resulting entities one by one to the given consumer, while they are read from the database,
+   * so that large results don't need to fit in memory. The entities are not kept in the cache of the command: they are read-only
+   * and changes to them are not persisted. The database connection is held until the consumer has handled the last entity.
+   * Queries that can't stream their results hand over the entities of {@link #list()}.
+   */
+  default void forEach(Consumer<? super U> consumer) {
+    list().forEach(consumer);
+  }
 }
@@ -37,6 +37,9 @@ public interface JobQuery extends Query<JobQuery, Job> {
   /** Only select jobs which exist for the given process definition id */
   JobQuery processDefinitionId(String processDefinitionid);
 
+  /** Only select jobs which are executed by the job handler of the given type */
+  JobQuery handlerType(String handlerType);
+
   /**
    * Only select jobs that are timers. Cannot be used together with {@link #messages()}
    */
@@ -13,6 +13,7 @@
 package org.activiti.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -279,10 +280,16 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
   ProcessInstanceQuery includeProcessVariables();
   
   /**
-   * Limit process instance variables
+   * Limit process instance variables.
+   * The variables of a page of process instances are loaded with a separate query, so this limit is no longer applied.
    */
   ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit);
 
+  /**
+   * Only include the process variables with the given names in the process query result, when process variables are included.
+   */
+  ProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames);
+
   /**
    * Only select process instances that failed due to an exception happening during a job execution.
    */
@@ -527,7 +527,8 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
   T includeProcessVariables();
   
   /**
-   * Limit task variables
+   * Limit task variables.
+   * The variables of a page of tasks are loaded with a separate query, so this limit no longer applies to task queries.
    */
   T limitTaskVariables(Integer taskVariablesLimit);
   
@@ -14,6 +14,7 @@ package org.activiti.engine.task;
 
 import org.activiti.engine.api.internal.Internal;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -53,4 +54,9 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
    * Only selects tasks which are active (ie. not suspended)
    */
   TaskQuery active();
+
+  /**
+   * Only include the variables with the given names in the task query result, when task local variables or process variables are included.
+   */
+  TaskQuery limitIncludedVariables(Collection<String> variableNames);
 }
@@ -6,10 +6,10 @@ create table ACT_GE_PROPERTY (
 );
 
 insert into ACT_GE_PROPERTY
-values ('schema.version', '7.1.0-M6', 1);
+values ('schema.version', '7.1.0-M7', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(7.1.0-M6)', 1);
+values ('schema.history', 'create(7.1.0-M7)', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -34,6 +34,7 @@ create table ACT_RE_DEPLOYMENT (
     ENGINE_VERSION_ varchar(255),
     VERSION_ integer default 1,
     PROJECT_RELEASE_VERSION_ varchar(255),
+    DIGEST_ varchar(64),
     primary key (ID_)
 );
 
@@ -226,6 +227,16 @@ create table ACT_RU_IDENTITYLINK (
     primary key (ID_)
 );
 
+create table ACT_RU_TASK_INBOX (
+    ID_ varchar(64) not null,
+    TASK_ID_ varchar(64) not null,
+    USER_ID_ varchar(255),
+    GROUP_ID_ varchar(255),
+    PRIORITY_ integer,
+    CREATE_TIME_ timestamp,
+    primary key (ID_)
+);
+
 create table ACT_RU_VARIABLE (
     ID_ varchar(64) not null,
     REV_ integer,
@@ -295,6 +306,9 @@ create index ACT_IDC_EXEC_ROOT on ACT_RU_EXECUTION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
 create index ACT_IDX_IDENT_LNK_USER on ACT_RU_IDENTITYLINK(USER_ID_);
 create index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK(GROUP_ID_);
+create index ACT_IDX_TASK_INBOX_USER on ACT_RU_TASK_INBOX(USER_ID_, PRIORITY_, CREATE_TIME_);
+create index ACT_IDX_TASK_INBOX_GROUP on ACT_RU_TASK_INBOX(GROUP_ID_, PRIORITY_, CREATE_TIME_);
+create index ACT_IDX_TASK_INBOX_TASK on ACT_RU_TASK_INBOX(TASK_ID_);
 create index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR(CONFIGURATION_);
 create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 create index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
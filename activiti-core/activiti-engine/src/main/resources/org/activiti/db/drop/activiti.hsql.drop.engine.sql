@@ -10,6 +10,7 @@ drop table if exists ACT_RU_DEADLETTER_JOB cascade;
 drop table if exists ACT_RE_PROCDEF cascade;
 drop table if exists ACT_RU_TASK cascade;
 drop table if exists ACT_RU_IDENTITYLINK cascade;
+drop table if exists ACT_RU_TASK_INBOX cascade;
 drop table if exists ACT_RU_VARIABLE cascade;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade;
 drop table if exists ACT_EVT_LOG cascade;
@@ -20,6 +21,9 @@ drop index if exists ACT_IDX_EXEC_BUSKEY;
 drop index if exists ACT_IDX_TASK_CREATE;
 drop index if exists ACT_IDX_IDENT_LNK_USER;
 drop index if exists ACT_IDX_IDENT_LNK_GROUP;
+drop index if exists ACT_IDX_TASK_INBOX_USER;
+drop index if exists ACT_IDX_TASK_INBOX_GROUP;
+drop index if exists ACT_IDX_TASK_INBOX_TASK;
 drop index if exists ACT_IDX_VARIABLE_TASK_ID;
 drop index if exists ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index if exists ACT_IDX_ATHRZ_PROCEDEF;
@@ -2,6 +2,9 @@ drop index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION;
 drop index ACT_IDX_TASK_CREATE on ACT_RU_TASK;
 drop index ACT_IDX_IDENT_LNK_USER on ACT_RU_IDENTITYLINK;
 drop index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK;
+drop index ACT_IDX_TASK_INBOX_USER on ACT_RU_TASK_INBOX;
+drop index ACT_IDX_TASK_INBOX_GROUP on ACT_RU_TASK_INBOX;
+drop index ACT_IDX_TASK_INBOX_TASK on ACT_RU_TASK_INBOX;
 drop index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE;
 drop index ACT_IDX_INFO_PROCDEF on ACT_PROCDEF_INFO;
 
@@ -128,6 +131,7 @@ drop table if exists ACT_GE_BYTEARRAY;
 drop table if exists ACT_RE_DEPLOYMENT;
 drop table if exists ACT_RE_MODEL;
 drop table if exists ACT_RU_IDENTITYLINK;
+drop table if exists ACT_RU_TASK_INBOX;
 drop table if exists ACT_RU_TASK;
 drop table if exists ACT_RE_PROCDEF;
 drop table if exists ACT_RU_EXECUTION;
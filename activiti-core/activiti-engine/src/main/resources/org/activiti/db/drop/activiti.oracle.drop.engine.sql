@@ -34,6 +34,9 @@ drop index ACT_IDX_EXEC_BUSKEY;
 drop index ACT_IDX_TASK_CREATE;
 drop index ACT_IDX_IDENT_LNK_USER;
 drop index ACT_IDX_IDENT_LNK_GROUP;
+drop index ACT_IDX_TASK_INBOX_USER;
+drop index ACT_IDX_TASK_INBOX_GROUP;
+drop index ACT_IDX_TASK_INBOX_TASK;
 drop index ACT_IDX_VARIABLE_TASK_ID;
 
 alter table ACT_GE_BYTEARRAY 
@@ -167,6 +170,7 @@ drop table ACT_RE_DEPLOYMENT;
 drop table ACT_RE_MODEL;
 drop table ACT_RE_PROCDEF;
 drop table ACT_RU_IDENTITYLINK;
+drop table ACT_RU_TASK_INBOX;
 drop table ACT_RU_VARIABLE;
 drop table ACT_RU_TASK;
 drop table ACT_RU_EXECUTION;
@@ -0,0 +1,17 @@
+update ACT_GE_PROPERTY set VALUE_ = '7.1.0-M7' where NAME_ = 'schema.version';
+
+create table ACT_RU_TASK_INBOX (
+    ID_ nvarchar(64) not null,
+    TASK_ID_ nvarchar(64) not null,
+    USER_ID_ nvarchar(255),
+    GROUP_ID_ nvarchar(255),
+    PRIORITY_ int,
+    CREATE_TIME_ datetime,
+    primary key (ID_)
+);
+
+create index ACT_IDX_TASK_INBOX_USER on ACT_RU_TASK_INBOX(USER_ID_, PRIORITY_, CREATE_TIME_);
+create index ACT_IDX_TASK_INBOX_GROUP on ACT_RU_TASK_INBOX(GROUP_ID_, PRIORITY_, CREATE_TIME_);
+create index ACT_IDX_TASK_INBOX_TASK on ACT_RU_TASK_INBOX(TASK_ID_);
+
+alter table ACT_RE_DEPLOYMENT add DIGEST_ nvarchar(64);
@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntityImpl;
+import org.junit.Test;
+
+public class AsyncJobNodePartitionerTest {
+
+  private AsyncJobNodePartitioner partitioner = new AsyncJobNodePartitioner(2, 0, 1000L);
+
+  @Test
+  public void shouldAssignJobsOfSameProcessInstanceToSamePartition() {
+    JobEntity job = createJob("job1", "processInstance1");
+    JobEntity otherJob = createJob("job2", "processInstance1");
+
+    assertThat(partitioner.getPartition(job)).isEqualTo(partitioner.getPartition(otherJob));
+    assertThat(AsyncJobNodePartitioner.getPartition(job, 4)).isEqualTo(AsyncJobNodePartitioner.getPartition(otherJob, 4));
+  }
+
+  @Test
+  public void shouldOnlySelectJobsOfOwnPartition() {
+    List<JobEntity> candidates = createJobsOfDifferentProcessInstances(20);
+
+    List<JobEntity> selectedJobs = partitioner.selectJobs(candidates, 20, 0L);
+
+    assertThat(selectedJobs).isNotEmpty();
+    assertThat(selectedJobs).allMatch(job -> partitioner.getPartition(job) == 0);
+    assertThat(selectedJobs).hasSize((int) candidates.stream().filter(job -> partitioner.getPartition(job) == 0).count());
+  }
+
+  @Test
+  public void shouldTakeOverJobsOfOtherPartitionAfterTakeoverTime() {
+    List<JobEntity> candidates = createJobsOfDifferentProcessInstances(20);
+    long otherPartitionJobCount = candidates.stream().filter(job -> partitioner.getPartition(job) == 1).count();
+
+    partitioner.selectJobs(candidates, 20, 0L);
+    assertThat(partitioner.selectJobs(candidates, 20, 999L)).allMatch(job -> partitioner.getPartition(job) == 0);
+
+    List<JobEntity> selectedJobs = partitioner.selectJobs(candidates, 20, 1000L);
+    assertThat(selectedJobs).hasSize(candidates.size());
+    assertThat(selectedJobs.stream().filter(job -> partitioner.getPartition(job) == 1).count()).isEqualTo(otherPartitionJobCount);
+  }
+
+  @Test
+  public void shouldNotSelectMoreThanMaxJobs() {
+    assertThat(partitioner.selectJobs(createJobsOfDifferentProcessInstances(20), 2, 0L)).hasSize(2);
+  }
+
+  @Test
+  public void shouldRouteJobsOfSameProcessInstanceToSameLane() {
+    DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+    asyncExecutor.setProcessInstanceLaneCount(3);
+    asyncExecutor.initAsyncJobExecutionThreadPool();
+    try {
+      assertThat(asyncExecutor.getExecutorService()).isNull();
+      assertThat(asyncExecutor.getProcessInstanceLanes()).hasSize(3);
+      assertThat(asyncExecutor.getExecutorService(createJob("job1", "processInstance1")))
+          .isSameAs(asyncExecutor.getExecutorService(createJob("job2", "processInstance1")));
+    } finally {
+      asyncExecutor.stopExecutingAsyncJobs();
+    }
+  }
+
+  @Test
+  public void shouldExecuteJobsOnLaneOfTheirProcessInstance() throws Exception {
+    List<JobEntity> jobs = new ArrayList<JobEntity>();
+    for (int i = 0; i < 20; i++) {
+      jobs.add(createJob("job" + i, "processInstance" + (i % 5)));
+    }
+    Map<String, String> executingThreads = new ConcurrentHashMap<String, String>();
+    CountDownLatch executedJobs = new CountDownLatch(jobs.size());
+
+    DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+    asyncExecutor.setProcessInstanceLaneCount(3);
+    asyncExecutor.setExecuteAsyncRunnableFactory((job, processEngineConfiguration) -> () -> {
+      executingThreads.put(job.getId(), Thread.currentThread().getName());
+      executedJobs.countDown();
+    });
+    asyncExecutor.initAsyncJobExecutionThreadPool();
+    asyncExecutor.isActive = true;
+    try {
+      for (JobEntity job : jobs) {
+        assertThat(asyncExecutor.executeAsyncJob(job)).isTrue();
+      }
+      assertThat(executedJobs.await(10, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      asyncExecutor.isActive = false;
+      asyncExecutor.stopExecutingAsyncJobs();
+    }
+
+    for (JobEntity job : jobs) {
+      int lane = AsyncJobNodePartitioner.getPartition(job, 3);
+      assertThat(executingThreads.get(job.getId())).startsWith("activiti-async-job-executor-lane-" + lane + "-");
+    }
+  }
+
+  @Test
+  public void shouldApplyNodePartitionConfiguration() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+        .setAsyncExecutorProcessInstanceLaneCount(4)
+        .setAsyncExecutorNodePartitionCount(3)
+        .setAsyncExecutorNodePartitionIndex(2)
+        .setAsyncExecutorNodePartitionTakeoverTimeInMillis(1234L);
+
+    DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+    asyncExecutor.applyConfig(processEngineConfiguration);
+
+    assertThat(asyncExecutor.getProcessInstanceLaneCount()).isEqualTo(4);
+    AsyncJobNodePartitioner nodePartitioner = asyncExecutor.getNodePartitioner();
+    assertThat(nodePartitioner.getPartitionCount()).isEqualTo(3);
+    assertThat(nodePartitioner.getPartitionIndex()).isEqualTo(2);
+    assertThat(nodePartitioner.getTakeoverTimeInMillis()).isEqualTo(1234L);
+  }
+
+  protected List<JobEntity> createJobsOfDifferentProcessInstances(int count) {
+    List<JobEntity> jobs = new ArrayList<JobEntity>();
+    for (int i = 0; i < count; i++) {
+      jobs.add(createJob("job" + i, "processInstance" + i));
+    }
+    return jobs;
+  }
+
+  protected JobEntity createJob(String id, String processInstanceId) {
+    JobEntity job = new JobEntityImpl();
+    job.setId(id);
+    job.setProcessInstanceId(processInstanceId);
+    return job;
+  }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+  // Buckets of 1, 4 and 16 ticks of 100ms: the wheel spans 6.4 seconds
+  private TimingWheel timingWheel = new TimingWheel(100L, 4, 3, 0L);
+
+  @Test
+  public void shouldExpireJobAtItsDueTime() {
+    assertThat(timingWheel.add("job", 250L)).isTrue();
+
+    assertThat(advanceTickByTick(0L, 200L)).isEmpty();
+    assertThat(timingWheel.advance(299L)).isEmpty();
+    assertThat(timingWheel.advance(300L)).containsExactly("job");
+    assertThat(timingWheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldCascadeJobsOfHigherLevels() {
+    timingWheel.add("job1", 2000L);
+    timingWheel.add("job2", 500L);
+    timingWheel.add("job3", 1700L);
+
+    List<String> expiredBefore = advanceTickByTick(0L, 1900L);
+    assertThat(expiredBefore).containsExactly("job2", "job3");
+    assertThat(timingWheel.advance(2000L)).containsExactly("job1");
+  }
+
+  @Test
+  public void shouldKeepJobsBeyondTheSpanOfTheWheel() {
+    timingWheel.add("job", 10000L);
+
+    assertThat(advanceTickByTick(0L, 9900L)).isEmpty();
+    assertThat(timingWheel.contains("job")).isTrue();
+    assertThat(timingWheel.advance(10000L)).containsExactly("job");
+  }
+
+  @Test
+  public void shouldNotAddDueJobs() {
+    timingWheel.advance(1000L);
+
+    assertThat(timingWheel.add("job", 1000L)).isFalse();
+    assertThat(timingWheel.add("job", 500L)).isFalse();
+    assertThat(timingWheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldReplaceDueTimeOfJobAlreadyInWheel() {
+    timingWheel.add("job", 300L);
+    timingWheel.add("job", 800L);
+
+    assertThat(timingWheel.size()).isEqualTo(1);
+    assertThat(advanceTickByTick(0L, 700L)).isEmpty();
+    assertThat(timingWheel.advance(800L)).containsExactly("job");
+  }
+
+  @Test
+  public void shouldNotExpireRemovedJobs() {
+    timingWheel.add("job", 300L);
+
+    assertThat(timingWheel.remove("job")).isTrue();
+    assertThat(timingWheel.remove("job")).isFalse();
+    assertThat(advanceTickByTick(0L, 1000L)).isEmpty();
+  }
+
+  @Test
+  public void shouldExpireAllDueJobsOnLargeJump() {
+    timingWheel.add("job1", 300L);
+    timingWheel.add("job2", 5000L);
+    timingWheel.add("job3", 60000L);
+
+    assertThat(timingWheel.advance(10000L)).containsExactlyInAnyOrder("job1", "job2");
+    assertThat(timingWheel.getJobIds()).containsExactly("job3");
+    assertThat(advanceTickByTick(10000L, 59900L)).isEmpty();
+    assertThat(timingWheel.advance(60000L)).containsExactly("job3");
+  }
+
+  @Test
+  public void shouldKeepWorkingWhenClockIsMovedBack() {
+    timingWheel.advance(5000L);
+    timingWheel.add("job", 5500L);
+
+    assertThat(timingWheel.advance(1000L)).isEmpty();
+    assertThat(advanceTickByTick(1000L, 5400L)).isEmpty();
+    assertThat(timingWheel.advance(5500L)).containsExactly("job");
+  }
+
+  private List<String> advanceTickByTick(long fromMillis, long toMillis) {
+    List<String> expiredJobIds = new ArrayList<String>();
+    for (long time = fromMillis; time <= toMillis; time += 100L) {
+      expiredJobIds.addAll(timingWheel.advance(time));
+    }
+    return expiredJobIds;
+  }
+
+}
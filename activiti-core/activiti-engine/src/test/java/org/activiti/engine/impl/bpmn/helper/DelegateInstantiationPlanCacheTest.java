@@ -0,0 +1,114 @@
+package org.activiti.engine.impl.bpmn.helper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiIllegalArgumentException;
+import org.activiti.engine.delegate.DelegateExecution;
+import org.activiti.engine.delegate.Expression;
+import org.activiti.engine.delegate.JavaDelegate;
+import org.activiti.engine.delegate.StatelessDelegate;
+import org.activiti.engine.impl.bpmn.parser.FieldDeclaration;
+import org.activiti.engine.impl.el.FixedValue;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class DelegateInstantiationPlanCacheTest {
+
+    private DelegateInstantiationPlanCache cache = new DelegateInstantiationPlanCache();
+
+    @Test
+    public void getPlan_should_inject_field_declarations_through_setters_and_fields() {
+        //given
+        List<FieldDeclaration> fieldDeclarations = fieldDeclarations("first", "second");
+
+        //when
+        Object delegate = cache.getPlan(FieldInjectedDelegate.class.getName(), fieldDeclarations).instantiate(fieldDeclarations);
+
+        //then
+        assertThat(delegate).isInstanceOf(FieldInjectedDelegate.class);
+        assertThat(((FieldInjectedDelegate) delegate).setterField.getExpressionText()).isEqualTo("first");
+        assertThat(((FieldInjectedDelegate) delegate).privateField.getExpressionText()).isEqualTo("second");
+    }
+
+    @Test
+    public void getPlan_should_reuse_the_plan_for_the_same_class_and_fields() {
+        //given
+        DelegateInstantiationPlan plan = cache.getPlan(FieldInjectedDelegate.class.getName(), fieldDeclarations("first", "second"));
+
+        //when
+        List<FieldDeclaration> otherValues = fieldDeclarations("third", "fourth");
+        DelegateInstantiationPlan otherPlan = cache.getPlan(FieldInjectedDelegate.class.getName(), otherValues);
+
+        //then
+        assertThat(otherPlan).isSameAs(plan);
+        assertThat(cache.size()).isEqualTo(1);
+        FieldInjectedDelegate delegate = (FieldInjectedDelegate) otherPlan.instantiate(otherValues);
+        assertThat(delegate.setterField.getExpressionText()).isEqualTo("third");
+        assertThat(delegate.privateField.getExpressionText()).isEqualTo("fourth");
+    }
+
+    @Test
+    public void instantiate_should_create_a_new_instance_for_each_invocation() {
+        //given
+        DelegateInstantiationPlan plan = cache.getPlan(FieldInjectedDelegate.class.getName(), null);
+
+        //then
+        assertThat(plan.isShared()).isFalse();
+        assertThat(plan.instantiate(null)).isNotSameAs(plan.instantiate(null));
+    }
+
+    @Test
+    public void instantiate_should_share_stateless_delegates_without_field_declarations() {
+        //given
+        DelegateInstantiationPlan plan = cache.getPlan(SharedDelegate.class.getName(), Collections.<FieldDeclaration>emptyList());
+
+        //then
+        assertThat(plan.isShared()).isTrue();
+        assertThat(plan.instantiate(null)).isSameAs(plan.instantiate(null));
+    }
+
+    @Test
+    public void getPlan_should_fail_on_unknown_class_and_field() {
+        assertThatExceptionOfType(ActivitiException.class)
+            .isThrownBy(() -> cache.getPlan("org.activiti.BogusClass", null))
+            .withMessageContaining("couldn't instantiate class org.activiti.BogusClass");
+
+        assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+            .isThrownBy(() -> cache.getPlan(FieldInjectedDelegate.class.getName(),
+                Collections.singletonList(new FieldDeclaration("unknownField", Expression.class.getName(), new FixedValue("value")))))
+            .withMessageContaining("unknownField");
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private List<FieldDeclaration> fieldDeclarations(String setterFieldValue, String privateFieldValue) {
+        return Arrays.asList(new FieldDeclaration("setterField", Expression.class.getName(), new FixedValue(setterFieldValue)),
+                             new FieldDeclaration("privateField", Expression.class.getName(), new FixedValue(privateFieldValue)));
+    }
+
+    public static class FieldInjectedDelegate implements JavaDelegate {
+
+        private Expression setterField;
+        private Expression privateField;
+
+        public void setSetterField(Expression setterField) {
+            this.setterField = setterField;
+        }
+
+        public void execute(DelegateExecution execution) {
+        }
+    }
+
+    @StatelessDelegate
+    public static class SharedDelegate implements JavaDelegate {
+
+        public void execute(DelegateExecution execution) {
+        }
+    }
+
+}
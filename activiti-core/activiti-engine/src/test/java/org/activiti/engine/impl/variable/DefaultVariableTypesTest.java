@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+import java.util.HashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.activiti.engine.ActivitiException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DefaultVariableTypesTest {
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private StringType stringType;
+    private LongStringType longStringType;
+    private IntegerType integerType;
+    private DateType dateType;
+
+    private DefaultVariableTypes variableTypes;
+
+    @Before
+    public void setUp() {
+        stringType = spy(new StringType(10));
+        longStringType = spy(new LongStringType(11));
+        integerType = spy(new IntegerType());
+        dateType = spy(new DateType());
+        // the spies are subclasses, which have to opt in
+        doReturn(true).when(integerType).isAbleToStoreDecidedByClass();
+        doReturn(true).when(dateType).isAbleToStoreDecidedByClass();
+
+        variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(stringType);
+        variableTypes.addType(longStringType);
+        variableTypes.addType(integerType);
+        variableTypes.addType(dateType);
+        variableTypes.addType(new JsonType(20, objectMapper, false, new JsonTypeConverter(objectMapper, "@class")));
+    }
+
+    @Test
+    public void should_askClassBasedTypesOnlyOncePerClass() {
+        //when
+        for (int i = 0; i < 3; i++) {
+            assertThat(variableTypes.findVariableType(new Date())).isSameAs(dateType);
+        }
+
+        //then
+        verify(integerType, times(1)).isAbleToStore(any());
+        verify(dateType, times(1)).isAbleToStore(any());
+    }
+
+    @Test
+    public void should_askValueDependentTypesForEveryValue() {
+        //then
+        assertThat(variableTypes.findVariableType("short")).isSameAs(stringType);
+        assertThat(variableTypes.findVariableType("a much longer string")).isSameAs(longStringType);
+        assertThat(variableTypes.findVariableType("short again")).isSameAs(longStringType);
+        assertThat(variableTypes.findVariableType("short")).isSameAs(stringType);
+        verify(stringType, times(4)).isAbleToStore(any());
+    }
+
+    @Test
+    public void should_askSubclassOfSerializableTypeForEveryValue_when_notOptedIn() {
+        //given
+        SerializableType smallMapType = spy(new SmallMapType());
+        SerializableType serializableType = new SerializableType();
+        variableTypes.addType(smallMapType);
+        variableTypes.addType(serializableType);
+        HashMap<String, Object> bigMap = new HashMap<String, Object>();
+        bigMap.put("a", 1);
+        bigMap.put("b", 2);
+
+        //then
+        assertThat(variableTypes.findVariableType(new HashMap<String, Object>())).isSameAs(smallMapType);
+        assertThat(variableTypes.findVariableType(bigMap)).isSameAs(serializableType);
+        assertThat(variableTypes.findVariableType(new HashMap<String, Object>())).isSameAs(smallMapType);
+        verify(smallMapType, times(3)).isAbleToStore(any());
+    }
+
+    @Test
+    public void should_askSubclassOfClassBasedTypeForEveryValue_when_notOptedIn() {
+        //given
+        DateType pastDateType = spy(new PastDateType());
+        variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(pastDateType);
+        variableTypes.addType(dateType);
+        Date future = new Date(System.currentTimeMillis() + 60000L);
+
+        //then
+        assertThat(variableTypes.findVariableType(new Date(0L))).isSameAs(pastDateType);
+        assertThat(variableTypes.findVariableType(future)).isSameAs(dateType);
+        assertThat(variableTypes.findVariableType(new Date(0L))).isSameAs(pastDateType);
+        verify(pastDateType, times(3)).isAbleToStore(any());
+    }
+
+    @Test
+    public void should_findNullType_when_valueIsNull() {
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo("null");
+    }
+
+    @Test
+    public void should_considerNewType_when_typeIsAdded() {
+        //given
+        assertThatExceptionOfType(ActivitiException.class).isThrownBy(() -> variableTypes.findVariableType(1L));
+
+        //when
+        LongType longType = new LongType();
+        variableTypes.addType(longType);
+
+        //then
+        assertThat(variableTypes.findVariableType(1L)).isSameAs(longType);
+    }
+
+    @Test
+    public void should_notFindRemovedType() {
+        //given
+        assertThat(variableTypes.findVariableType(1)).isSameAs(integerType);
+
+        //when
+        variableTypes.removeType(integerType);
+
+        //then
+        assertThatExceptionOfType(ActivitiException.class).isThrownBy(() -> variableTypes.findVariableType(1));
+    }
+
+    public static class PastDateType extends DateType {
+
+        @Override
+        public String getTypeName() {
+            return "pastDate";
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return super.isAbleToStore(value) && ((Date) value).getTime() < System.currentTimeMillis();
+        }
+    }
+
+    public static class SmallMapType extends SerializableType {
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof HashMap && ((HashMap<?, ?>) value).size() < 2;
+        }
+    }
+
+}
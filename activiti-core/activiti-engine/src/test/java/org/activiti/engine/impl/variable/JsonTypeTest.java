@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+
+public class JsonTypeTest {
+
+    private ObjectMapper objectMapper = spy(new ObjectMapper());
+
+    private JsonType jsonType = new JsonType(20, objectMapper, false, new JsonTypeConverter(objectMapper, "@class"));
+
+    @Test
+    public void should_storeCurrentJson_when_valueChangedAfterLengthCheck() throws Exception {
+        //given
+        ObjectNode value = objectMapper.createObjectNode().put("name", "John");
+        ValueFields valueFields = mock(ValueFields.class);
+        assertThat(jsonType.isAbleToStore(value)).isTrue();
+
+        //when
+        value.put("name", "Jane");
+        jsonType.setValue(value, valueFields);
+
+        //then
+        verify(valueFields).setTextValue("{\"name\":\"Jane\"}");
+        verify(valueFields).setCachedValue(value);
+    }
+
+    @Test
+    public void should_notBeAbleToStore_when_jsonExceedsMaxLength() {
+        //given
+        ObjectNode value = objectMapper.createObjectNode().put("name", "a name that is too long");
+
+        //then
+        assertThat(jsonType.isAbleToStore(value)).isFalse();
+        assertThat(jsonType.isAbleToStore(objectMapper.createObjectNode().put("name", "short"))).isTrue();
+    }
+
+    @Test
+    public void should_returnCachedValue_when_available() throws Exception {
+        //given
+        ObjectNode cachedValue = objectMapper.createObjectNode().put("name", "John");
+        ValueFields valueFields = mock(ValueFields.class);
+        given(valueFields.getCachedValue()).willReturn(cachedValue);
+        given(valueFields.getTextValue()).willReturn("{\"name\":\"John\"}");
+
+        //when
+        Object value = jsonType.getValue(valueFields);
+
+        //then
+        assertThat(value).isSameAs(cachedValue);
+        verify(objectMapper, never()).readTree(any(String.class));
+    }
+
+    @Test
+    public void should_cacheDeserializedValue() throws Exception {
+        //given
+        ValueFields valueFields = mock(ValueFields.class);
+        given(valueFields.getTextValue()).willReturn("{\"name\":\"John\"}");
+
+        //when
+        Object value = jsonType.getValue(valueFields);
+
+        //then
+        assertThat(value).isEqualTo(objectMapper.createObjectNode().put("name", "John"));
+        verify(valueFields).setCachedValue(value);
+    }
+
+}
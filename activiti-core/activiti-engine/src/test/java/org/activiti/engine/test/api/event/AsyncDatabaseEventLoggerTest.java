@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.event.EventLogEntry;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter;
+import org.activiti.engine.impl.event.logger.EventLogger;
+import org.activiti.engine.impl.event.logger.handler.Fields;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.task.Task;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class AsyncDatabaseEventLoggerTest extends PluggableActivitiTestCase {
+
+  protected EventLogger databaseEventLogger;
+  protected AsyncEventLogWriter eventLogWriter;
+  protected String taskId;
+
+  protected ObjectMapper objectMapper = new ObjectMapper();
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    eventLogWriter = new AsyncEventLogWriter(processEngineConfiguration.getCommandExecutor(), processEngineConfiguration.getObjectMapper(), 10);
+    eventLogWriter.start();
+
+    databaseEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper());
+    databaseEventLogger.setAsyncEventLogWriter(eventLogWriter);
+    runtimeService.addEventListener(databaseEventLogger);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    runtimeService.removeEventListener(databaseEventLogger);
+    eventLogWriter.shutdown();
+
+    if (taskId != null) {
+      taskService.deleteTask(taskId, true);
+    }
+    for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+      managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+    }
+
+    super.tearDown();
+  }
+
+  public void testEntriesAreWrittenAfterCommit() throws Exception {
+    Task task = taskService.newTask();
+    task.setName("async logged task");
+    task.setTenantId("myTenant");
+    taskService.saveTask(task);
+    taskId = task.getId();
+    taskService.setAssignee(task.getId(), "gonzo");
+
+    waitForEntries(2);
+    assertThat(eventLogWriter.getFailedEntryCount()).isZero();
+
+    List<EventLogEntry> events = managementService.getEventLogEntries(null, null);
+    assertThat(events).extracting(EventLogEntry::getType).containsExactly("TASK_CREATED", "TASK_ASSIGNED");
+    for (EventLogEntry eventLogEntry : events) {
+      Map<String, Object> data = objectMapper.readValue(eventLogEntry.getData(), new TypeReference<HashMap<String, Object>>() {
+      });
+      assertThat(data.get(Fields.TENANT_ID)).isEqualTo("myTenant");
+    }
+  }
+
+  public void testEntriesAreWrittenByCallerWhenWriterIsStopped() throws Exception {
+    eventLogWriter.shutdown();
+    long callerRunsBefore = eventLogWriter.getCallerRunsCount();
+
+    Task task = taskService.newTask();
+    taskService.saveTask(task);
+    taskId = task.getId();
+
+    assertThat(eventLogWriter.getCallerRunsCount()).isEqualTo(callerRunsBefore + 1);
+    assertThat(managementService.getEventLogEntries(null, null)).extracting(EventLogEntry::getType).containsExactly("TASK_CREATED");
+  }
+
+  public void testEntriesOfRolledBackCommandAreNotWritten() throws Exception {
+    try {
+      managementService.executeCommand(commandContext -> {
+        Task task = taskService.newTask();
+        task.setName("rolled back task");
+        taskService.saveTask(task);
+        throw new ActivitiException("rollback");
+      });
+      fail("ActivitiException expected");
+    } catch (ActivitiException e) {
+      assertThat(e.getMessage()).isEqualTo("rollback");
+    }
+
+    Task task = taskService.newTask();
+    task.setName("committed task");
+    taskService.saveTask(task);
+    taskId = task.getId();
+
+    waitForEntries(1);
+    assertThat(managementService.getEventLogEntries(null, null)).extracting(EventLogEntry::getTaskId).containsExactly(taskId);
+  }
+
+  protected void waitForEntries(long expectedCount) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 5000L;
+    while (eventLogWriter.getWrittenEntryCount() < expectedCount && System.currentTimeMillis() < timeout) {
+      Thread.sleep(50L);
+    }
+    assertThat(eventLogWriter.getWrittenEntryCount()).isEqualTo(expectedCount);
+  }
+
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.delegate.event.ActivitiPostCommitEventListener;
+import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
+import org.activiti.engine.delegate.event.impl.PostCommitEventExecutor;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.test.Deployment;
+
+public class PostCommitEventListenerTest extends PluggableActivitiTestCase {
+
+  private RecordingPostCommitListener listener;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    listener = new RecordingPostCommitListener();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    runtimeService.removeEventListener(listener);
+    super.tearDown();
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/api/oneTaskProcess.bpmn20.xml" })
+  public void testEventsAreDeliveredAfterCommit() throws Exception {
+    runtimeService.addEventListener(listener, ActivitiEventType.PROCESS_STARTED, ActivitiEventType.TASK_CREATED);
+
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    waitForEvents(2);
+    assertThat(listener.events).extracting(ActivitiEvent::getType)
+        .containsExactlyInAnyOrder(ActivitiEventType.TASK_CREATED, ActivitiEventType.PROCESS_STARTED);
+    assertThat(listener.events).extracting(ActivitiEvent::getProcessInstanceId)
+        .containsOnly(processInstance.getId());
+    assertThat(listener.threadNames).allMatch(name -> name.startsWith("activiti-post-commit-event-lane"));
+  }
+
+  public void testEventsOfFailedCommandAreDropped() throws Exception {
+    runtimeService.addEventListener(listener, ActivitiEventType.CUSTOM);
+    PostCommitEventExecutor executor = processEngineConfiguration.getPostCommitEventExecutor();
+    long droppedBefore = executor.getDroppedEventCount();
+
+    assertThatExceptionOfType(ActivitiException.class).isThrownBy(() -> managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(ActivitiEventBuilder.createGlobalEvent(ActivitiEventType.CUSTOM));
+        throw new ActivitiException("failing command");
+      }
+    }));
+
+    assertThat(executor.getDroppedEventCount()).isEqualTo(droppedBefore + 1);
+    assertThat(listener.events).isEmpty();
+
+    managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(ActivitiEventBuilder.createGlobalEvent(ActivitiEventType.CUSTOM));
+        // not delivered before the command has been committed
+        assertThat(listener.events).isEmpty();
+        return null;
+      }
+    });
+
+    waitForEvents(1);
+    assertThat(listener.events).extracting(ActivitiEvent::getType).containsExactly(ActivitiEventType.CUSTOM);
+  }
+
+  protected void waitForEvents(int expectedCount) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 5000L;
+    while (listener.events.size() < expectedCount && System.currentTimeMillis() < timeout) {
+      Thread.sleep(50L);
+    }
+    assertThat(listener.events).hasSize(expectedCount);
+  }
+
+  public static class RecordingPostCommitListener implements ActivitiPostCommitEventListener {
+
+    protected List<ActivitiEvent> events = new CopyOnWriteArrayList<ActivitiEvent>();
+    protected List<String> threadNames = new CopyOnWriteArrayList<String>();
+
+    @Override
+    public void onEvent(ActivitiEvent event) {
+      threadNames.add(Thread.currentThread().getName());
+      events.add(event);
+    }
+
+    @Override
+    public boolean isFailOnException() {
+      return false;
+    }
+  }
+
+}
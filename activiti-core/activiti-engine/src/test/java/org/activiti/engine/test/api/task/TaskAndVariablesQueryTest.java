@@ -290,6 +290,38 @@ public class TaskAndVariablesQueryTest extends PluggableActivitiTestCase {
         assertThat(task.getProcessVariables().get("anotherProcessVar")).isEqualTo(123);
     }
 
+    @Deployment(resources = {"org/activiti/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml"})
+    public void testQueryWithIncludedVariableNames() {
+        Map<String, Object> startMap = new HashMap<String, Object>();
+        startMap.put("processVar", true);
+        startMap.put("anotherProcessVar", 123);
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+        Task task = taskService.createTaskQuery().includeProcessVariables().taskAssignee(KERMIT).singleResult();
+        taskService.setVariableLocal(task.getId(), "localVar", "test");
+        taskService.setVariableLocal(task.getId(), "anotherLocalVar", "anotherTest");
+
+        task = taskService.createTaskQuery()
+                .includeTaskLocalVariables()
+                .includeProcessVariables()
+                .limitIncludedVariables(asList("processVar", "localVar"))
+                .taskAssignee(KERMIT)
+                .singleResult();
+        assertThat(task.getProcessVariables()).containsOnlyKeys("processVar");
+        assertThat(task.getTaskLocalVariables()).containsOnlyKeys("localVar");
+
+        task = taskService.createTaskQuery()
+                .includeProcessVariables()
+                .limitIncludedVariables(asList("unknownVar"))
+                .taskAssignee(KERMIT)
+                .singleResult();
+        assertThat(task.getProcessVariables()).isEmpty();
+
+        task = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables().taskAssignee(KERMIT).singleResult();
+        assertThat(task.getProcessVariables()).containsOnlyKeys("processVar", "anotherProcessVar");
+        assertThat(task.getTaskLocalVariables()).containsOnlyKeys("localVar", "anotherLocalVar");
+    }
+
     /**
      * Generates some test tasks. - 2 tasks where kermit is a candidate and 1 task where gonzo is assignee
      */
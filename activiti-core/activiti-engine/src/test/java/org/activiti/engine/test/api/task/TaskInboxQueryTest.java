@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.api.task;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.task.Task;
+import org.activiti.engine.task.TaskQuery;
+
+public class TaskInboxQueryTest extends PluggableActivitiTestCase {
+
+  private List<String> taskIds = new ArrayList<String>();
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    processEngineConfiguration.setEnableTaskInbox(true);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    taskService.deleteTasks(taskIds, true);
+    processEngineConfiguration.setEnableTaskInbox(false);
+    super.tearDown();
+  }
+
+  public void testCandidateQueriesUseTaskInbox() {
+    String kermitTask = createTask("kermitTask", 10);
+    taskService.addCandidateUser(kermitTask, "kermit");
+    String managementTask = createTask("managementTask", 50);
+    taskService.addCandidateGroup(managementTask, "management");
+    String accountancyTask = createTask("accountancyTask", 30);
+    taskService.addCandidateGroup(accountancyTask, "accountancy");
+    taskService.addCandidateUser(accountancyTask, "fozzie");
+
+    assertThat(getTaskInboxCount()).isEqualTo(4);
+
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateUser("kermit", asList("management")).orderByTaskPriority().desc()))
+        .containsExactly(managementTask, kermitTask);
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateGroup("accountancy"))).containsExactly(accountancyTask);
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateGroupIn(asList("management", "accountancy")).orderByTaskPriority().asc()))
+        .containsExactly(accountancyTask, managementTask);
+    assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie", asList("accountancy")).count()).isEqualTo(1);
+
+    // A claimed task is no candidate task anymore
+    taskService.claim(managementTask, "gonzo");
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateUser("kermit", asList("management")))).containsExactly(kermitTask);
+    assertThat(getTaskInboxCount()).isEqualTo(3);
+
+    taskService.unclaim(managementTask);
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateUser("kermit", asList("management")).orderByTaskPriority().desc()))
+        .containsExactly(managementTask, kermitTask);
+
+    // The priority of the inbox follows the task
+    taskService.setPriority(kermitTask, 100);
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateUser("kermit", asList("management")).orderByTaskPriority().desc()))
+        .containsExactly(kermitTask, managementTask);
+
+    taskService.deleteCandidateUser(kermitTask, "kermit");
+    assertThat(taskIds(taskService.createTaskQuery().taskCandidateUser("kermit", singletonList("none")))).isEmpty();
+    assertThat(getTaskInboxCount()).isEqualTo(3);
+
+    // Same results as the queries on the identity links
+    List<String> inboxResult = taskIds(taskService.createTaskQuery().taskCandidateGroupIn(asList("management", "accountancy")).orderByTaskPriority().asc());
+    processEngineConfiguration.setEnableTaskInbox(false);
+    try {
+      assertThat(taskIds(taskService.createTaskQuery().taskCandidateGroupIn(asList("management", "accountancy")).orderByTaskPriority().asc()))
+          .isEqualTo(inboxResult);
+    } finally {
+      processEngineConfiguration.setEnableTaskInbox(true);
+    }
+  }
+
+  public void testTaskInboxIsRemovedWithTask() {
+    String task = createTask("task", 50);
+    taskService.addCandidateGroup(task, "management");
+    assertThat(getTaskInboxCount()).isEqualTo(1);
+
+    taskService.deleteTask(task, true);
+    taskIds.remove(task);
+    assertThat(getTaskInboxCount()).isZero();
+  }
+
+  protected String createTask(String name, int priority) {
+    Task task = taskService.newTask();
+    task.setName(name);
+    task.setPriority(priority);
+    taskService.saveTask(task);
+    taskIds.add(task.getId());
+    return task.getId();
+  }
+
+  protected List<String> taskIds(TaskQuery query) {
+    List<String> ids = new ArrayList<String>();
+    for (Task task : query.list()) {
+      ids.add(task.getId());
+    }
+    return ids;
+  }
+
+  protected long getTaskInboxCount() {
+    return managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_TASK_INBOX");
+  }
+
+}
@@ -2196,6 +2196,55 @@ public class TaskQueryTest extends PluggableActivitiTestCase {
                                                     // tasks
   }
 
+  public void testQueryKeysetPaging() {
+    List<Task> allTasks = taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc().list();
+    assertThat(allTasks).hasSize(12);
+
+    List<Task> seekedTasks = new ArrayList<Task>();
+    List<Task> page = taskService.createTaskQuery().orderByTaskPriority().desc().listPage(0, 5);
+    while (!page.isEmpty()) {
+      seekedTasks.addAll(page);
+      Task lastTask = page.get(page.size() - 1);
+      page = taskService.createTaskQuery().orderByTaskPriority().desc().seekAfter(lastTask.getPriority(), lastTask.getId()).listPage(0, 5);
+    }
+    assertThat(seekedTasks).extracting(Task::getId).containsExactlyElementsOf(ids(allTasks));
+
+    // Ordered by id only
+    List<Task> tasksById = taskService.createTaskQuery().orderByTaskId().asc().list();
+    TaskQuery query = taskService.createTaskQuery().seekAfter(null, tasksById.get(9).getId());
+    assertThat(query.list()).extracting(Task::getId).containsExactly(tasksById.get(10).getId(), tasksById.get(11).getId());
+    // the count is not restricted by the seek
+    assertThat(query.count()).isEqualTo(12);
+
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+        .isThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskName().asc().seekAfter(3, "1").list());
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+        .isThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().desc().seekAfter(null, "1").list());
+  }
+
+  private List<String> ids(List<Task> tasks) {
+    List<String> ids = new ArrayList<String>();
+    for (Task task : tasks) {
+      ids.add(task.getId());
+    }
+    return ids;
+  }
+
+  public void testQueryCountUpTo() {
+    assertThat(taskService.createTaskQuery().countUpTo(5)).isEqualTo(6);
+    assertThat(taskService.createTaskQuery().countUpTo(12)).isEqualTo(12);
+    assertThat(taskService.createTaskQuery().countUpTo(20)).isEqualTo(12);
+    assertThat(taskService.createTaskQuery().countUpTo(0)).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").countUpTo(20)).isEqualTo(taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+    // the paging of the query is not affected
+    TaskQuery query = taskService.createTaskQuery().orderByTaskId().asc();
+    assertThat(query.countUpTo(2)).isEqualTo(3);
+    assertThat(query.listPage(0, 5)).hasSize(5);
+
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class).isThrownBy(() -> taskService.createTaskQuery().countUpTo(-1));
+  }
+
   public void testQuerySorting() {
     assertThat(taskService.createTaskQuery().orderByTaskId().asc().list()).hasSize(12);
     assertThat(taskService.createTaskQuery().orderByTaskName().asc().list()).hasSize(12);
@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.api.variables;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.activiti.engine.ProcessEngine;
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.activiti.engine.impl.history.HistoryLevel;
+import org.activiti.engine.impl.variable.VariableTypes;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the cost of setting 50 variables of mixed types on a process instance, and of only resolving their variable types.
+ *
+ * The class name doesn't match the surefire includes, so it isn't part of the regular build. Run it explicitly with
+ * <code>mvn test -Dtest=SetVariablesBenchmark</code>, optionally with <code>-Dbenchmark.iterations=...</code>.
+ */
+public class SetVariablesBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(SetVariablesBenchmark.class);
+
+  protected static final int WARMUP_ITERATIONS = 200;
+  protected static final int VARIABLE_COUNT = 50;
+
+  @Test
+  public void setMixedVariables() {
+    int iterations = Integer.getInteger("benchmark.iterations", 1000);
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl("jdbc:h2:mem:activiti-set-variables-benchmark;DB_CLOSE_DELAY=1000")
+        .setDatabaseSchemaUpdate(ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_DROP_CREATE)
+        .setHistoryLevel(HistoryLevel.NONE);
+    ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+    try {
+      processEngine.getRepositoryService().createDeployment()
+          .addClasspathResource("org/activiti/engine/test/api/oneTaskProcess.bpmn20.xml")
+          .deploy();
+      RuntimeService runtimeService = processEngine.getRuntimeService();
+      String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+      Map<String, Object> variables = createMixedVariables();
+      VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+      List<Object> values = new ArrayList<Object>(variables.values());
+
+      runFindVariableType(variableTypes, values, WARMUP_ITERATIONS);
+      long start = System.nanoTime();
+      runFindVariableType(variableTypes, values, iterations);
+      report("findVariableType x " + VARIABLE_COUNT, start, iterations);
+
+      runSetVariables(runtimeService, processInstanceId, variables, WARMUP_ITERATIONS);
+      start = System.nanoTime();
+      runSetVariables(runtimeService, processInstanceId, variables, iterations);
+      report("setVariables(" + VARIABLE_COUNT + " variables)", start, iterations);
+
+    } finally {
+      processEngine.close();
+    }
+  }
+
+  protected static Map<String, Object> createMixedVariables() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<String, Object> variables = new HashMap<String, Object>();
+    for (int i = 0; i < VARIABLE_COUNT; i++) {
+      Object value;
+      switch (i % 10) {
+      case 0:
+        value = "value " + i;
+        break;
+      case 1:
+        value = StringUtils.repeat("long value ", 500);
+        break;
+      case 2:
+        value = i;
+        break;
+      case 3:
+        value = (long) i;
+        break;
+      case 4:
+        value = i / 3.0;
+        break;
+      case 5:
+        value = i % 2 == 0;
+        break;
+      case 6:
+        value = new Date();
+        break;
+      case 7:
+        value = UUID.randomUUID();
+        break;
+      case 8:
+        value = objectMapper.createObjectNode().put("index", i).put("name", "variable " + i);
+        break;
+      default:
+        HashMap<String, Object> serializable = new HashMap<String, Object>();
+        serializable.put("index", i);
+        value = serializable;
+      }
+      variables.put("var" + i, value);
+    }
+    return variables;
+  }
+
+  protected static void runFindVariableType(VariableTypes variableTypes, List<Object> values, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      for (Object value : values) {
+        variableTypes.findVariableType(value);
+      }
+    }
+  }
+
+  protected static void runSetVariables(RuntimeService runtimeService, String processInstanceId, Map<String, Object> variables, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      runtimeService.setVariables(processInstanceId, variables);
+    }
+  }
+
+  protected static void report(String name, long startNanos, int iterations) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    logger.info(String.format("%-35s %8d iterations %10.1f us/iteration", name, iterations, elapsedNanos / 1000.0 / iterations));
+  }
+
+}
@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
 import org.activiti.bpmn.model.BpmnModel;
@@ -28,6 +30,7 @@ import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
 import org.activiti.engine.impl.util.IoUtil;
 import org.activiti.engine.impl.util.ReflectUtil;
@@ -181,6 +184,53 @@ public class BpmnDeploymentTest extends PluggableActivitiTestCase {
     }
   }
 
+  public void testDeploymentDigest() {
+    String bpmnResourceName = "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+    String firstDeploymentId = repositoryService.createDeployment().addClasspathResource(bpmnResourceName).name("digest").deploy().getId();
+    String secondDeploymentId = repositoryService.createDeployment().addClasspathResource(bpmnResourceName).name("digest").deploy().getId();
+    String otherDeploymentId = repositoryService.createDeployment().addClasspathResource(bpmnResourceName)
+        .addClasspathResource("org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg").name("digest").deploy().getId();
+
+    try {
+      String digest = getDeploymentDigest(firstDeploymentId);
+      assertThat(digest).hasSize(64);
+      assertThat(getDeploymentDigest(secondDeploymentId)).isEqualTo(digest);
+      assertThat(getDeploymentDigest(otherDeploymentId)).isNotEqualTo(digest);
+
+    } finally {
+      repositoryService.deleteDeployment(firstDeploymentId);
+      repositoryService.deleteDeployment(secondDeploymentId);
+      repositoryService.deleteDeployment(otherDeploymentId);
+    }
+  }
+
+  public void testDeploySameFileTwiceWithoutDigest() {
+    String bpmnResourceName = "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+    String deploymentId = repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy().getId();
+
+    // Deployments created before the digest was introduced are compared on their resources
+    managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        try (Statement statement = commandContext.getDbSqlSession().getSqlSession().getConnection().createStatement()) {
+          statement.executeUpdate("update " + processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RE_DEPLOYMENT set DIGEST_ = null");
+        } catch (SQLException e) {
+          throw new ActivitiException("Could not clear the deployment digest", e);
+        }
+        return null;
+      }
+    });
+    assertThat(getDeploymentDigest(deploymentId)).isNull();
+
+    repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy();
+    assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+    repositoryService.deleteDeployment(deploymentId);
+  }
+
+  protected String getDeploymentDigest(String deploymentId) {
+    return ((DeploymentEntity) repositoryService.createDeploymentQuery().deploymentId(deploymentId).singleResult()).getDigest();
+  }
+
   @Deployment(resources = { "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml",
       "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg" })
   public void testProcessDiagramResource() {
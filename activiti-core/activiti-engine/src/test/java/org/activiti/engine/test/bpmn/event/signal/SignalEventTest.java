@@ -23,8 +23,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.impl.EventSubscriptionQueryImpl;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
 import org.activiti.engine.runtime.Execution;
 import org.activiti.engine.runtime.Job;
@@ -190,6 +193,142 @@ public class SignalEventTest extends PluggableActivitiTestCase {
       .withMessageContaining(Problems.SIGNAL_EVENT_MISSING_SIGNAL_REF);
   }
 
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+      "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+  public void testSignalBroadcastAsync() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    processEngineConfiguration.setSignalBroadcastBatchSize(2);
+    try {
+      for (int i = 0; i < 5; i++) {
+        runtimeService.startProcessInstanceByKey("catchSignal");
+      }
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(5);
+
+      runtimeService.startProcessInstanceByKey("throwSignal");
+
+      // nothing delivered yet, only the broadcast job is scheduled
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(5);
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(1);
+
+      executeJobs();
+
+      // the broadcast job is split in ranges of two subscriptions
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(3);
+
+      executeJobs();
+
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(0);
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(0);
+      assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(0);
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+      processEngineConfiguration.setSignalBroadcastBatchSize(100);
+    }
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+  public void testSignalBroadcastAsyncFromAPI() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    try {
+      runtimeService.startProcessInstanceByKey("catchSignal");
+      runtimeService.startProcessInstanceByKey("catchSignal");
+
+      runtimeService.signalEventReceived("alert");
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(2);
+
+      executeJobs();
+      executeJobs();
+
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(0);
+      assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(0);
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+    }
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalBoundaryWithReceiveTask.bpmn20.xml",
+      "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+  public void testSignalBroadcastAsyncWithVariables() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    processEngineConfiguration.setSignalBroadcastBatchSize(1);
+    try {
+      ProcessInstance first = runtimeService.startProcessInstanceByKey("catchSignal", singletonMap("processName", "catchSignal"));
+      ProcessInstance second = runtimeService.startProcessInstanceByKey("catchSignal", singletonMap("processName", "catchSignal"));
+
+      runtimeService.startProcessInstanceByKey("throwSignal", singletonMap("processName", "throwSignal"));
+      executeJobs();
+      executeJobs();
+
+      // every range job delivers the variables of the throwing execution
+      assertThat(runtimeService.getVariable(first.getId(), "processName")).isEqualTo("throwSignal");
+      assertThat(runtimeService.getVariable(second.getId(), "processName")).isEqualTo("throwSignal");
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(0);
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+      processEngineConfiguration.setSignalBroadcastBatchSize(100);
+    }
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalBoundaryWithReceiveTask.bpmn20.xml" })
+  public void testSignalBroadcastAsyncWithPayloadFromAPI() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    try {
+      ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+
+      runtimeService.signalEventReceived("alert", singletonMap("alertLevel", 3));
+      assertThat(runtimeService.getVariable(processInstance.getId(), "alertLevel")).isNull();
+
+      executeJobs();
+      executeJobs();
+
+      assertThat(runtimeService.getVariable(processInstance.getId(), "alertLevel")).isEqualTo(3);
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+    }
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalBoundaryWithReceiveTask.bpmn20.xml",
+      "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+  public void testSignalBroadcastAsyncWithNonSerializableVariables() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    try {
+      ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+
+      // a json variable is stored by its variable type, without java serialization
+      ObjectNode alert = processEngineConfiguration.getObjectMapper().createObjectNode().put("level", 3);
+      runtimeService.createProcessInstanceBuilder()
+          .processDefinitionKey("throwSignal")
+          .variable("alert", alert)
+          .transientVariable("lock", new Object())
+          .start();
+      executeJobs();
+      executeJobs();
+
+      assertThat(runtimeService.getVariable(processInstance.getId(), "alert")).isEqualTo(alert);
+      // transient variables are not passed on
+      assertThat(runtimeService.hasVariable(processInstance.getId(), "lock")).isFalse();
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+    }
+  }
+
+  public void testSignalBroadcastAsyncRejectsPayloadThatCannotBeStoredAsVariables() {
+    processEngineConfiguration.setSignalBroadcastAsync(true);
+    try {
+      assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+        .isThrownBy(() -> runtimeService.signalEventReceived("alert", singletonMap("lock", new Object())))
+        .withMessageContaining("can be stored as variables");
+    } finally {
+      processEngineConfiguration.setSignalBroadcastAsync(false);
+    }
+  }
+
+  private void executeJobs() {
+    for (Job job : managementService.createJobQuery().list()) {
+      managementService.executeJob(job.getId());
+    }
+  }
+
   private EventSubscriptionQueryImpl createEventSubscriptionQuery() {
     return new EventSubscriptionQueryImpl(processEngineConfiguration.getCommandExecutor());
   }
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.impl.util.ReflectUtil;
+import org.activiti.engine.task.Task;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+/**
+ * Uses a second connection pool on the same database as read replica, so that the
+ * routing of the queries can be verified through the requests to the pool.
+ */
+public class ReadReplicaQueryTest extends PluggableActivitiTestCase {
+
+  protected PooledDataSource readReplicaDataSource;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    readReplicaDataSource = new PooledDataSource(ReflectUtil.getClassLoader(), processEngineConfiguration.getJdbcDriver(),
+        processEngineConfiguration.getJdbcUrl(), processEngineConfiguration.getJdbcUsername(), processEngineConfiguration.getJdbcPassword());
+    processEngineConfiguration.getDbSqlSessionFactory().setReadReplicaDataSource(readReplicaDataSource);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    processEngineConfiguration.getDbSqlSessionFactory().setReadReplicaDataSource(null);
+    readReplicaDataSource.forceCloseAll();
+    super.tearDown();
+  }
+
+  public void testQueryIsExecutedOnReadReplica() {
+    Task task = taskService.newTask();
+    task.setName("replicated task");
+    taskService.saveTask(task);
+    assertThat(getReadReplicaRequestCount()).isZero();
+
+    try {
+      assertThat(taskService.createTaskQuery().taskName("replicated task").useReadReplica().list()).extracting(Task::getId).containsExactly(task.getId());
+      assertThat(historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).useReadReplica().count()).isEqualTo(1);
+      assertThat(getReadReplicaRequestCount()).isEqualTo(2);
+
+    } finally {
+      taskService.deleteTask(task.getId(), true);
+    }
+  }
+
+  public void testQueryIsExecutedOnPrimaryByDefault() {
+    assertThat(taskService.createTaskQuery().count()).isZero();
+    assertThat(getReadReplicaRequestCount()).isZero();
+  }
+
+  public void testQueryWithinCommandIsExecutedOnPrimary() {
+    long count = managementService.executeCommand(new Command<Long>() {
+      public Long execute(CommandContext commandContext) {
+        return taskService.createTaskQuery().useReadReplica().count();
+      }
+    });
+    assertThat(count).isZero();
+    assertThat(getReadReplicaRequestCount()).isZero();
+  }
+
+  protected long getReadReplicaRequestCount() {
+    return readReplicaDataSource.getPoolState().getRequestCount();
+  }
+
+}
@@ -24,6 +24,7 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
@@ -513,6 +514,28 @@ public class HistoricTaskInstanceTest extends PluggableActivitiTestCase {
         assertThat(historyService.createHistoricTaskInstanceQuery().processFinished().count()).isEqualTo(2);
     }
 
+    @Deployment(resources = {"org/activiti/engine/test/history/HistoricTaskInstanceTest.testHistoricTaskInstanceQueryProcessFinished.bpmn20.xml"})
+    public void testHistoricTaskInstanceQueryForEach() {
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("TwoTaskHistoricTaskQueryTest");
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.complete(task.getId());
+        }
+
+        List<HistoricTaskInstance> listedTasks = historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().list();
+        assertThat(listedTasks).hasSize(6);
+
+        List<HistoricTaskInstance> streamedTasks = new ArrayList<HistoricTaskInstance>();
+        historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().forEach(streamedTasks::add);
+        assertThat(streamedTasks).extracting(HistoricTaskInstance::getId)
+            .containsExactlyElementsOf(listedTasks.stream().map(HistoricTaskInstance::getId).collect(Collectors.toList()));
+
+        List<HistoricTaskInstance> unfinishedTasks = new ArrayList<HistoricTaskInstance>();
+        historyService.createHistoricTaskInstanceQuery().unfinished().forEach(unfinishedTasks::add);
+        assertThat(unfinishedTasks).hasSize(3);
+        assertThat(unfinishedTasks).extracting(HistoricTaskInstance::getEndTime).containsOnlyNulls();
+    }
+
     @Deployment
     public void testHistoricTaskInstanceQuerySorting() {
         ProcessInstance instance = runtimeService.startProcessInstanceByKey("HistoricTaskQueryTest");
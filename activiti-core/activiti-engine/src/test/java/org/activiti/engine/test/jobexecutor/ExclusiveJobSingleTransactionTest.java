@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.activiti.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.runtime.Job;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.test.Deployment;
+
+public class ExclusiveJobSingleTransactionTest extends PluggableActivitiTestCase {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    processEngineConfiguration.setAsyncExecutorExclusiveJobsInSingleTransaction(true);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    processEngineConfiguration.setAsyncExecutorExclusiveJobsInSingleTransaction(false);
+    super.tearDown();
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/async/AsyncTaskTest.testAsyncUserTask.bpmn20.xml" })
+  public void testExclusiveJobIsExecutedAndUnlocked() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncUserTask");
+    Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertThat(job.isExclusive()).isTrue();
+
+    new ExecuteAsyncRunnable(job, processEngineConfiguration).run();
+
+    assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+    assertThat(getProcessInstanceLockTime(processInstance.getId())).isNull();
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/async/AsyncTaskTest.testAsyncUserTask.bpmn20.xml" })
+  public void testJobIsReleasedWhenProcessInstanceIsLocked() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncUserTask");
+    Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+
+    // Another executor holds the lock on the process instance
+    managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getExecutionEntityManager().updateProcessInstanceLockTime(processInstance.getId());
+        return null;
+      }
+    });
+
+    new ExecuteAsyncRunnable(job, processEngineConfiguration).run();
+
+    Job releasedJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertThat(releasedJob).isNotNull();
+    assertThat(releasedJob.getId()).isNotEqualTo(job.getId());
+    assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+    // Once the lock is released, the job can be executed
+    managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getExecutionEntityManager().clearProcessInstanceLockTime(processInstance.getId());
+        return null;
+      }
+    });
+    new ExecuteAsyncRunnable(releasedJob, processEngineConfiguration).run();
+
+    assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+  }
+
+  protected Date getProcessInstanceLockTime(final String processInstanceId) {
+    return managementService.executeCommand(new Command<Date>() {
+      public Date execute(CommandContext commandContext) {
+        ExecutionEntity processInstance = commandContext.getExecutionEntityManager().findById(processInstanceId);
+        return processInstance.getLockTime();
+      }
+    });
+  }
+
+}
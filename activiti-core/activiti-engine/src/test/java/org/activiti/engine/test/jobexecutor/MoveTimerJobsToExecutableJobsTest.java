@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.activiti.engine.ActivitiOptimisticLockingException;
+import org.activiti.engine.impl.Page;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.runtime.Job;
+import org.activiti.engine.test.Deployment;
+
+public class MoveTimerJobsToExecutableJobsTest extends PluggableActivitiTestCase {
+
+  private static final String LOCK_OWNER = "test-lock-owner";
+
+  @Override
+  protected void tearDown() throws Exception {
+    processEngineConfiguration.getClock().reset();
+    super.tearDown();
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml" })
+  public void testMoveLockedTimerJobsWithSetBasedStatements() {
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+    }
+    processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 6 * 60 * 1000));
+
+    final List<String> timerJobIds = lockDueTimerJobs(3);
+    managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getTimerJobEntityManager().moveLockedTimerJobsToExecutableJobs(timerJobIds, LOCK_OWNER);
+        return null;
+      }
+    });
+
+    assertThat(managementService.createTimerJobQuery().count()).isZero();
+    List<Job> jobs = managementService.createJobQuery().list();
+    assertThat(jobs).extracting(Job::getId).containsExactlyInAnyOrderElementsOf(timerJobIds);
+
+    for (Job job : jobs) {
+      managementService.executeJob(job.getId());
+    }
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+  }
+
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml" })
+  public void testNothingIsMovedWhenTimerJobIsNotLocked() {
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+    }
+    processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 6 * 60 * 1000));
+
+    final List<String> timerJobIds = lockDueTimerJobs(2);
+    timerJobIds.add(managementService.createTimerJobQuery().list().stream()
+        .map(Job::getId)
+        .filter(id -> !timerJobIds.contains(id))
+        .findFirst()
+        .get());
+
+    assertThatExceptionOfType(ActivitiOptimisticLockingException.class).isThrownBy(() -> managementService.executeCommand(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getTimerJobEntityManager().moveLockedTimerJobsToExecutableJobs(timerJobIds, LOCK_OWNER);
+        return null;
+      }
+    }));
+
+    assertThat(managementService.createTimerJobQuery().count()).isEqualTo(3);
+    assertThat(managementService.createJobQuery().count()).isZero();
+  }
+
+  protected List<String> lockDueTimerJobs(final int count) {
+    return managementService.executeCommand(new Command<List<String>>() {
+      public List<String> execute(CommandContext commandContext) {
+        List<String> timerJobIds = new ArrayList<String>();
+        Date lockExpirationTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 60 * 1000);
+        for (TimerJobEntity timerJob : commandContext.getTimerJobEntityManager().findTimerJobsToExecute(new Page(0, count))) {
+          timerJob.setLockOwner(LOCK_OWNER);
+          timerJob.setLockExpirationTime(lockExpirationTime);
+          timerJobIds.add(timerJob.getId());
+        }
+        return timerJobIds;
+      }
+    });
+  }
+
+}
@@ -0,0 +1,221 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.jobexecutor;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.concurrent.Callable;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ProcessEngine;
+import org.activiti.engine.impl.asyncexecutor.AsyncExecutor;
+import org.activiti.engine.impl.asyncexecutor.ResetExpiredTimerJobsCmd;
+import org.activiti.engine.impl.asyncexecutor.TimingWheel;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
+import org.activiti.engine.impl.util.DefaultClockImpl;
+import org.activiti.engine.runtime.Job;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the timer jobs that are moved to the executable jobs by the timing wheel of the async executor.
+ */
+public class TimerJobWheelTest {
+
+  private static final long LOOK_AHEAD_IN_MILLIS = 60000L;
+
+  private ProcessEngine processEngine;
+
+  @After
+  public void cleanup() {
+    if (processEngine != null) {
+      for (org.activiti.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+        processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+      }
+      processEngine.close();
+    }
+  }
+
+  @Test
+  public void testNewShortTimerIsPutInTheTimingWheelAndMovedAtItsDueTime() {
+    processEngine = createProcessEngine(true, LOOK_AHEAD_IN_MILLIS, 60000);
+
+    // The timer acquisition only runs every half look-ahead time, so the timer is moved by the timing wheel
+    startProcessInstance("PT1S");
+
+    Job timerJob = processEngine.getManagementService().createTimerJobQuery().singleResult();
+    assertThat(getTimingWheel().contains(timerJob.getId())).isTrue();
+    assertThat(findTimerJob(timerJob.getId()).getLockOwner()).isNull();
+
+    waitForTaskAfterTimer();
+    assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(0);
+    assertThat(getTimingWheel().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testTimerBeyondTheLookAheadTimeIsNotPutInTheTimingWheel() {
+    processEngine = createProcessEngine(true, LOOK_AHEAD_IN_MILLIS, 60000);
+
+    startProcessInstance("PT5M");
+
+    assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(1);
+    assertThat(getTimingWheel().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testLockOfAcquiredTimerJobIsRenewedAndReleasedOnShutdown() {
+    processEngine = createProcessEngine(false, LOOK_AHEAD_IN_MILLIS, 1500);
+    startProcessInstance("PT30S");
+    final String timerJobId = processEngine.getManagementService().createTimerJobQuery().singleResult().getId();
+
+    AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+    final String lockOwner = asyncExecutor.getLockOwner();
+    asyncExecutor.start();
+    TimingWheel timingWheel = getTimingWheel();
+
+    // The acquisition locks the timer job and puts it in the timing wheel
+    waitForCondition(new Callable<Boolean>() {
+      public Boolean call() {
+        return lockOwner.equals(findTimerJob(timerJobId).getLockOwner());
+      }
+    });
+    assertThat(timingWheel.contains(timerJobId)).isTrue();
+
+    // The timing wheel renews the lock every third of the lock time
+    final Date lockExpirationTime = findTimerJob(timerJobId).getLockExpirationTime();
+    waitForCondition(new Callable<Boolean>() {
+      public Boolean call() {
+        return findTimerJob(timerJobId).getLockExpirationTime().after(lockExpirationTime);
+      }
+    });
+    assertThat(findTimerJob(timerJobId).getLockOwner()).isEqualTo(lockOwner);
+
+    // The timer job is handed back on shutdown, so that another node can acquire it
+    asyncExecutor.shutdown();
+    TimerJobEntity timerJob = findTimerJob(timerJobId);
+    assertThat(timerJob).isNotNull();
+    assertThat(timerJob.getLockOwner()).isNull();
+    assertThat(timerJob.getLockExpirationTime()).isNull();
+  }
+
+  @Test
+  public void testResetExpiredTimerJobsReleasesOnlyTheExpiredLocks() {
+    processEngine = createProcessEngine(false, LOOK_AHEAD_IN_MILLIS, 60000);
+    startProcessInstance("PT30S");
+    String timerJobId = processEngine.getManagementService().createTimerJobQuery().singleResult().getId();
+    Date now = processEngine.getProcessEngineConfiguration().getClock().getCurrentTime();
+
+    lockTimerJob(timerJobId, "otherNode", new Date(now.getTime() + 60000L));
+    assertThat(processEngine.getManagementService().executeCommand(new ResetExpiredTimerJobsCmd())).isEqualTo(0);
+    assertThat(findTimerJob(timerJobId).getLockOwner()).isEqualTo("otherNode");
+
+    lockTimerJob(timerJobId, "otherNode", new Date(now.getTime() - 1000L));
+    assertThat(processEngine.getManagementService().executeCommand(new ResetExpiredTimerJobsCmd())).isEqualTo(1);
+    TimerJobEntity timerJob = findTimerJob(timerJobId);
+    assertThat(timerJob.getLockOwner()).isNull();
+    assertThat(timerJob.getLockExpirationTime()).isNull();
+  }
+
+  @Test
+  public void testTimerJobOfCrashedNodeIsMovedOnceItsLockExpired() {
+    // Short look-ahead time, so that the acquisition runs again soon after the lock is released
+    processEngine = createProcessEngine(false, 2000L, 60000);
+    startProcessInstance("PT1S");
+    String timerJobId = processEngine.getManagementService().createTimerJobQuery().singleResult().getId();
+
+    // The timer job stays locked by a node that went down while the timer job was in its timing wheel.
+    // There are no expired async jobs, the expired timer jobs are reset nonetheless.
+    Date now = processEngine.getProcessEngineConfiguration().getClock().getCurrentTime();
+    lockTimerJob(timerJobId, "crashedNode", new Date(now.getTime() - 1000L));
+    assertThat(processEngine.getManagementService().createJobQuery().count()).isEqualTo(0);
+
+    processEngine.getProcessEngineConfiguration().getAsyncExecutor().start();
+
+    waitForTaskAfterTimer();
+    assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(0);
+  }
+
+  // Helpers ////////////////////////////////////////////////////////
+
+  private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, long lookAheadInMillis, int lockTimeInMillis) {
+    // The timing wheel follows the actual time, while other tests can have left the shared clock at a fixed time
+    new DefaultClockImpl().reset();
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-TimerJobWheelTest;DB_CLOSE_DELAY=1000");
+    processEngineConfiguration.setDatabaseSchemaUpdate("true");
+    processEngineConfiguration.setAsyncExecutorActivate(enableAsyncExecutor);
+    processEngineConfiguration.setAsyncExecutorTimerJobWheelLookAheadInMillis(lookAheadInMillis);
+    processEngineConfiguration.setAsyncExecutorTimerJobWheelTickInMillis(50L);
+    processEngineConfiguration.setAsyncExecutorAsyncJobLockTimeInMillis(lockTimeInMillis);
+    processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+    processEngineConfiguration.setAsyncExecutorResetExpiredJobsInterval(200);
+
+    ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+    processEngine.getRepositoryService().createDeployment()
+        .addClasspathResource("org/activiti/engine/test/jobexecutor/TimerJobWheelTest.bpmn20.xml")
+        .deploy();
+    return processEngine;
+  }
+
+  private void startProcessInstance(String duration) {
+    processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel", singletonMap("duration", (Object) duration));
+  }
+
+  private TimingWheel getTimingWheel() {
+    return processEngine.getProcessEngineConfiguration().getAsyncExecutor().getTimerJobWheelRunnable().getTimingWheel();
+  }
+
+  private TimerJobEntity findTimerJob(final String timerJobId) {
+    return processEngine.getManagementService().executeCommand(commandContext -> commandContext.getTimerJobEntityManager().findById(timerJobId));
+  }
+
+  private void lockTimerJob(final String timerJobId, final String lockOwner, final Date lockExpirationTime) {
+    processEngine.getManagementService().executeCommand(commandContext -> {
+      TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(timerJobId);
+      timerJob.setLockOwner(lockOwner);
+      timerJob.setLockExpirationTime(lockExpirationTime);
+      return null;
+    });
+  }
+
+  private void waitForTaskAfterTimer() {
+    waitForCondition(new Callable<Boolean>() {
+      public Boolean call() {
+        return processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count() == 1;
+      }
+    });
+  }
+
+  private void waitForCondition(Callable<Boolean> condition) {
+    // Unlike JobTestHelper, doesn't start and shut down the async executor
+    long maxTime = System.currentTimeMillis() + 10000L;
+    try {
+      while (!condition.call()) {
+        if (System.currentTimeMillis() > maxTime) {
+          throw new ActivitiException("time limit of 10000 was exceeded");
+        }
+        Thread.sleep(100L);
+      }
+    } catch (ActivitiException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new ActivitiException("Exception while waiting on condition: " + e.getMessage(), e);
+    }
+  }
+
+}
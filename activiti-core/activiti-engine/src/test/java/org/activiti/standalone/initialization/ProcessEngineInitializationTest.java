@@ -15,6 +15,10 @@ package org.activiti.standalone.initialization;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,6 +27,8 @@ import org.activiti.engine.ActivitiWrongDbException;
 import org.activiti.engine.ProcessEngine;
 import org.activiti.engine.ProcessEngineConfiguration;
 import org.activiti.engine.impl.ProcessEngineImpl;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cmd.ValidateTaskInboxCfgCmd;
 import org.activiti.engine.impl.db.DbSqlSession;
 import org.activiti.engine.impl.db.DbSqlSessionFactory;
 import org.activiti.engine.impl.test.AbstractTestCase;
@@ -86,4 +92,76 @@ public class ProcessEngineInitializationTest extends AbstractTestCase {
     // closing the original process engine to drop the db tables
     processEngine.close();
   }
+
+  public void testUpgradeFromPreviousVersion() throws Exception {
+    // first create the schema
+    ProcessEngineImpl processEngine = (ProcessEngineImpl) ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("org/activiti/standalone/initialization/notables.activiti.cfg.xml")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP).buildProcessEngine();
+
+    // then bring it back to the schema of the previous version
+    executeStatements(processEngine,
+                      "drop table ACT_RU_TASK_INBOX",
+                      "alter table ACT_RE_DEPLOYMENT drop column DIGEST_",
+                      "update ACT_GE_PROPERTY set VALUE_ = '7.1.0-M6' where NAME_ = 'schema.version'");
+
+    // the upgrade steps from the previous version are executed when a process engine is being built
+    ProcessEngineImpl upgradedProcessEngine = (ProcessEngineImpl) ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("org/activiti/standalone/initialization/notables.activiti.cfg.xml")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE).buildProcessEngine();
+
+    try {
+      assertThat(upgradedProcessEngine.getManagementService().getProperties()).containsEntry("schema.version", ProcessEngine.VERSION);
+      assertThat(hasColumn(upgradedProcessEngine, "ACT_RE_DEPLOYMENT", "DIGEST_")).isTrue();
+      assertThat(hasColumn(upgradedProcessEngine, "ACT_RU_TASK_INBOX", "TASK_ID_")).isTrue();
+    } finally {
+      upgradedProcessEngine.close();
+      // closing the original process engine to drop the db tables
+      processEngine.close();
+    }
+  }
+
+  public void testTaskInboxIsOnlyCheckedOnBootWhenConfigured() {
+    ProcessEngineImpl processEngine = (ProcessEngineImpl) ((ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("org/activiti/standalone/initialization/notables.activiti.cfg.xml")
+        .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP))
+        .setEnableTaskInbox(true)
+        .buildProcessEngine();
+
+    try {
+      assertThat(processEngine.getManagementService().getProperties()).containsEntry(ValidateTaskInboxCfgCmd.PROPERTY_TASK_INBOX, "true");
+
+      // an engine that doesn't configure the inbox doesn't check it
+      ProcessEngine notConfiguredProcessEngine = ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("org/activiti/standalone/initialization/notables.activiti.cfg.xml")
+          .buildProcessEngine();
+      notConfiguredProcessEngine.close();
+      assertThat(processEngine.getManagementService().getProperties()).containsEntry(ValidateTaskInboxCfgCmd.PROPERTY_TASK_INBOX, "true");
+
+      // an engine that disables the inbox clears it
+      ProcessEngine disabledProcessEngine = ((ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("org/activiti/standalone/initialization/notables.activiti.cfg.xml"))
+          .setEnableTaskInbox(false)
+          .buildProcessEngine();
+      disabledProcessEngine.close();
+      assertThat(processEngine.getManagementService().getProperties()).containsEntry(ValidateTaskInboxCfgCmd.PROPERTY_TASK_INBOX, "false");
+    } finally {
+      // closing the original process engine to drop the db tables
+      processEngine.close();
+    }
+  }
+
+  private void executeStatements(ProcessEngineImpl processEngine, String... statements) throws SQLException {
+    try (Connection connection = processEngine.getProcessEngineConfiguration().getDataSource().getConnection();
+         Statement statement = connection.createStatement()) {
+      for (String sql : statements) {
+        statement.execute(sql);
+      }
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
+    }
+  }
+
+  private boolean hasColumn(ProcessEngineImpl processEngine, String tableName, String columnName) throws SQLException {
+    try (Connection connection = processEngine.getProcessEngineConfiguration().getDataSource().getConnection();
+         ResultSet columns = connection.getMetaData().getColumns(null, null, tableName, columnName)) {
+      return columns.next();
+    }
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.image.impl;
+
+import static java.util.Collections.emptyList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.FlowNode;
+import org.activiti.bpmn.model.GraphicInfo;
+import org.activiti.bpmn.model.SequenceFlow;
+import org.activiti.image.exception.ActivitiImageException;
+
+/**
+ * Process diagram generator that renders the diagram of a process once, and then only adds the highlights for
+ * each generated diagram.
+ * <p>
+ * The {@link ProcessDiagramSVGTemplate}s are cached by {@link BpmnModel} instance (as kept in the process definition cache
+ * of the engine) and fonts. They are released together with the {@link BpmnModel}.
+ * The highlights are drawn on top of the diagram, so a highlighted sequence flow keeps its default or conditional indicator
+ * in the normal color.
+ */
+public class CachingProcessDiagramGenerator extends DefaultProcessDiagramGenerator {
+
+    protected final Map<BpmnModel, Map<String, ProcessDiagramSVGTemplate>> diagramTemplates = Collections.synchronizedMap(new WeakHashMap<BpmnModel, Map<String, ProcessDiagramSVGTemplate>>());
+
+    @Override
+    public InputStream generateDiagram(BpmnModel bpmnModel,
+                                       List<String> highLightedActivities,
+                                       List<String> highLightedFlows,
+                                       String activityFontName,
+                                       String labelFontName,
+                                       String annotationFontName,
+                                       boolean generateDefaultDiagram,
+                                       String defaultDiagramImageFileName) {
+
+        if (!bpmnModel.hasDiagramInterchangeInfo()) {
+            return super.generateDiagram(bpmnModel,
+                                         highLightedActivities,
+                                         highLightedFlows,
+                                         activityFontName,
+                                         labelFontName,
+                                         annotationFontName,
+                                         generateDefaultDiagram,
+                                         defaultDiagramImageFileName);
+        }
+
+        return getDiagramTemplate(bpmnModel,
+                                  activityFontName,
+                                  labelFontName,
+                                  annotationFontName).render(highLightedActivities,
+                                                             highLightedFlows);
+    }
+
+    public ProcessDiagramSVGTemplate getDiagramTemplate(BpmnModel bpmnModel,
+                                                        String activityFontName,
+                                                        String labelFontName,
+                                                        String annotationFontName) {
+        Map<String, ProcessDiagramSVGTemplate> modelTemplates;
+        synchronized (diagramTemplates) {
+            modelTemplates = diagramTemplates.computeIfAbsent(bpmnModel,
+                                                              model -> new ConcurrentHashMap<String, ProcessDiagramSVGTemplate>());
+        }
+
+        String fontKey = activityFontName + "|" + labelFontName + "|" + annotationFontName;
+        return modelTemplates.computeIfAbsent(fontKey,
+                                              key -> createDiagramTemplate(bpmnModel,
+                                                                           activityFontName,
+                                                                           labelFontName,
+                                                                           annotationFontName));
+    }
+
+    protected ProcessDiagramSVGTemplate createDiagramTemplate(BpmnModel bpmnModel,
+                                                              String activityFontName,
+                                                              String labelFontName,
+                                                              String annotationFontName) {
+        DefaultProcessDiagramCanvas processDiagramCanvas = generateProcessDiagram(bpmnModel,
+                                                                                  emptyList(),
+                                                                                  emptyList(),
+                                                                                  activityFontName,
+                                                                                  labelFontName,
+                                                                                  annotationFontName);
+        byte[] document;
+        try (InputStream image = processDiagramCanvas.generateImage()) {
+            document = image.readAllBytes();
+        } catch (IOException e) {
+            throw new ActivitiImageException("Error while generating process image",
+                                             e);
+        } finally {
+            processDiagramCanvas.close();
+        }
+
+        // The connections were adjusted to the shapes of their source and target while drawing the diagram
+        Map<String, int[]> activityBounds = new HashMap<String, int[]>();
+        Map<String, int[][]> flowPoints = new HashMap<String, int[][]>();
+        for (FlowNode flowNode : gatherAllFlowNodes(bpmnModel)) {
+            GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+            if (graphicInfo != null && activityDrawInstructions.containsKey(flowNode.getClass())) {
+                activityBounds.put(flowNode.getId(),
+                                   new int[]{(int) graphicInfo.getX(), (int) graphicInfo.getY(), (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight()});
+            }
+
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+                if (graphicInfoList != null && graphicInfoList.size() > 0) {
+                    int[] xPoints = new int[graphicInfoList.size()];
+                    int[] yPoints = new int[graphicInfoList.size()];
+                    for (int i = 0; i < graphicInfoList.size(); i++) {
+                        xPoints[i] = (int) graphicInfoList.get(i).getX();
+                        yPoints[i] = (int) graphicInfoList.get(i).getY();
+                    }
+                    flowPoints.put(sequenceFlow.getId(),
+                                   new int[][]{xPoints, yPoints});
+                }
+            }
+        }
+
+        return new ProcessDiagramSVGTemplate(document,
+                                             activityBounds,
+                                             flowPoints);
+    }
+
+    /**
+     * Removes the rendered diagrams of the given process, for example when its diagram interchange information was changed.
+     */
+    public void evict(BpmnModel bpmnModel) {
+        diagramTemplates.remove(bpmnModel);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.image.impl;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.image.exception.ActivitiImageException;
+
+/**
+ * The SVG of a process diagram without highlights, rendered once and reused for every highlighted diagram of the process.
+ * <p>
+ * The highlights are not drawn in the SVG document, they are streamed as overlay elements just before its end, on top of the
+ * activities and sequence flows. The bounds of the activities and the points of the sequence flows are kept as drawn in the template.
+ */
+public class ProcessDiagramSVGTemplate {
+
+    protected static final String SVG_END_TAG = "</svg>";
+
+    protected static final String HIGHLIGHT_COLOR = "rgb(255,0,0)";
+
+    protected static final int ARROW_WIDTH = 5;
+
+    protected final byte[] documentStart;
+
+    protected final byte[] documentEnd;
+
+    protected final Map<String, int[]> activityBounds;
+
+    protected final Map<String, int[][]> flowPoints;
+
+    /**
+     * @param document the SVG document of the diagram without highlights
+     * @param activityBounds x, y, width and height of the activities by id
+     * @param flowPoints x and y points of the sequence flows by id
+     */
+    public ProcessDiagramSVGTemplate(byte[] document,
+                                     Map<String, int[]> activityBounds,
+                                     Map<String, int[][]> flowPoints) {
+        String svg = new String(document,
+                                StandardCharsets.UTF_8);
+        int endIndex = svg.lastIndexOf(SVG_END_TAG);
+        if (endIndex < 0) {
+            throw new ActivitiImageException("Process diagram is not an SVG document");
+        }
+        this.documentStart = svg.substring(0,
+                                           endIndex).getBytes(StandardCharsets.UTF_8);
+        this.documentEnd = svg.substring(endIndex).getBytes(StandardCharsets.UTF_8);
+        this.activityBounds = Collections.unmodifiableMap(activityBounds);
+        this.flowPoints = Collections.unmodifiableMap(flowPoints);
+    }
+
+    /**
+     * Streams the diagram with the given activities and sequence flows highlighted.
+     */
+    public InputStream render(List<String> highLightedActivities,
+                              List<String> highLightedFlows) {
+        String highlights = renderHighlights(highLightedActivities,
+                                             highLightedFlows);
+        if (highlights.isEmpty()) {
+            return new SequenceInputStream(new ByteArrayInputStream(documentStart),
+                                           new ByteArrayInputStream(documentEnd));
+        }
+        return new SequenceInputStream(Collections.enumeration(Arrays.<InputStream>asList(new ByteArrayInputStream(documentStart),
+                                                                                          new ByteArrayInputStream(highlights.getBytes(StandardCharsets.UTF_8)),
+                                                                                          new ByteArrayInputStream(documentEnd))));
+    }
+
+    protected String renderHighlights(List<String> highLightedActivities,
+                                      List<String> highLightedFlows) {
+        StringBuilder highlights = new StringBuilder();
+        if (highLightedFlows != null) {
+            for (String flowId : highLightedFlows) {
+                int[][] points = flowPoints.get(flowId);
+                if (points != null) {
+                    renderFlowHighlight(highlights,
+                                        points[0],
+                                        points[1]);
+                }
+            }
+        }
+        if (highLightedActivities != null) {
+            for (String activityId : highLightedActivities) {
+                int[] bounds = activityBounds.get(activityId);
+                if (bounds != null) {
+                    renderActivityHighlight(highlights,
+                                            bounds);
+                }
+            }
+        }
+
+        if (highlights.length() == 0) {
+            return "";
+        }
+        return "<g class=\"highlights\">" + highlights + "</g>";
+    }
+
+    /**
+     * Same rounded rectangle as {@link DefaultProcessDiagramCanvas#drawHighLight(int, int, int, int)}.
+     */
+    protected void renderActivityHighlight(StringBuilder highlights,
+                                           int[] bounds) {
+        highlights.append("<rect x=\"").append(bounds[0])
+                .append("\" y=\"").append(bounds[1])
+                .append("\" width=\"").append(bounds[2])
+                .append("\" height=\"").append(bounds[3])
+                .append("\" rx=\"10\" ry=\"10\" style=\"fill:none; stroke:").append(HIGHLIGHT_COLOR)
+                .append("; stroke-width:3;\"/>");
+    }
+
+    /**
+     * Same line and arrow head as a highlighted sequence flow of {@link DefaultProcessDiagramCanvas#drawConnection(int[], int[], boolean, boolean, String, org.activiti.bpmn.model.AssociationDirection, boolean)}.
+     */
+    protected void renderFlowHighlight(StringBuilder highlights,
+                                       int[] xPoints,
+                                       int[] yPoints) {
+        highlights.append("<polyline points=\"");
+        for (int i = 0; i < xPoints.length; i++) {
+            if (i > 0) {
+                highlights.append(' ');
+            }
+            highlights.append(xPoints[i]).append(',').append(yPoints[i]);
+        }
+        highlights.append("\" style=\"fill:none; stroke:").append(HIGHLIGHT_COLOR).append("; stroke-width:1.3;\"/>");
+
+        if (xPoints.length < 2) {
+            return;
+        }
+        int last = xPoints.length - 1;
+        AffineTransform transformation = new AffineTransform();
+        double angle = Math.atan2(yPoints[last] - yPoints[last - 1],
+                                  xPoints[last] - xPoints[last - 1]);
+        transformation.translate(xPoints[last],
+                                 yPoints[last]);
+        transformation.rotate(angle - Math.PI / 2d);
+
+        highlights.append("<polygon points=\"");
+        double[][] arrowHead = {{0, 0}, {-ARROW_WIDTH, -2 * ARROW_WIDTH}, {ARROW_WIDTH, -2 * ARROW_WIDTH}};
+        for (int i = 0; i < arrowHead.length; i++) {
+            Point2D point = transformation.transform(new Point2D.Double(arrowHead[i][0],
+                                                                        arrowHead[i][1]),
+                                                     null);
+            if (i > 0) {
+                highlights.append(' ');
+            }
+            highlights.append(formatCoordinate(point.getX())).append(',').append(formatCoordinate(point.getY()));
+        }
+        highlights.append("\" style=\"fill:").append(HIGHLIGHT_COLOR).append("; stroke:none;\"/>");
+    }
+
+    protected String formatCoordinate(double coordinate) {
+        return Double.toString(Math.round(coordinate * 100d) / 100d);
+    }
+
+    public Map<String, int[]> getActivityBounds() {
+        return activityBounds;
+    }
+
+    public Map<String, int[][]> getFlowPoints() {
+        return flowPoints;
+    }
+}
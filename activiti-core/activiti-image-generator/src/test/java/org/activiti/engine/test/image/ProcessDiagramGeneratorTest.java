@@ -14,11 +14,15 @@ import org.activiti.engine.test.Deployment;
 import org.activiti.image.ProcessDiagramGenerator;
 import org.activiti.image.exception.ActivitiImageException;
 import org.activiti.image.exception.ActivitiInterchangeInfoNotFoundException;
+import org.activiti.image.impl.CachingProcessDiagramGenerator;
 import org.activiti.image.impl.DefaultProcessDiagramGenerator;
+import org.activiti.image.impl.ProcessDiagramSVGTemplate;
 import org.apache.batik.anim.dom.SAXSVGDocumentFactory;
 import org.apache.batik.anim.dom.SVGOMDocument;
 import org.apache.batik.util.XMLResourceDescriptor;
 import org.apache.commons.io.IOUtils;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -156,6 +160,40 @@ public class ProcessDiagramGeneratorTest extends PluggableActivitiTestCase {
         }
     }
 
+    @Deployment(resources = "org/activiti/engine/test/image/ProcessDiagramGeneratorTest.testAllElements.bpmn20.xml")
+    public void testCachedDiagramWithHighLights() throws Exception {
+        CachingProcessDiagramGenerator imageGenerator = new CachingProcessDiagramGenerator();
+        String id = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess").singleResult()
+                .getId();
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(id);
+
+        try (InputStream resourceStream = imageGenerator.generateDiagram(bpmnModel,
+                                                                         asList("usertask1", "unknownActivity"),
+                                                                         asList("flow1", "flow2"))) {
+            SVGOMDocument svg = parseXml(resourceStream);
+            checkDiagramElements(asList("startevent1", "usertask1", "scripttask1", "pool1", "lane1"), svg);
+
+            NodeList highlights = svg.getElementsByTagName("g");
+            Element highlightGroup = (Element) highlights.item(highlights.getLength() - 1);
+            assertThat(highlightGroup.getAttribute("class")).isEqualTo("highlights");
+            assertThat(highlightGroup.getElementsByTagName("rect").getLength()).isEqualTo(1);
+            assertThat(highlightGroup.getElementsByTagName("polyline").getLength()).isEqualTo(2);
+            assertThat(highlightGroup.getElementsByTagName("polygon").getLength()).isEqualTo(2);
+        }
+
+        ProcessDiagramSVGTemplate template = imageGenerator.getDiagramTemplate(bpmnModel, null, null, null);
+        assertThat(template.getActivityBounds()).containsKeys("usertask1", "scripttask1");
+        assertThat(template.getFlowPoints()).containsKeys("flow1", "flow2");
+
+        try (InputStream resourceStream = imageGenerator.generateDiagram(bpmnModel, emptyList(), emptyList())) {
+            SVGOMDocument svg = parseXml(resourceStream);
+            checkDiagramElements(asList("startevent1", "usertask1"), svg);
+            NodeList groups = svg.getElementsByTagName("g");
+            assertThat(((Element) groups.item(groups.getLength() - 1)).getAttribute("class")).isNotEqualTo("highlights");
+        }
+        assertThat(imageGenerator.getDiagramTemplate(bpmnModel, null, null, null)).isSameAs(template);
+    }
+
     /**
      * Test that when the diagram is generated for a model without graphic info
      * then the default diagram image is returned
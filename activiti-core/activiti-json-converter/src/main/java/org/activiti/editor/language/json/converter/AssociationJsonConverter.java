@@ -119,7 +119,7 @@ public class AssociationJsonConverter extends BaseBpmnJsonConverter {
   protected BaseElement convertJsonToElement(JsonNode elementNode, JsonNode modelNode, Map<String, JsonNode> shapeMap) {
     Association association = new Association();
 
-    String sourceRef = BpmnJsonConverterUtil.lookForSourceRef(elementNode.get(EDITOR_SHAPE_ID).asText(), modelNode.get(EDITOR_CHILD_SHAPES));
+    String sourceRef = BpmnJsonConverterUtil.lookForSourceRef(elementNode.get(EDITOR_SHAPE_ID).asText(), modelNode, shapeMap);
 
     if (sourceRef != null) {
       association.setSourceRef(sourceRef);
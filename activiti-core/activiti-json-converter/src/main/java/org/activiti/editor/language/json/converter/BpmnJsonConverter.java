@@ -581,8 +581,8 @@ public class BpmnJsonConverter implements EditorJsonConstants,
         BpmnModel bpmnModel = new BpmnModel();
 
         bpmnModel.setTargetNamespace("http://activiti.org/test");
-        Map<String, JsonNode> shapeMap = new HashMap<String, JsonNode>();
-        Map<String, JsonNode> sourceRefMap = new HashMap<String, JsonNode>();
+        BpmnJsonShapeMap shapeMap = new BpmnJsonShapeMap();
+        Map<String, JsonNode> sourceRefMap = shapeMap.getSourceShapeMap();
         Map<String, JsonNode> edgeMap = new HashMap<String, JsonNode>();
         Map<String, List<JsonNode>> sourceAndTargetMap = new HashMap<String, List<JsonNode>>();
 
@@ -743,7 +743,8 @@ public class BpmnJsonConverter implements EditorJsonConstants,
                 if (STENCIL_SEQUENCE_FLOW.equalsIgnoreCase(BpmnJsonConverterUtil.getStencilId(shapeNode)) || STENCIL_ASSOCIATION.equalsIgnoreCase(BpmnJsonConverterUtil.getStencilId(shapeNode))) {
 
                     String sourceRef = BpmnJsonConverterUtil.lookForSourceRef(shapeNode.get(EDITOR_SHAPE_ID).asText(),
-                                                                              modelNode.get(EDITOR_CHILD_SHAPES));
+                                                                              modelNode,
+                                                                              shapeMap);
                     if (sourceRef != null) {
                         Lane lane = elementInLaneMap.get(sourceRef);
                         SequenceFlowJsonConverter flowConverter = new SequenceFlowJsonConverter();
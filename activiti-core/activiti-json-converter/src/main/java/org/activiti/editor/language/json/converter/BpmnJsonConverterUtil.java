@@ -15,6 +15,7 @@ package org.activiti.editor.language.json.converter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.activiti.bpmn.model.ActivitiListener;
 import org.activiti.bpmn.model.BaseElement;
@@ -469,6 +470,20 @@ public class BpmnJsonConverterUtil implements EditorJsonConstants, StencilConsta
       }
     }
   
+  /**
+   * Looks up the source of the flow in the source shapes of the shape map when it is a {@link BpmnJsonShapeMap},
+   * and searches the child shapes of the model otherwise.
+   */
+  public static String lookForSourceRef(String flowId, JsonNode modelNode, Map<String, JsonNode> shapeMap) {
+    if (shapeMap instanceof BpmnJsonShapeMap) {
+      JsonNode sourceShapeNode = ((BpmnJsonShapeMap) shapeMap).getSourceShape(flowId);
+      if (sourceShapeNode != null) {
+        return getElementId(sourceShapeNode);
+      }
+    }
+    return lookForSourceRef(flowId, modelNode.get(EDITOR_CHILD_SHAPES));
+  }
+
   public static String lookForSourceRef(String flowId, JsonNode childShapesNode) {
     String sourceRef = null;
     
@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.editor.language.json.converter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Shapes of an editor model by resource id, together with the source shapes of the flows by the resource id of the flow.
+ *
+ * Both are filled in the same pass over the child shapes of the model, so that the source of a flow
+ * does not have to be searched in the child shapes for every flow.
+ */
+public class BpmnJsonShapeMap extends HashMap<String, JsonNode> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, JsonNode> sourceShapeMap = new HashMap<String, JsonNode>();
+
+    public JsonNode getSourceShape(String flowId) {
+        return sourceShapeMap.get(flowId);
+    }
+
+    public Map<String, JsonNode> getSourceShapeMap() {
+        return sourceShapeMap;
+    }
+}
@@ -0,0 +1,131 @@
+package org.activiti.editor.language;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.EndEvent;
+import org.activiti.bpmn.model.FlowNode;
+import org.activiti.bpmn.model.GraphicInfo;
+import org.activiti.bpmn.model.Process;
+import org.activiti.bpmn.model.SequenceFlow;
+import org.activiti.bpmn.model.StartEvent;
+import org.activiti.bpmn.model.UserTask;
+import org.activiti.editor.language.json.converter.BpmnJsonConverter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts large generated models to editor json and back, and logs the average time of the conversions.
+ *
+ * The class name doesn't match the surefire includes, so it isn't part of the regular build. Run it explicitly with
+ * <code>mvn test -Dtest=BpmnJsonConverterBenchmark</code>.
+ */
+public class BpmnJsonConverterBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(BpmnJsonConverterBenchmark.class);
+
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int ITERATIONS = 5;
+
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void convertLargeModels() throws Exception {
+    for (int taskCount : new int[] { 100, 500, 2000 }) {
+      BpmnModel bpmnModel = createModel(taskCount);
+      BpmnJsonConverter converter = new BpmnJsonConverter();
+
+      byte[] json = null;
+      BpmnModel convertedModel = null;
+      long writeTime = 0;
+      long readTime = 0;
+      for (int i = 0; i < WARMUP_ITERATIONS + ITERATIONS; i++) {
+        long start = System.nanoTime();
+        json = objectMapper.writeValueAsBytes(converter.convertToJson(bpmnModel));
+        long written = System.nanoTime();
+        convertedModel = converter.convertToBpmnModel(objectMapper.readTree(json));
+        long read = System.nanoTime();
+
+        if (i >= WARMUP_ITERATIONS) {
+          writeTime += written - start;
+          readTime += read - written;
+        }
+      }
+
+      logger.info("{} tasks, {} bytes of json: write {} ms, read {} ms", taskCount, json.length,
+          writeTime / ITERATIONS / 1000000.0, readTime / ITERATIONS / 1000000.0);
+
+      validateModel(convertedModel, taskCount);
+    }
+  }
+
+  protected BpmnModel createModel(int taskCount) {
+    BpmnModel bpmnModel = new BpmnModel();
+    Process process = new Process();
+    process.setId("largeProcess");
+    process.setName("Large process");
+    bpmnModel.addProcess(process);
+
+    List<FlowNode> flowNodes = new ArrayList<FlowNode>();
+    StartEvent startEvent = new StartEvent();
+    startEvent.setId("start");
+    flowNodes.add(startEvent);
+    for (int i = 0; i < taskCount; i++) {
+      UserTask userTask = new UserTask();
+      userTask.setId("task" + i);
+      userTask.setName("Task " + i);
+      flowNodes.add(userTask);
+    }
+    EndEvent endEvent = new EndEvent();
+    endEvent.setId("end");
+    flowNodes.add(endEvent);
+
+    for (int i = 0; i < flowNodes.size(); i++) {
+      FlowNode flowNode = flowNodes.get(i);
+      process.addFlowElement(flowNode);
+      bpmnModel.addGraphicInfo(flowNode.getId(), createGraphicInfo(150 * i, 100, 100, 80));
+    }
+
+    for (int i = 1; i < flowNodes.size(); i++) {
+      SequenceFlow sequenceFlow = new SequenceFlow(flowNodes.get(i - 1).getId(), flowNodes.get(i).getId());
+      sequenceFlow.setId("flow" + i);
+      process.addFlowElement(sequenceFlow);
+      // the editor json refers to the flows from the outgoing flows of their source
+      flowNodes.get(i - 1).getOutgoingFlows().add(sequenceFlow);
+      flowNodes.get(i).getIncomingFlows().add(sequenceFlow);
+
+      List<GraphicInfo> waypoints = new ArrayList<GraphicInfo>();
+      waypoints.add(createGraphicInfo(150 * (i - 1) + 100, 140, 0, 0));
+      waypoints.add(createGraphicInfo(150 * i, 140, 0, 0));
+      bpmnModel.addFlowGraphicInfoList(sequenceFlow.getId(), waypoints);
+    }
+    return bpmnModel;
+  }
+
+  protected GraphicInfo createGraphicInfo(double x, double y, double width, double height) {
+    GraphicInfo graphicInfo = new GraphicInfo();
+    graphicInfo.setX(x);
+    graphicInfo.setY(y);
+    graphicInfo.setWidth(width);
+    graphicInfo.setHeight(height);
+    return graphicInfo;
+  }
+
+  private void validateModel(BpmnModel model, int taskCount) {
+    Process process = model.getMainProcess();
+    assertThat(process.getId()).isEqualTo("largeProcess");
+    assertThat(process.findFlowElementsOfType(UserTask.class)).hasSize(taskCount);
+
+    List<SequenceFlow> sequenceFlows = process.findFlowElementsOfType(SequenceFlow.class);
+    assertThat(sequenceFlows).hasSize(taskCount + 1);
+    SequenceFlow lastFlow = (SequenceFlow) process.getFlowElement("flow" + (taskCount + 1));
+    assertThat(lastFlow.getSourceRef()).isEqualTo("task" + (taskCount - 1));
+    assertThat(lastFlow.getTargetRef()).isEqualTo("end");
+    assertThat(model.getFlowLocationGraphicInfo("flow1")).hasSize(2);
+  }
+}
@@ -29,6 +29,14 @@ public interface ProcessValidator {
    */
   List<ValidationError> validate(BpmnModel bpmnModel);
 
+  /**
+   * Validates the provided {@link BpmnModel}, that was read from content with the given hash (for example the digest of the xml
+   * of the model). Implementations can return the result of an earlier validation of content with the same hash.
+   */
+  default List<ValidationError> validate(BpmnModel bpmnModel, String contentHash) {
+    return validate(bpmnModel);
+  }
+
   /**
    * Returns the {@link ValidatorSet} instances for this process validator. Useful if some validation rules need to be disabled.
    */
@@ -13,39 +13,118 @@
 package org.activiti.validation;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Validator;
 import org.activiti.validation.validator.ValidatorSet;
 
 /**
-
+ * Runs the validators of the validator sets over a model.
+ *
+ * The flow elements of the model are indexed once for all validators, see {@link BpmnModelIndex}. When a {@link ForkJoinPool}
+ * is set, the validators run in parallel on that pool; the errors are returned in the same order as when they run sequentially.
+ *
+ * The results of {@link #validate(BpmnModel, String)} are kept for the last validated content hashes (see
+ * {@link #setValidationCacheLimit(int)}), so that validating the same content again returns the earlier result.
  */
 public class ProcessValidatorImpl implements ProcessValidator {
 
+  public static final int DEFAULT_VALIDATION_CACHE_LIMIT = 100;
+
   protected List<ValidatorSet> validatorSets;
 
+  protected ForkJoinPool forkJoinPool;
+
+  protected int validationCacheLimit = DEFAULT_VALIDATION_CACHE_LIMIT;
+  protected Map<List<Object>, List<ValidationError>> validationCache = createValidationCache();
+
   @Override
   public List<ValidationError> validate(BpmnModel bpmnModel) {
+    BpmnModelIndex modelIndex = new BpmnModelIndex(bpmnModel);
 
     List<ValidationError> allErrors = new ArrayList<ValidationError>();
+    if (forkJoinPool != null) {
+      List<ForkJoinTask<List<ValidationError>>> validationTasks = new ArrayList<ForkJoinTask<List<ValidationError>>>();
+      for (ValidatorSet validatorSet : validatorSets) {
+        for (Validator validator : validatorSet.getValidators()) {
+          validationTasks.add(forkJoinPool.submit(() -> executeValidator(validatorSet, validator, bpmnModel, modelIndex)));
+        }
+      }
+      for (ForkJoinTask<List<ValidationError>> validationTask : validationTasks) {
+        allErrors.addAll(validationTask.join());
+      }
 
-    for (ValidatorSet validatorSet : validatorSets) {
-      for (Validator validator : validatorSet.getValidators()) {
-        List<ValidationError> validatorErrors = new ArrayList<ValidationError>();
-        validator.validate(bpmnModel, validatorErrors);
-        if (!validatorErrors.isEmpty()) {
-          for (ValidationError error : validatorErrors) {
-            error.setValidatorSetName(validatorSet.getName());
-          }
-          allErrors.addAll(validatorErrors);
+    } else {
+      for (ValidatorSet validatorSet : validatorSets) {
+        for (Validator validator : validatorSet.getValidators()) {
+          allErrors.addAll(executeValidator(validatorSet, validator, bpmnModel, modelIndex));
         }
       }
     }
     return allErrors;
   }
 
+  protected List<ValidationError> executeValidator(ValidatorSet validatorSet, Validator validator, BpmnModel bpmnModel, BpmnModelIndex modelIndex) {
+    List<ValidationError> validatorErrors = new ArrayList<ValidationError>();
+    validator.validate(bpmnModel, modelIndex, validatorErrors);
+    for (ValidationError error : validatorErrors) {
+      error.setValidatorSetName(validatorSet.getName());
+    }
+    return validatorErrors;
+  }
+
+  @Override
+  public List<ValidationError> validate(BpmnModel bpmnModel, String contentHash) {
+    if (contentHash == null || validationCacheLimit <= 0) {
+      return validate(bpmnModel);
+    }
+
+    // the validators are part of the key, so that a result is not reused after the validators are changed
+    List<Object> cacheKey = new ArrayList<Object>();
+    cacheKey.add(contentHash);
+    for (ValidatorSet validatorSet : validatorSets) {
+      cacheKey.add(validatorSet.getName());
+      cacheKey.addAll(validatorSet.getValidators());
+    }
+
+    List<ValidationError> errors;
+    synchronized (validationCache) {
+      errors = validationCache.get(cacheKey);
+    }
+    if (errors == null) {
+      errors = Collections.unmodifiableList(validate(bpmnModel));
+      synchronized (validationCache) {
+        validationCache.put(cacheKey, errors);
+      }
+    }
+    return new ArrayList<ValidationError>(errors);
+  }
+
+  protected Map<List<Object>, List<ValidationError>> createValidationCache() {
+    return new LinkedHashMap<List<Object>, List<ValidationError>>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<List<Object>, List<ValidationError>> eldest) {
+        return size() > validationCacheLimit;
+      }
+    };
+  }
+
+  public void clearValidationCache() {
+    synchronized (validationCache) {
+      validationCache.clear();
+    }
+  }
+
   public List<ValidatorSet> getValidatorSets() {
     return validatorSets;
   }
@@ -61,4 +140,27 @@ public class ProcessValidatorImpl implements ProcessValidator {
     validatorSets.add(validatorSet);
   }
 
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Sets the pool to run the validators in parallel on, or null to run them sequentially (the default).
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+  }
+
+  public int getValidationCacheLimit() {
+    return validationCacheLimit;
+  }
+
+  /**
+   * Sets the number of validation results that are kept by content hash, 0 disables the reuse of validation results.
+   */
+  public void setValidationCacheLimit(int validationCacheLimit) {
+    this.validationCacheLimit = validationCacheLimit;
+    clearValidationCache();
+  }
+
 }
@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.validation.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.FlowElement;
+import org.activiti.bpmn.model.FlowElementsContainer;
+import org.activiti.bpmn.model.Process;
+import org.activiti.bpmn.model.SubProcess;
+
+/**
+ * Index of the flow elements of the processes of a {@link BpmnModel}, built once and shared by the validators,
+ * instead of each validator scanning the flow elements of the processes again.
+ *
+ * The flow elements of a type are looked up lazily, so the index can be used by validators that run in parallel.
+ */
+public class BpmnModelIndex {
+
+  protected BpmnModel bpmnModel;
+
+  protected Map<Process, ProcessIndex> processIndexes = new IdentityHashMap<Process, ProcessIndex>();
+
+  public BpmnModelIndex(BpmnModel bpmnModel) {
+    this.bpmnModel = bpmnModel;
+    for (Process process : bpmnModel.getProcesses()) {
+      processIndexes.put(process, new ProcessIndex(process));
+    }
+  }
+
+  public BpmnModel getBpmnModel() {
+    return bpmnModel;
+  }
+
+  /**
+   * Same as {@link Process#findFlowElementsOfType(Class)}: the flow elements of the type in the process and its sub processes.
+   */
+  public <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsOfType(Process process, Class<FlowElementType> type) {
+    return getProcessIndex(process).findFlowElementsOfType(type);
+  }
+
+  /**
+   * Same as {@link Process#getFlowElementsContainer(String)}: the process or sub process that contains the flow element.
+   */
+  public FlowElementsContainer getFlowElementsContainer(Process process, String flowElementId) {
+    return getProcessIndex(process).flowElementsContainers.get(flowElementId);
+  }
+
+  protected ProcessIndex getProcessIndex(Process process) {
+    ProcessIndex processIndex = processIndexes.get(process);
+    if (processIndex == null) {
+      // a process that was not part of the model when the index was built
+      processIndex = new ProcessIndex(process);
+    }
+    return processIndex;
+  }
+
+  protected static class ProcessIndex {
+
+    protected List<FlowElement> flowElements = new ArrayList<FlowElement>();
+    protected Map<String, FlowElementsContainer> flowElementsContainers = new HashMap<String, FlowElementsContainer>();
+    protected ConcurrentMap<Class<?>, List<?>> flowElementsByType = new ConcurrentHashMap<Class<?>, List<?>>();
+
+    protected ProcessIndex(Process process) {
+      addFlowElements(process);
+    }
+
+    protected void addFlowElements(FlowElementsContainer container) {
+      for (FlowElement flowElement : container.getFlowElements()) {
+        flowElements.add(flowElement);
+        if (flowElement.getId() != null && !flowElementsContainers.containsKey(flowElement.getId())) {
+          flowElementsContainers.put(flowElement.getId(), container);
+        }
+        if (flowElement instanceof SubProcess) {
+          addFlowElements((SubProcess) flowElement);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <FlowElementType extends FlowElement> List<FlowElementType> findFlowElementsOfType(Class<FlowElementType> type) {
+      return (List<FlowElementType>) flowElementsByType.computeIfAbsent(type, key -> {
+        List<FlowElementType> foundFlowElements = new ArrayList<FlowElementType>();
+        for (FlowElement flowElement : flowElements) {
+          if (type.isInstance(flowElement)) {
+            foundFlowElements.add((FlowElementType) flowElement);
+          }
+        }
+        return Collections.unmodifiableList(foundFlowElements);
+      });
+    }
+  }
+
+}
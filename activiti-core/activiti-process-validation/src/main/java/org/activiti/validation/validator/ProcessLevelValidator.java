@@ -23,6 +23,8 @@ import org.activiti.validation.ValidationError;
  */
 public abstract class ProcessLevelValidator extends ValidatorImpl {
 
+  private static final ThreadLocal<BpmnModelIndex> CURRENT_MODEL_INDEX = new ThreadLocal<BpmnModelIndex>();
+
   @Override
   public void validate(BpmnModel bpmnModel, List<ValidationError> errors) {
     for (Process process : bpmnModel.getProcesses()) {
@@ -30,6 +32,33 @@ public abstract class ProcessLevelValidator extends ValidatorImpl {
     }
   }
 
+  @Override
+  public void validate(BpmnModel bpmnModel, BpmnModelIndex modelIndex, List<ValidationError> errors) {
+    BpmnModelIndex previousModelIndex = CURRENT_MODEL_INDEX.get();
+    CURRENT_MODEL_INDEX.set(modelIndex);
+    try {
+      validate(bpmnModel, errors);
+    } finally {
+      if (previousModelIndex != null) {
+        CURRENT_MODEL_INDEX.set(previousModelIndex);
+      } else {
+        CURRENT_MODEL_INDEX.remove();
+      }
+    }
+  }
+
   protected abstract void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors);
 
+  /**
+   * Returns the index shared by the validators of the model that is being validated, or a new index of the model
+   * when the validator is called on its own.
+   */
+  protected BpmnModelIndex getModelIndex(BpmnModel bpmnModel) {
+    BpmnModelIndex modelIndex = CURRENT_MODEL_INDEX.get();
+    if (modelIndex != null && modelIndex.getBpmnModel() == bpmnModel) {
+      return modelIndex;
+    }
+    return new BpmnModelIndex(bpmnModel);
+  }
+
 }
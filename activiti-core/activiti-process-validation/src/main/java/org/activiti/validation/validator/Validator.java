@@ -24,4 +24,11 @@ public interface Validator {
 
   void validate(BpmnModel bpmnModel, List<ValidationError> errors);
 
+  /**
+   * Validates the model with the index of its flow elements, that is built once for all validators of a process validator.
+   */
+  default void validate(BpmnModel bpmnModel, BpmnModelIndex modelIndex, List<ValidationError> errors) {
+    validate(bpmnModel, errors);
+  }
+
 }
@@ -28,6 +28,7 @@ import org.activiti.bpmn.model.SignalEventDefinition;
 import org.activiti.bpmn.model.TimerEventDefinition;
 import org.activiti.bpmn.model.Transaction;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -38,7 +39,8 @@ public class BoundaryEventValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<BoundaryEvent> boundaryEvents = process.findFlowElementsOfType(BoundaryEvent.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<BoundaryEvent> boundaryEvents = modelIndex.findFlowElementsOfType(process, BoundaryEvent.class);
 
     // Only one boundary event of type 'cancel' can be attached to the same
     // element, so we store the count temporarily here
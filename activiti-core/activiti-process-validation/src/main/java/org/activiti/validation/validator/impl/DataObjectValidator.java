@@ -20,6 +20,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SubProcess;
 import org.activiti.bpmn.model.ValuedDataObject;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -31,11 +32,12 @@ public class DataObjectValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
 
     // Gather data objects
     List<ValuedDataObject> allDataObjects = new ArrayList<ValuedDataObject>();
     allDataObjects.addAll(process.getDataObjects());
-    List<SubProcess> subProcesses = process.findFlowElementsOfType(SubProcess.class, true);
+    List<SubProcess> subProcesses = modelIndex.findFlowElementsOfType(process, SubProcess.class);
     for (SubProcess subProcess : subProcesses) {
       allDataObjects.addAll(subProcess.getDataObjects());
     }
@@ -22,6 +22,7 @@ import org.activiti.bpmn.model.FlowElementsContainer;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.Transaction;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -32,7 +33,8 @@ public class EndEventValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<EndEvent> endEvents = process.findFlowElementsOfType(EndEvent.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<EndEvent> endEvents = modelIndex.findFlowElementsOfType(process, EndEvent.class);
     for (EndEvent endEvent : endEvents) {
       if (endEvent.getEventDefinitions() != null && !endEvent.getEventDefinitions().isEmpty()) {
 
@@ -21,6 +21,7 @@ import org.activiti.bpmn.model.IntermediateCatchEvent;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SequenceFlow;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -31,7 +32,8 @@ public class EventGatewayValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<EventGateway> eventGateways = process.findFlowElementsOfType(EventGateway.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<EventGateway> eventGateways = modelIndex.findFlowElementsOfType(process, EventGateway.class);
     for (EventGateway eventGateway : eventGateways) {
       for (SequenceFlow sequenceFlow : eventGateway.getOutgoingFlows()) {
         FlowElement flowElement = process.getFlowElement(sequenceFlow.getTargetRef(), true);
@@ -22,6 +22,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SignalEventDefinition;
 import org.activiti.bpmn.model.StartEvent;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -32,7 +33,8 @@ public class EventSubprocessValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<EventSubProcess> eventSubprocesses = process.findFlowElementsOfType(EventSubProcess.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<EventSubProcess> eventSubprocesses = modelIndex.findFlowElementsOfType(process, EventSubProcess.class);
     for (EventSubProcess eventSubprocess : eventSubprocesses) {
 
       List<StartEvent> startEvents = process.findFlowElementsInSubProcessOfType(eventSubprocess, StartEvent.class);
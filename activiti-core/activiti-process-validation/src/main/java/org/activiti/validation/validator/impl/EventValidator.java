@@ -23,6 +23,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SignalEventDefinition;
 import org.activiti.bpmn.model.TimerEventDefinition;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -36,7 +37,8 @@ public class EventValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<Event> events = process.findFlowElementsOfType(Event.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<Event> events = modelIndex.findFlowElementsOfType(process, Event.class);
     for (Event event : events) {
       if (event.getEventDefinitions() != null) {
         for (EventDefinition eventDefinition : event.getEventDefinitions()) {
@@ -20,6 +20,7 @@ import org.activiti.bpmn.model.ExclusiveGateway;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SequenceFlow;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -31,7 +32,8 @@ public class ExclusiveGatewayValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<ExclusiveGateway> gateways = process.findFlowElementsOfType(ExclusiveGateway.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<ExclusiveGateway> gateways = modelIndex.findFlowElementsOfType(process, ExclusiveGateway.class);
     for (ExclusiveGateway gateway : gateways) {
       validateExclusiveGateway(process, gateway, errors);
     }
@@ -22,6 +22,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SignalEventDefinition;
 import org.activiti.bpmn.model.TimerEventDefinition;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -32,7 +33,8 @@ public class IntermediateCatchEventValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<IntermediateCatchEvent> intermediateCatchEvents = process.findFlowElementsOfType(IntermediateCatchEvent.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<IntermediateCatchEvent> intermediateCatchEvents = modelIndex.findFlowElementsOfType(process, IntermediateCatchEvent.class);
     for (IntermediateCatchEvent intermediateCatchEvent : intermediateCatchEvents) {
       EventDefinition eventDefinition = null;
       if (!intermediateCatchEvent.getEventDefinitions().isEmpty()) {
@@ -22,6 +22,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SignalEventDefinition;
 import org.activiti.bpmn.model.ThrowEvent;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -32,7 +33,8 @@ public class IntermediateThrowEventValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<ThrowEvent> throwEvents = process.findFlowElementsOfType(ThrowEvent.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<ThrowEvent> throwEvents = modelIndex.findFlowElementsOfType(process, ThrowEvent.class);
     for (ThrowEvent throwEvent : throwEvents) {
       EventDefinition eventDefinition = null;
       if (!throwEvent.getEventDefinitions().isEmpty()) {
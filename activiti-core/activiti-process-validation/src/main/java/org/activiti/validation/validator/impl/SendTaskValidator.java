@@ -21,6 +21,7 @@ import org.activiti.bpmn.model.Operation;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SendTask;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.apache.commons.lang3.StringUtils;
 
@@ -31,7 +32,8 @@ public class SendTaskValidator extends ExternalInvocationTaskValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<SendTask> sendTasks = process.findFlowElementsOfType(SendTask.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<SendTask> sendTasks = modelIndex.findFlowElementsOfType(process, SendTask.class);
     for (SendTask sendTask : sendTasks) {
 
       // Verify implementation
@@ -22,6 +22,7 @@ import org.activiti.bpmn.model.FlowElementsContainer;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.SequenceFlow;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -37,7 +38,8 @@ public class SequenceflowValidator extends ProcessLevelValidator {
 
     @Override
     protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-        List<SequenceFlow> sequenceFlows = process.findFlowElementsOfType(SequenceFlow.class);
+        BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+        List<SequenceFlow> sequenceFlows = modelIndex.findFlowElementsOfType(process, SequenceFlow.class);
         for (SequenceFlow sequenceFlow : sequenceFlows) {
 
             String sourceRef = sequenceFlow.getSourceRef();
@@ -65,8 +67,8 @@ public class SequenceflowValidator extends ProcessLevelValidator {
             }
 
             if (source != null && target != null) {
-                FlowElementsContainer sourceContainer = process.getFlowElementsContainer(source.getId());
-                FlowElementsContainer targetContainer = process.getFlowElementsContainer(target.getId());
+                FlowElementsContainer sourceContainer = modelIndex.getFlowElementsContainer(process, source.getId());
+                FlowElementsContainer targetContainer = modelIndex.getFlowElementsContainer(process, target.getId());
 
                 if (sourceContainer == null) {
                     addError(errors, Problems.SEQ_FLOW_INVALID_SRC, process, sequenceFlow, "Invalid source for sequenceflow");
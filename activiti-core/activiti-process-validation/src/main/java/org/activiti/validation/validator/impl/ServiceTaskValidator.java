@@ -21,6 +21,7 @@ import org.activiti.bpmn.model.Operation;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.ServiceTask;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.apache.commons.lang3.StringUtils;
 
@@ -31,7 +32,8 @@ public class ServiceTaskValidator extends ExternalInvocationTaskValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<ServiceTask> serviceTasks = process.findFlowElementsOfType(ServiceTask.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<ServiceTask> serviceTasks = modelIndex.findFlowElementsOfType(process, ServiceTask.class);
     for (ServiceTask serviceTask : serviceTasks) {
       verifyImplementation(process, serviceTask, errors);
       verifyType(process, serviceTask, errors);
@@ -20,6 +20,7 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.StartEvent;
 import org.activiti.bpmn.model.SubProcess;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -30,7 +31,8 @@ public class SubprocessValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<SubProcess> subProcesses = process.findFlowElementsOfType(SubProcess.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<SubProcess> subProcesses = modelIndex.findFlowElementsOfType(process, SubProcess.class);
     for (SubProcess subProcess : subProcesses) {
 
       if (!(subProcess instanceof EventSubProcess)) {
@@ -19,6 +19,7 @@ import org.activiti.bpmn.model.BpmnModel;
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.UserTask;
 import org.activiti.validation.ValidationError;
+import org.activiti.validation.validator.BpmnModelIndex;
 import org.activiti.validation.validator.Problems;
 import org.activiti.validation.validator.ProcessLevelValidator;
 
@@ -29,7 +30,8 @@ public class UserTaskValidator extends ProcessLevelValidator {
 
   @Override
   protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-    List<UserTask> userTasks = process.findFlowElementsOfType(UserTask.class);
+    BpmnModelIndex modelIndex = getModelIndex(bpmnModel);
+    List<UserTask> userTasks = modelIndex.findFlowElementsOfType(process, UserTask.class);
     for (UserTask userTask : userTasks) {
       if (userTask.getTaskListeners() != null) {
         for (ActivitiListener listener : userTask.getTaskListeners()) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.validation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.Process;
+import org.activiti.bpmn.model.SequenceFlow;
+import org.activiti.bpmn.model.ServiceTask;
+import org.activiti.bpmn.model.StartEvent;
+import org.activiti.bpmn.model.SubProcess;
+import org.activiti.bpmn.model.UserTask;
+import org.activiti.validation.validator.BpmnModelIndex;
+import org.activiti.validation.validator.Validator;
+import org.activiti.validation.validator.ValidatorImpl;
+import org.activiti.validation.validator.ValidatorSet;
+import org.activiti.validation.validator.impl.ServiceTaskValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessValidatorImplTest {
+
+    @Test
+    public void validateInParallelShouldReturnTheErrorsInTheSameOrder() {
+        //given
+        BpmnModel bpmnModel = createInvalidModel();
+        ProcessValidatorImpl sequentialValidator = (ProcessValidatorImpl) new ProcessValidatorFactory().createDefaultProcessValidator();
+        ProcessValidatorImpl parallelValidator = (ProcessValidatorImpl) new ProcessValidatorFactory().createDefaultProcessValidator();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        parallelValidator.setForkJoinPool(forkJoinPool);
+
+        try {
+            //when
+            List<ValidationError> sequentialErrors = sequentialValidator.validate(bpmnModel);
+            List<ValidationError> parallelErrors = parallelValidator.validate(bpmnModel);
+
+            //then
+            assertThat(sequentialErrors)
+                    .extracting(ValidationError::getProblem)
+                    .contains("activiti-servicetask-missing-implementation",
+                              "activiti-seq-flow-invalid-target");
+            assertThat(parallelErrors)
+                    .extracting(ValidationError::toString)
+                    .containsExactlyElementsOf(sequentialErrors.stream()
+                                                       .map(ValidationError::toString)
+                                                       .collect(Collectors.toList()));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void validateShouldReuseTheResultForTheSameContentHash() {
+        //given
+        CountingValidator countingValidator = new CountingValidator();
+        ProcessValidatorImpl processValidator = createProcessValidator(countingValidator);
+        BpmnModel bpmnModel = createInvalidModel();
+
+        //when
+        List<ValidationError> errors = processValidator.validate(bpmnModel, "hash");
+        List<ValidationError> cachedErrors = processValidator.validate(bpmnModel, "hash");
+        processValidator.validate(bpmnModel, "otherHash");
+
+        //then
+        assertThat(cachedErrors).hasSize(1).isEqualTo(errors);
+        assertThat(countingValidator.count.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void validateShouldNotReuseTheResultWithoutCache() {
+        //given
+        CountingValidator countingValidator = new CountingValidator();
+        ProcessValidatorImpl processValidator = createProcessValidator(countingValidator);
+        processValidator.setValidationCacheLimit(0);
+        BpmnModel bpmnModel = createInvalidModel();
+
+        //when
+        processValidator.validate(bpmnModel, "hash");
+        processValidator.validate(bpmnModel, "hash");
+        processValidator.validate(bpmnModel, null);
+
+        //then
+        assertThat(countingValidator.count.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void modelIndexShouldFindTheFlowElementsOfTheProcessAndItsSubProcesses() {
+        //given
+        BpmnModel bpmnModel = createInvalidModel();
+        Process process = bpmnModel.getMainProcess();
+
+        //when
+        BpmnModelIndex modelIndex = new BpmnModelIndex(bpmnModel);
+
+        //then
+        assertThat(modelIndex.findFlowElementsOfType(process, SequenceFlow.class))
+                .containsExactlyElementsOf(process.findFlowElementsOfType(SequenceFlow.class));
+        assertThat(modelIndex.findFlowElementsOfType(process, UserTask.class))
+                .extracting(UserTask::getId)
+                .containsExactly("nestedTask");
+        assertThat(modelIndex.getFlowElementsContainer(process, "nestedTask"))
+                .isSameAs(process.getFlowElement("subProcess"));
+        assertThat(modelIndex.getFlowElementsContainer(process, "start")).isSameAs(process);
+        assertThat(modelIndex.getFlowElementsContainer(process, "unknown")).isNull();
+    }
+
+    @Test
+    public void validateShouldCallTheOverriddenExecuteValidationOfASubclassOfABuiltInValidator() {
+        //given
+        ProcessValidatorImpl processValidator = createProcessValidator(new ServiceTaskValidator() {
+            @Override
+            protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
+                addError(errors, "custom-service-task", process, "custom validation of " + process.getId());
+            }
+        });
+
+        //when
+        List<ValidationError> errors = processValidator.validate(createInvalidModel());
+
+        //then
+        assertThat(errors)
+                .extracting(ValidationError::getProblem)
+                .containsExactly("custom-service-task");
+    }
+
+    private ProcessValidatorImpl createProcessValidator(Validator validator) {
+        ValidatorSet validatorSet = new ValidatorSet("counting");
+        validatorSet.addValidator(validator);
+        ProcessValidatorImpl processValidator = new ProcessValidatorImpl();
+        processValidator.addValidatorSet(validatorSet);
+        return processValidator;
+    }
+
+    private BpmnModel createInvalidModel() {
+        Process process = new Process();
+        process.setId("invalidProcess");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        ServiceTask serviceTask = new ServiceTask();
+        serviceTask.setId("serviceTask");
+        process.addFlowElement(serviceTask);
+
+        SubProcess subProcess = new SubProcess();
+        subProcess.setId("subProcess");
+        UserTask nestedTask = new UserTask();
+        nestedTask.setId("nestedTask");
+        subProcess.addFlowElement(nestedTask);
+        process.addFlowElement(subProcess);
+
+        SequenceFlow validFlow = new SequenceFlow("start", "serviceTask");
+        validFlow.setId("validFlow");
+        process.addFlowElement(validFlow);
+
+        SequenceFlow crossingFlow = new SequenceFlow("serviceTask", "nestedTask");
+        crossingFlow.setId("crossingFlow");
+        process.addFlowElement(crossingFlow);
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        return bpmnModel;
+    }
+
+    private static class CountingValidator extends ValidatorImpl {
+
+        private AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void validate(BpmnModel bpmnModel, List<ValidationError> errors) {
+            count.incrementAndGet();
+            addError(errors, "counted", "validated " + count.get() + " times");
+        }
+    }
+
+}
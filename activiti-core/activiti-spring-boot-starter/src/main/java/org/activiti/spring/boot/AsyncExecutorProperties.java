@@ -139,6 +139,26 @@ public class AsyncExecutorProperties {
      * Set this to true when using the message queue based job executor. Default is false.
      */
     private boolean messageQueueMode = false;
+
+    /**
+     * The number of serial lanes over which acquired async jobs are divided by process instance id.
+     * When 0 (default), the jobs are executed by the thread pool.
+     */
+    private int processInstanceLaneCount = 0;
+
+    /**
+     * The number of nodes over which the acquisition of async jobs is partitioned by process instance id,
+     * and the 0 based partition of this node. Default 1, meaning every node acquires all due jobs.
+     */
+    private int nodePartitionCount = 1;
+
+    private int nodePartitionIndex = 0;
+
+    /**
+     * The time (in milliseconds) a job of another node partition has to be passed over, before this node
+     * acquires it anyway. Default value = 5 minutes.
+     */
+    private long nodePartitionTakeoverTimeInMillis = 5 * 60 * 1000;
     
     public int getCorePoolSize() {
         return corePoolSize;
@@ -275,4 +295,36 @@ public class AsyncExecutorProperties {
     public void setNumberOfRetries(int numberOfRetries) {
         this.numberOfRetries = numberOfRetries;
     }
+
+    public int getProcessInstanceLaneCount() {
+        return processInstanceLaneCount;
+    }
+
+    public void setProcessInstanceLaneCount(int processInstanceLaneCount) {
+        this.processInstanceLaneCount = processInstanceLaneCount;
+    }
+
+    public int getNodePartitionCount() {
+        return nodePartitionCount;
+    }
+
+    public void setNodePartitionCount(int nodePartitionCount) {
+        this.nodePartitionCount = nodePartitionCount;
+    }
+
+    public int getNodePartitionIndex() {
+        return nodePartitionIndex;
+    }
+
+    public void setNodePartitionIndex(int nodePartitionIndex) {
+        this.nodePartitionIndex = nodePartitionIndex;
+    }
+
+    public long getNodePartitionTakeoverTimeInMillis() {
+        return nodePartitionTakeoverTimeInMillis;
+    }
+
+    public void setNodePartitionTakeoverTimeInMillis(long nodePartitionTakeoverTimeInMillis) {
+        this.nodePartitionTakeoverTimeInMillis = nodePartitionTakeoverTimeInMillis;
+    }
 }
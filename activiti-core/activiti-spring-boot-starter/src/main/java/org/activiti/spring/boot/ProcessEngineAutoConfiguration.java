@@ -32,7 +32,11 @@ import org.activiti.engine.ManagementService;
 import org.activiti.engine.RepositoryService;
 import org.activiti.engine.cfg.ProcessEngineConfigurator;
 import org.activiti.engine.impl.event.EventSubscriptionPayloadMappingProvider;
+import org.activiti.engine.impl.jobexecutor.JobHandler;
 import org.activiti.engine.impl.persistence.StrongUuidGenerator;
+import org.activiti.runtime.api.connector.ConnectorJobHandler;
+import org.activiti.runtime.api.connector.ConnectorResultJobHandler;
+import org.activiti.runtime.api.connector.DefaultServiceTaskBehavior;
 import org.activiti.runtime.api.event.impl.StartMessageSubscriptionConverter;
 import org.activiti.runtime.api.impl.VariablesMappingProvider;
 import org.activiti.runtime.api.model.impl.APIProcessDefinitionConverter;
@@ -47,6 +51,7 @@ import org.activiti.spring.resources.ResourceFinder;
 import org.activiti.spring.resources.ResourceFinderDescriptor;
 import org.activiti.validation.ProcessValidatorImpl;
 import org.activiti.validation.validator.ValidatorSet;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -234,6 +239,19 @@ public class ProcessEngineAutoConfiguration extends AbstractProcessEngineAutoCon
                 eventSubscriptionPayloadMappingProvider);
     }
 
+    @Bean
+    public ProcessEngineConfigurationConfigurer connectorJobHandlerConfigurer(ObjectProvider<DefaultServiceTaskBehavior> defaultServiceTaskBehavior) {
+        return (configuration) -> defaultServiceTaskBehavior.ifAvailable(serviceTaskBehavior -> {
+            List<JobHandler> customJobHandlers = new ArrayList<>();
+            if (configuration.getCustomJobHandlers() != null) {
+                customJobHandlers.addAll(configuration.getCustomJobHandlers());
+            }
+            customJobHandlers.add(new ConnectorJobHandler(serviceTaskBehavior));
+            customJobHandlers.add(new ConnectorResultJobHandler(serviceTaskBehavior));
+            configuration.setCustomJobHandlers(customJobHandlers);
+        });
+    }
+
     @Bean
     @Order(Ordered.HIGHEST_PRECEDENCE)
     public ProcessEngineConfigurationConfigurer asyncExecutorPropertiesConfigurer(AsyncExecutorProperties properties) {
@@ -260,6 +278,11 @@ public class ProcessEngineAutoConfiguration extends AbstractProcessEngineAutoCon
             configuration.setAsyncExecutorThreadPoolQueueSize(properties.getQueueSize());
 
             configuration.setAsyncFailedJobWaitTime(properties.getRetryWaitTimeInMillis());
+
+            configuration.setAsyncExecutorProcessInstanceLaneCount(properties.getProcessInstanceLaneCount());
+            configuration.setAsyncExecutorNodePartitionCount(properties.getNodePartitionCount());
+            configuration.setAsyncExecutorNodePartitionIndex(properties.getNodePartitionIndex());
+            configuration.setAsyncExecutorNodePartitionTakeoverTimeInMillis(properties.getNodePartitionTakeoverTimeInMillis());
         };
     }
 
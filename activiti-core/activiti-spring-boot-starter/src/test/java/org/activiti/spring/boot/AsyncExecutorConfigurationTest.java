@@ -34,5 +34,7 @@ public class AsyncExecutorConfigurationTest {
         assertThat(asyncExecutor.getResetExpiredJobsPageSize()).isEqualTo(properties.getResetExpiredJobsPageSize());
         assertThat(asyncExecutor.getSecondsToWaitOnShutdown()).isEqualTo(properties.getSecondsToWaitOnShutdown());
         assertThat(asyncExecutor.getTimerLockTimeInMillis()).isEqualTo(properties.getTimerLockTimeInMillis());
+        assertThat(asyncExecutor.getProcessInstanceLaneCount()).isEqualTo(properties.getProcessInstanceLaneCount());
+        assertThat(asyncExecutor.getNodePartitionTakeoverTimeInMillis()).isEqualTo(properties.getNodePartitionTakeoverTimeInMillis());
     }
 }
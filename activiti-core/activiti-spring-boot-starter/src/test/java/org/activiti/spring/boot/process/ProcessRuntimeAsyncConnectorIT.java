@@ -0,0 +1,302 @@
+package org.activiti.spring.boot.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.activiti.api.process.model.IntegrationContext;
+import org.activiti.api.process.model.ProcessInstance;
+import org.activiti.api.process.model.builders.ProcessPayloadBuilder;
+import org.activiti.api.process.runtime.ProcessRuntime;
+import org.activiti.api.process.runtime.connector.Connector;
+import org.activiti.engine.ManagementService;
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.integration.IntegrationContextService;
+import org.activiti.engine.runtime.Execution;
+import org.activiti.engine.runtime.Job;
+import org.activiti.runtime.api.connector.ConnectorJobHandler;
+import org.activiti.runtime.api.connector.ConnectorResultJobHandler;
+import org.activiti.spring.boot.security.util.SecurityUtil;
+import org.activiti.spring.boot.test.util.ProcessCleanUpUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.activiti.connectors.async-execution=true")
+public class ProcessRuntimeAsyncConnectorIT {
+
+    private static final String ASYNC_CONNECTOR_PROCESS = "asyncConnectorProcess";
+
+    @Autowired
+    private ProcessRuntime processRuntime;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private ManagementService managementService;
+
+    @Autowired
+    private IntegrationContextService integrationContextService;
+
+    @Autowired
+    private AsyncConnector asyncConnector;
+
+    @Autowired
+    private SecurityUtil securityUtil;
+
+    @Autowired
+    private ProcessCleanUpUtil processCleanUpUtil;
+
+    @BeforeEach
+    public void setUp() {
+        asyncConnector.reset();
+        securityUtil.logInAs("user");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        asyncConnector.release();
+        processCleanUpUtil.cleanUpWithAdmin();
+    }
+
+    @Test
+    public void shouldApplyConnectorAfterCommitAndLeaveServiceTaskWithMappedVariables() throws Exception {
+        //given
+        asyncConnector.hold();
+
+        //when
+        ProcessInstance processInstance = startProcess();
+
+        //then
+        IntegrationContext integrationContext = asyncConnector.awaitApplied();
+        Execution waitingExecution = runtimeService.createExecutionQuery()
+                .processInstanceId(processInstance.getId())
+                .activityId("asyncServiceTask")
+                .singleResult();
+        assertThat(waitingExecution).isNotNull();
+        assertThat(integrationContext.getExecutionId()).isEqualTo(waitingExecution.getId());
+        assertThat(integrationContext.getInBoundVariables()).containsEntry("name",
+                                                                           "John");
+        assertThat(asyncConnector.isIntegrationContextCommitted()).isTrue();
+        assertThat(integrationContextService.findById(integrationContext.getId())).isNotNull();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult())
+                .extracting(Job::getJobHandlerType)
+                .isEqualTo(ConnectorJobHandler.TYPE);
+
+        //when
+        asyncConnector.release();
+
+        //then
+        awaitUserTask(processInstance);
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsEntry("greeting",
+                               "Hello John")
+                .doesNotContainKey("message");
+        assertThat(integrationContextService.findById(integrationContext.getId())).isNull();
+        assertThat(asyncConnector.getAppliedCount()).isEqualTo(1);
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+    }
+
+    @Test
+    public void shouldApplyConnectorAgainInJobWhenConnectorFails() throws Exception {
+        //given
+        asyncConnector.failOnce();
+
+        //when
+        ProcessInstance processInstance = startProcess();
+
+        //then
+        IntegrationContext integrationContext = asyncConnector.awaitApplied();
+        awaitUserTask(processInstance);
+        assertThat(asyncConnector.getAppliedCount()).isEqualTo(2);
+        assertThat(runtimeService.getVariables(processInstance.getId())).containsEntry("greeting",
+                                                                                      "Hello John");
+        assertThat(integrationContextService.findById(integrationContext.getId())).isNull();
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+        assertThat(managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+    }
+
+    @Test
+    public void shouldTriggerExecutionWithStoredResultInJobWhenExecutionCannotBeTriggered() throws Exception {
+        //given
+        asyncConnector.hold();
+        ProcessInstance processInstance = startProcess();
+        IntegrationContext integrationContext = asyncConnector.awaitApplied();
+        runtimeService.suspendProcessInstanceById(processInstance.getId());
+
+        //when
+        asyncConnector.release();
+
+        //then
+        await().untilAsserted(() -> assertThat(managementService.createTimerJobQuery()
+                                                       .processInstanceId(processInstance.getId())
+                                                       .withException()
+                                                       .singleResult())
+                .extracting(Job::getJobHandlerType)
+                .isEqualTo(ConnectorResultJobHandler.TYPE));
+
+        //when
+        runtimeService.activateProcessInstanceById(processInstance.getId());
+        managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery()
+                                                           .processInstanceId(processInstance.getId())
+                                                           .withException()
+                                                           .singleResult()
+                                                           .getId());
+
+        //then
+        awaitUserTask(processInstance);
+        assertThat(asyncConnector.getAppliedCount()).isEqualTo(1);
+        assertThat(runtimeService.getVariables(processInstance.getId())).containsEntry("greeting",
+                                                                                      "Hello John");
+        assertThat(integrationContextService.findById(integrationContext.getId())).isNull();
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+    }
+
+    @Test
+    public void shouldApplyConnectorAgainWhenRecoveryTimerFires() throws Exception {
+        //given the connector thread dies before the result is handed back, as if the engine stopped
+        asyncConnector.crashOnce();
+        ProcessInstance processInstance = startProcess();
+        IntegrationContext integrationContext = asyncConnector.awaitApplied();
+        Job recoveryTimer = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(recoveryTimer.getJobHandlerType()).isEqualTo(ConnectorJobHandler.TYPE);
+
+        //when
+        managementService.moveTimerToExecutableJob(recoveryTimer.getId());
+
+        //then
+        awaitUserTask(processInstance);
+        assertThat(asyncConnector.getAppliedCount()).isEqualTo(2);
+        assertThat(runtimeService.getVariables(processInstance.getId())).containsEntry("greeting",
+                                                                                      "Hello John");
+        assertThat(integrationContextService.findById(integrationContext.getId())).isNull();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).list()).isEmpty();
+    }
+
+    private ProcessInstance startProcess() {
+        return processRuntime.start(ProcessPayloadBuilder.start()
+                                            .withProcessDefinitionKey(ASYNC_CONNECTOR_PROCESS)
+                                            .withVariable("name",
+                                                          "John")
+                                            .build());
+    }
+
+    private void awaitUserTask(ProcessInstance processInstance) {
+        await().untilAsserted(() -> assertThat(runtimeService.createExecutionQuery()
+                                                       .processInstanceId(processInstance.getId())
+                                                       .activityId("userTask")
+                                                       .singleResult()).isNotNull());
+    }
+
+    @TestConfiguration
+    static class AsyncConnectorConfiguration {
+
+        @Bean
+        public AsyncConnector asyncConnector(IntegrationContextService integrationContextService) {
+            return new AsyncConnector(integrationContextService);
+        }
+    }
+
+    static class AsyncConnector implements Connector {
+
+        private final IntegrationContextService integrationContextService;
+
+        private final AtomicInteger appliedCount = new AtomicInteger();
+
+        private volatile CountDownLatch applied;
+
+        private volatile CountDownLatch released;
+
+        private volatile boolean failOnce;
+
+        private volatile boolean crashOnce;
+
+        private volatile boolean integrationContextCommitted;
+
+        private volatile IntegrationContext appliedIntegrationContext;
+
+        AsyncConnector(IntegrationContextService integrationContextService) {
+            this.integrationContextService = integrationContextService;
+            reset();
+        }
+
+        void reset() {
+            appliedCount.set(0);
+            applied = new CountDownLatch(1);
+            released = new CountDownLatch(0);
+            failOnce = false;
+            crashOnce = false;
+            integrationContextCommitted = false;
+            appliedIntegrationContext = null;
+        }
+
+        void hold() {
+            released = new CountDownLatch(1);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void failOnce() {
+            failOnce = true;
+        }
+
+        void crashOnce() {
+            crashOnce = true;
+        }
+
+        IntegrationContext awaitApplied() throws InterruptedException {
+            assertThat(applied.await(10,
+                                     TimeUnit.SECONDS)).isTrue();
+            return appliedIntegrationContext;
+        }
+
+        int getAppliedCount() {
+            return appliedCount.get();
+        }
+
+        boolean isIntegrationContextCommitted() {
+            return integrationContextCommitted;
+        }
+
+        @Override
+        public IntegrationContext apply(IntegrationContext integrationContext) {
+            if (appliedCount.incrementAndGet() == 1) {
+                // looked up in a transaction of its own, so it is only found once it has been committed
+                integrationContextCommitted = integrationContextService.findById(integrationContext.getId()) != null;
+                appliedIntegrationContext = integrationContext;
+                applied.countDown();
+            }
+            try {
+                released.await(10,
+                               TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failOnce) {
+                failOnce = false;
+                throw new IllegalStateException("connector failure");
+            }
+            if (crashOnce) {
+                crashOnce = false;
+                throw new Error("connector crash");
+            }
+            integrationContext.addOutBoundVariable("message",
+                                                   "Hello " + integrationContext.getInBoundVariables().get("name"));
+            return integrationContext;
+        }
+    }
+}
@@ -17,9 +17,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.activiti.engine.RepositoryService;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.util.ProcessDefinitionUtil;
 import org.activiti.engine.repository.ProcessDefinition;
 import org.activiti.spring.process.model.Extension;
 import org.activiti.spring.process.model.ProcessExtensionModel;
+import org.activiti.spring.resources.DeploymentResourceCache;
 import org.activiti.spring.resources.DeploymentResourceLoader;
 
 public class ProcessExtensionService {
@@ -29,27 +32,29 @@ public class ProcessExtensionService {
     private RepositoryService repositoryService;
 
     private static final Extension EMPTY_EXTENSIONS = new Extension();
-    private Map<String, Map<String, Extension>> processExtensionModelDeploymentMap = new HashMap<>();
+    private final DeploymentResourceCache<Map<String, Extension>> processExtensionModelDeploymentMap;
 
     public ProcessExtensionService(DeploymentResourceLoader<ProcessExtensionModel> processExtensionLoader,
                                    ProcessExtensionResourceReader processExtensionReader) {
+        this(processExtensionLoader,
+             processExtensionReader,
+             new DeploymentResourceCache<>());
+    }
+
+    public ProcessExtensionService(DeploymentResourceLoader<ProcessExtensionModel> processExtensionLoader,
+                                   ProcessExtensionResourceReader processExtensionReader,
+                                   DeploymentResourceCache<Map<String, Extension>> processExtensionModelDeploymentMap) {
 
         this.processExtensionLoader = processExtensionLoader;
         this.processExtensionReader = processExtensionReader;
+        this.processExtensionModelDeploymentMap = processExtensionModelDeploymentMap;
     }
 
     private Map<String, Extension> getProcessExtensionsForDeploymentId(String deploymentId) {
-        Map<String, Extension> processExtensionModelMap = processExtensionModelDeploymentMap.get(deploymentId);
-        if (processExtensionModelMap != null) {
-            return processExtensionModelMap;
-        }
-
-        List<ProcessExtensionModel> processExtensionModels = processExtensionLoader.loadResourcesForDeployment(deploymentId,
-                processExtensionReader);
-
-        processExtensionModelMap = buildProcessDefinitionAndExtensionMap(processExtensionModels);
-        processExtensionModelDeploymentMap.put(deploymentId, processExtensionModelMap);
-        return processExtensionModelMap;
+        return processExtensionModelDeploymentMap.get(deploymentId,
+                                                      id -> buildProcessDefinitionAndExtensionMap(
+                                                              processExtensionLoader.loadResourcesForDeployment(id,
+                                                                                                                processExtensionReader)));
     }
 
     private Map<String, Extension> buildProcessDefinitionAndExtensionMap(List<ProcessExtensionModel> processExtensionModels) {
@@ -66,7 +71,7 @@ public class ProcessExtensionService {
     }
 
     public boolean hasExtensionsFor(String processDefinitionId) {
-        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processDefinitionId);
+        ProcessDefinition processDefinition = getProcessDefinition(processDefinitionId);
         return hasExtensionsFor(processDefinition);
     }
 
@@ -78,13 +83,25 @@ public class ProcessExtensionService {
     }
 
     public Extension getExtensionsForId(String processDefinitionId) {
-        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processDefinitionId);
+        ProcessDefinition processDefinition = getProcessDefinition(processDefinitionId);
 
         Extension processExtension = getExtensionsFor(processDefinition);
         return processExtension != null ? processExtension : EMPTY_EXTENSIONS;
     }
 
+    private ProcessDefinition getProcessDefinition(String processDefinitionId) {
+        if (Context.getCommandContext() != null) {
+            // within a command, like the execution of a service task, the deployment cache is used without starting another command
+            return ProcessDefinitionUtil.getProcessDefinition(processDefinitionId);
+        }
+        return repositoryService.getProcessDefinition(processDefinitionId);
+    }
+
     public void setRepositoryService(RepositoryService repositoryService) {
         this.repositoryService = repositoryService;
     }
+
+    public DeploymentResourceCache<Map<String, Extension>> getProcessExtensionModelDeploymentMap() {
+        return processExtensionModelDeploymentMap;
+    }
 }
@@ -19,6 +19,8 @@ import java.util.Map;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.activiti.common.util.DateFormatterProvider;
 import org.activiti.engine.RepositoryService;
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.spring.process.ProcessExtensionResourceReader;
 import org.activiti.spring.process.ProcessExtensionService;
 import org.activiti.spring.process.model.ProcessExtensionModel;
@@ -71,6 +73,18 @@ public class ProcessExtensionsAutoConfiguration {
         return () -> deploymentResourceLoader.setRepositoryService(repositoryService);
     }
 
+    @Bean
+    InitializingBean evictDeletedDeploymentsFromProcessExtensionCaches(RuntimeService runtimeService,
+                                                                       DeploymentResourceLoader deploymentResourceLoader,
+                                                                       ProcessExtensionService processExtensionService) {
+        return () -> {
+            runtimeService.addEventListener(deploymentResourceLoader.getLoadedResources(),
+                                            ActivitiEventType.ENTITY_DELETED);
+            runtimeService.addEventListener(processExtensionService.getProcessExtensionModelDeploymentMap(),
+                                            ActivitiEventType.ENTITY_DELETED);
+        };
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "variableTypeMap")
     public Map<String, VariableType> variableTypeMap(ObjectMapper objectMapper,
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.spring.resources;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.activiti.engine.delegate.event.ActivitiEntityEvent;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventListener;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.repository.Deployment;
+
+/**
+ * Bounded cache of values loaded for a deployment, like the resources of the deployment.
+ *
+ * The least recently used deployments are evicted when the limit is reached. The value of a deployment is loaded once,
+ * concurrent requests for the same deployment wait for that load. Registered as event listener of the engine,
+ * a deployment is evicted when it is deleted.
+ */
+public class DeploymentResourceCache<V> implements ActivitiEventListener {
+
+    public static final int DEFAULT_LIMIT = 1000;
+
+    private final int limit;
+
+    private final Map<String, CompletableFuture<V>> entries;
+
+    public DeploymentResourceCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public DeploymentResourceCache(int limit) {
+        this.limit = limit;
+        this.entries = new LinkedHashMap<String, CompletableFuture<V>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<V>> eldest) {
+                return size() > DeploymentResourceCache.this.limit;
+            }
+        };
+    }
+
+    public V get(String deploymentId, Function<String, V> loader) {
+        CompletableFuture<V> entry;
+        boolean load = false;
+        synchronized (entries) {
+            entry = entries.get(deploymentId);
+            if (entry == null) {
+                entry = new CompletableFuture<>();
+                entries.put(deploymentId, entry);
+                load = true;
+            }
+        }
+
+        if (load) {
+            try {
+                entry.complete(loader.apply(deploymentId));
+            } catch (RuntimeException | Error e) {
+                // not cached, the next request loads it again
+                synchronized (entries) {
+                    entries.remove(deploymentId, entry);
+                }
+                entry.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void evict(String deploymentId) {
+        synchronized (entries) {
+            entries.remove(deploymentId);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onEvent(ActivitiEvent event) {
+        if (ActivitiEventType.ENTITY_DELETED.equals(event.getType()) && event instanceof ActivitiEntityEvent) {
+            Object entity = ((ActivitiEntityEvent) event).getEntity();
+            if (entity instanceof Deployment) {
+                evict(((Deployment) entity).getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+}
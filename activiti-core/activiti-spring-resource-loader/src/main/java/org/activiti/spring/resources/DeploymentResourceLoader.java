@@ -19,9 +19,7 @@ package org.activiti.spring.resources;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.activiti.engine.RepositoryService;
@@ -30,14 +28,24 @@ public class DeploymentResourceLoader<T> {
 
     private RepositoryService repositoryService;
 
-    private Map<String, List<T>> loadedResources = new HashMap<>();
+    private final DeploymentResourceCache<List<T>> loadedResources;
+
+    public DeploymentResourceLoader() {
+        this(new DeploymentResourceCache<>());
+    }
+
+    public DeploymentResourceLoader(DeploymentResourceCache<List<T>> loadedResources) {
+        this.loadedResources = loadedResources;
+    }
 
     public List<T> loadResourcesForDeployment(String deploymentId, ResourceReader<T> resourceLoaderDescriptor) {
-        List<T> resources = loadedResources.get(deploymentId);
-        if (resources != null) {
-            return resources;
-        }
+        return loadedResources.get(deploymentId,
+                                   id -> loadSelectedResources(id,
+                                                               resourceLoaderDescriptor));
+    }
 
+    private List<T> loadSelectedResources(String deploymentId, ResourceReader<T> resourceLoaderDescriptor) {
+        List<T> resources;
         List<String> resourceNames = repositoryService.getDeploymentResourceNames(deploymentId);
 
         if (resourceNames != null && !resourceNames.isEmpty()) {
@@ -52,7 +60,6 @@ public class DeploymentResourceLoader<T> {
         } else {
             resources = new ArrayList<>();
         }
-        loadedResources.put(deploymentId, resources);
         return resources;
     }
 
@@ -77,4 +84,8 @@ public class DeploymentResourceLoader<T> {
     public void setRepositoryService(RepositoryService repositoryService) {
         this.repositoryService = repositoryService;
     }
+
+    public DeploymentResourceCache<List<T>> getLoadedResources() {
+        return loadedResources;
+    }
 }
@@ -0,0 +1,111 @@
+package org.activiti.spring.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.delegate.event.impl.ActivitiEntityEventImpl;
+import org.activiti.engine.repository.Deployment;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class DeploymentResourceCacheTest {
+
+    @Test
+    public void shouldLoadOnceForConcurrentRequests() throws Exception {
+        //given
+        DeploymentResourceCache<String> cache = new DeploymentResourceCache<>();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            //when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executorService.submit(() -> cache.get("123456",
+                                                                   deploymentId -> {
+                                                                       loadCount.incrementAndGet();
+                                                                       await(loading);
+                                                                       return "resources of " + deploymentId;
+                                                                   })));
+            }
+            Thread.sleep(100);
+            loading.countDown();
+
+            //then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("resources of 123456");
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedDeploymentsAboveLimit() {
+        //given
+        DeploymentResourceCache<String> cache = new DeploymentResourceCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.get("1", deploymentId -> "value" + loadCount.incrementAndGet());
+        cache.get("2", deploymentId -> "value" + loadCount.incrementAndGet());
+        cache.get("1", deploymentId -> "value" + loadCount.incrementAndGet());
+        cache.get("3", deploymentId -> "value" + loadCount.incrementAndGet());
+
+        //then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("1", deploymentId -> "reloaded")).isEqualTo("value1");
+        assertThat(cache.get("2", deploymentId -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    public void shouldEvictDeletedDeployment() {
+        //given
+        DeploymentResourceCache<String> cache = new DeploymentResourceCache<>();
+        cache.get("123456", deploymentId -> "value");
+        Deployment deployment = Mockito.mock(Deployment.class);
+        Mockito.when(deployment.getId()).thenReturn("123456");
+
+        //when
+        cache.onEvent(new ActivitiEntityEventImpl(deployment, ActivitiEventType.ENTITY_DELETED));
+
+        //then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("123456", deploymentId -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    public void shouldNotCacheFailedLoad() {
+        //given
+        DeploymentResourceCache<String> cache = new DeploymentResourceCache<>();
+
+        //when
+        assertThatThrownBy(() -> cache.get("123456", deploymentId -> {
+            throw new IllegalStateException("Unable to read process extension");
+        })).isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("123456", deploymentId -> "value")).isEqualTo("value");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -55,5 +55,11 @@ public class DeploymentResourceLoaderTest {
                 .hasSize(1)
                 .contains("a selected resource\n");
 
+        //when
+        List<String> loadedAgain = deploymentResourceLoader.loadResourcesForDeployment("123456", selectorReader);
+
+        //then
+        assertThat(loadedAgain).isSameAs(loaded);
+        Mockito.verify(service, Mockito.times(1)).getResourceAsStream("123456", "classpath:file-selected.txt");
     }
 }
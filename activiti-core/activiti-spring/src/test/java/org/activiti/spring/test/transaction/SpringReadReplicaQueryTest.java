@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.spring.test.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.activiti.engine.impl.util.ReflectUtil;
+import org.activiti.engine.task.Task;
+import org.activiti.spring.impl.test.SpringActivitiTestCase;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Uses a second connection pool on the same database as read replica, to verify that queries executed within a
+ * Spring managed transaction keep seeing the uncommitted changes of that transaction.
+ */
+@ContextConfiguration("classpath:org/activiti/spring/test/transaction/SpringTransactionIntegrationTest-context.xml")
+public class SpringReadReplicaQueryTest extends SpringActivitiTestCase {
+
+  @Autowired
+  protected PlatformTransactionManager transactionManager;
+
+  protected PooledDataSource readReplicaDataSource;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    readReplicaDataSource = new PooledDataSource(ReflectUtil.getClassLoader(), "org.h2.Driver",
+        "jdbc:h2:mem:activiti;DB_CLOSE_DELAY=1000", "sa", "");
+    processEngineConfiguration.getDbSqlSessionFactory().setReadReplicaDataSource(readReplicaDataSource);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    processEngineConfiguration.getDbSqlSessionFactory().setReadReplicaDataSource(null);
+    readReplicaDataSource.forceCloseAll();
+    super.tearDown();
+  }
+
+  public void testQueryWithinTransactionSeesChangesOfThatTransaction() {
+    String taskId = new TransactionTemplate(transactionManager).execute(status -> {
+      Task task = taskService.newTask();
+      task.setName("uncommitted task");
+      taskService.saveTask(task);
+
+      assertThat(taskService.createTaskQuery().taskName("uncommitted task").list()).extracting(Task::getId).containsExactly(task.getId());
+      return task.getId();
+    });
+
+    try {
+      assertThat(getReadReplicaRequestCount()).isZero();
+    } finally {
+      taskService.deleteTask(taskId, true);
+    }
+  }
+
+  public void testQueryThatOptsInIsExecutedOnReadReplica() {
+    assertThat(taskService.createTaskQuery().taskName("replicated task").useReadReplica().count()).isZero();
+    assertThat(getReadReplicaRequestCount()).isEqualTo(1);
+  }
+
+  protected long getReadReplicaRequestCount() {
+    return readReplicaDataSource.getPoolState().getRequestCount();
+  }
+
+}